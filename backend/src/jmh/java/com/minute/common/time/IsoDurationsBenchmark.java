@@ -0,0 +1,74 @@
+package com.minute.common.time;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ISO 8601 길이 파싱 비용 비교 (videos API 응답 한 페이지 분량)
+ * - legacyRegex: 기존 YoutubeApiService.parseDurationToSeconds (호출마다 Pattern.compile, 분/초만 지원)
+ * - precompiledRegex: 같은 정규식을 한 번만 컴파일한 경우
+ * - isoDurations: IsoDurations.toSeconds (정규식 없이 한 번 훑기, 일/시/분/초 지원)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=IsoDurationsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IsoDurationsBenchmark {
+
+    private static final Pattern LEGACY = Pattern.compile("PT(?:(\\d+)M)?(?:(\\d+)S)?");
+
+    // 실제 응답과 비슷하게 숏츠/일반/긴 영상을 섞음
+    private final String[] durations = {
+            "PT45S", "PT59S", "PT12S", "PT1M", "PT3M21S", "PT12M3S",
+            "PT1H2M3S", "PT58S", "PT30S", "PT1M5S", "PT2H", "P0D",
+            "PT9S", "PT44M", "PT21S"
+    };
+
+    @Benchmark
+    public void legacyRegex(Blackhole bh) {
+        for (String duration : durations) {
+            bh.consume(legacyParse(duration));
+        }
+    }
+
+    @Benchmark
+    public void precompiledRegex(Blackhole bh) {
+        for (String duration : durations) {
+            bh.consume(precompiledParse(duration));
+        }
+    }
+
+    @Benchmark
+    public void isoDurations(Blackhole bh) {
+        for (String duration : durations) {
+            bh.consume(IsoDurations.toSeconds(duration));
+        }
+    }
+
+    private static int legacyParse(String iso) {
+        if (iso == null) return 0;
+        int minutes = 0, seconds = 0;
+        Matcher m = Pattern.compile("PT(?:(\\d+)M)?(?:(\\d+)S)?").matcher(iso);
+        if (m.matches()) {
+            minutes = m.group(1) != null ? Integer.parseInt(m.group(1)) : 0;
+            seconds = m.group(2) != null ? Integer.parseInt(m.group(2)) : 0;
+        }
+        return minutes * 60 + seconds;
+    }
+
+    private static int precompiledParse(String iso) {
+        if (iso == null) return 0;
+        int minutes = 0, seconds = 0;
+        Matcher m = LEGACY.matcher(iso);
+        if (m.matches()) {
+            minutes = m.group(1) != null ? Integer.parseInt(m.group(1)) : 0;
+            seconds = m.group(2) != null ? Integer.parseInt(m.group(2)) : 0;
+        }
+        return minutes * 60 + seconds;
+    }
+}
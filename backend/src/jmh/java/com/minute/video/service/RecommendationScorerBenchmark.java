@@ -0,0 +1,122 @@
+package com.minute.video.service;
+
+import com.minute.video.entity.Video;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 점수 계산 비용 비교 (이력 크기별)
+ * - legacyListScan: 기존 List.contains + 키워드 매번 소문자 변환 방식
+ * - setBasedScorer: RecommendationScorer (Set/Map 조회 + 미리 컴파일된 키워드)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RecommendationScorerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommendationScorerBenchmark {
+
+    private static final int CANDIDATE_SIZE = 100;
+
+    @Param({"10", "100", "1000", "5000"})
+    public int historySize;
+
+    private List<Video> candidates;
+
+    private List<String> likedList;
+    private List<String> bookmarkedList;
+    private List<String> watchedList;
+    private List<String> keywordList;
+    private Map<String, Integer> watchedCount;
+
+    private RecommendationScorer scorer;
+    private RecommendationScorer.UserSignals signals;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        candidates = new ArrayList<>(CANDIDATE_SIZE);
+        for (int i = 0; i < CANDIDATE_SIZE; i++) {
+            candidates.add(Video.builder()
+                    .videoId("cand-" + i)
+                    .videoTitle("부산 여행 브이로그 Vlog " + i)
+                    .build());
+        }
+
+        likedList = new ArrayList<>();
+        bookmarkedList = new ArrayList<>();
+        watchedList = new ArrayList<>();
+        keywordList = new ArrayList<>();
+        watchedCount = new HashMap<>();
+        for (int i = 0; i < historySize; i++) {
+            // 일부는 후보와 겹치도록 생성
+            likedList.add(historyId(random, "like-", i));
+            bookmarkedList.add("bm-" + i);
+            keywordList.add("Keyword" + i);
+            // 두 방식이 같은 후보를 건너뛰도록 시청 목록과 시청 횟수는 같은 ID 로 만듦
+            String watchedId = historyId(random, "watch-", i);
+            watchedList.add(watchedId);
+            watchedCount.merge(watchedId, 1, Integer::sum);
+        }
+
+        scorer = new RecommendationScorer(new RecommendationScoreProperties());
+        signals = new RecommendationScorer.UserSignals(
+                new HashSet<>(likedList),
+                new HashSet<>(bookmarkedList),
+                RecommendationScorer.KeywordMatcher.compile(keywordList),
+                watchedCount
+        );
+    }
+
+    private static String historyId(Random random, String prefix, int i) {
+        return random.nextInt(10) == 0 ? "cand-" + random.nextInt(CANDIDATE_SIZE) : prefix + i;
+    }
+
+    @Benchmark
+    public void legacyListScan(Blackhole bh) {
+        for (Video video : candidates) {
+            if (watchedList.contains(video.getVideoId())) continue;
+            bh.consume(legacyScore(video));
+        }
+    }
+
+    @Benchmark
+    public void setBasedScorer(Blackhole bh) {
+        for (Video video : candidates) {
+            if (signals.hasWatched(video.getVideoId())) continue;
+            bh.consume(scorer.score(video, signals));
+        }
+    }
+
+    // 기존 VideoService.calculateScore 구현 그대로
+    private int legacyScore(Video video) {
+        int score = 0;
+        if (likedList.contains(video.getVideoId())) {
+            score += 5;
+        }
+        if (bookmarkedList.contains(video.getVideoId())) {
+            score += 4;
+        }
+        String lowerTitle = video.getVideoTitle().toLowerCase();
+        for (String kw : keywordList) {
+            if (lowerTitle.contains(kw.toLowerCase())) {
+                score += 2;
+                break;
+            }
+        }
+        int playCount = watchedCount.getOrDefault(video.getVideoId(), 0);
+        if (playCount > 0) {
+            if (playCount <= 2) {
+                score += 1;
+            } else if (playCount <= 5) {
+                score += 2;
+            } else {
+                score += 3;
+            }
+        }
+        return score;
+    }
+}
@@ -1,5 +1,6 @@
 package com.minute.board.common.exception; // 실제 패키지 경로에 맞게 수정해주세요.
 
+import com.minute.common.exception.InvalidRequestParameterException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j; // Slf4j import 추가
 import org.springframework.http.HttpStatus;
@@ -33,6 +34,16 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    // 잘못된 요청 파라미터(커서, 정렬, 기간, 검색어 등)만 400 으로 처리 (그 밖의 IllegalArgumentException 은 아래 500 처리)
+    @ExceptionHandler(InvalidRequestParameterException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequestParameterException(InvalidRequestParameterException ex) {
+        log.warn("InvalidRequestParameterException caught: {}", ex.getMessage()); // 예외 발생 시 로그 (WARN 레벨)
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("status", "error");
+        errorResponse.put("message", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     /*
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException ex) {
@@ -4,6 +4,7 @@ import com.minute.bookmark.dto.BookmarkCreateRequestDTO;
 import com.minute.bookmark.dto.BookmarkResponseDTO; // addBookmark에서는 여전히 사용
 import com.minute.bookmark.entity.Bookmark;
 import com.minute.bookmark.service.BookmarkService;
+import com.minute.video.dto.VideoPageResponseDTO;
 import com.minute.video.dto.VideoResponseDTO; // VideoResponseDTO 사용
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,6 +19,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -47,15 +49,16 @@ public class BookmarkController {
 
     @PostMapping
     @Operation(summary = "새 북마크 추가 (특정 폴더에 비디오 저장)")
-    public ResponseEntity<BookmarkResponseDTO> addBookmark(
+    public Mono<ResponseEntity<BookmarkResponseDTO>> addBookmark(
             @Valid @RequestBody BookmarkCreateRequestDTO requestDto) {
         String currentUserId = getCurrentUserId();
         log.info("북마크 추가 요청 - 사용자: {}, 요청 DTO: {}", currentUserId, requestDto);
 
-        Bookmark savedBookmark = bookmarkService.addVideoToFolder(currentUserId, requestDto).block();
-
+        // 요청 스레드를 붙잡지 않고 저장이 끝나면 응답 (사용자 ID 는 위에서 요청 스레드의 SecurityContext 로 확인)
         // 북마크 '생성' 결과에 대한 응답은 BookmarkResponseDTO를 유지합니다.
-        return ResponseEntity.status(HttpStatus.CREATED).body(BookmarkResponseDTO.fromEntity(savedBookmark));
+        return bookmarkService.addVideoToFolder(currentUserId, requestDto)
+                .map(savedBookmark -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(BookmarkResponseDTO.fromEntity(savedBookmark)));
     }
 
     @DeleteMapping("/{bookmarkId}")
@@ -96,4 +99,25 @@ public class BookmarkController {
         List<VideoResponseDTO> videos = bookmarkService.getAllBookmarksForUser(currentUserId);
         return ResponseEntity.ok(videos);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/folder/{folderId}/videos/page")
+    @Operation(summary = "특정 폴더 내 북마크(비디오) 페이지 조회",
+            description = "최근 북마크 순으로 반환합니다. 응답의 `nextCursor`를 다음 요청의 `cursor`로 넘기면 이어서 조회합니다. (`size` 최대 100)")
+    public ResponseEntity<VideoPageResponseDTO> getBookmarkPageInFolder(
+            @Parameter(description = "북마크를 조회할 폴더의 ID") @PathVariable Integer folderId,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        String currentUserId = getCurrentUserId();
+        return ResponseEntity.ok(bookmarkService.getBookmarkPageByFolder(folderId, currentUserId, cursor, size));
+    }
+
+    @GetMapping("/user/mine/page")
+    @Operation(summary = "현재 사용자의 북마크 페이지 조회",
+            description = "최근 북마크 순으로 반환합니다. 응답의 `nextCursor`를 다음 요청의 `cursor`로 넘기면 이어서 조회합니다. (`size` 최대 100)")
+    public ResponseEntity<VideoPageResponseDTO> getMyBookmarkPage(
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        String currentUserId = getCurrentUserId();
+        return ResponseEntity.ok(bookmarkService.getBookmarkPageForUser(currentUserId, cursor, size));
+    }
+}
@@ -13,6 +13,9 @@ import lombok.*;
 @Builder
 @Table(name = "bookmark", uniqueConstraints = { // 테이블 이름을 'bookmarks'로 변경하는 것을 권장합니다.
         @UniqueConstraint(columnNames = {"user_id", "video_id", "folder_id"})
+}, indexes = {
+        // 사용자 전체 북마크 최신순 키셋 조회용
+        @Index(name = "idx_bookmark_user_recent", columnList = "user_id, bookmark_id")
 })
 public class Bookmark {
 
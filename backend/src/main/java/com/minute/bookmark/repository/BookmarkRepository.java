@@ -1,6 +1,7 @@
 package com.minute.bookmark.repository;
 
 import com.minute.bookmark.entity.Bookmark;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,4 +26,38 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Integer> {
     // userId 로 바로 조회해서 videoId 리스트만 반환
     @Query("SELECT b.videoId FROM Bookmark b WHERE b.userId = :userId")
     List<String> findVideoIdsByUserId(@Param("userId") String userId);
-}
\ No newline at end of file
+
+    // ── 북마크 영상 목록 (키셋 페이지네이션) ───────────────────────────────────
+    // afterBookmarkId 가 null 이면 첫 페이지, 아니면 그보다 오래된 북마크부터 (OFFSET 없음)
+    // video 테이블과 조인해서 카탈로그에 없는 영상은 제외하고, 영상 본문은 VideoRepository 에서 한 번에 조회
+
+    @Query("""
+        SELECT b.bookmarkId AS bookmarkId, b.videoId AS videoId
+        FROM Bookmark b JOIN Video v ON v.videoId = b.videoId
+        WHERE b.folder.folderId = :folderId AND b.userId = :userId
+          AND (:afterBookmarkId IS NULL OR b.bookmarkId < :afterBookmarkId)
+        ORDER BY b.bookmarkId DESC
+        """)
+    List<BookmarkVideoRef> findVideoRefsInFolder(@Param("folderId") Integer folderId,
+                                                 @Param("userId") String userId,
+                                                 @Param("afterBookmarkId") Integer afterBookmarkId,
+                                                 Pageable pageable);
+
+    // idx_bookmark_user_recent 사용
+    @Query("""
+        SELECT b.bookmarkId AS bookmarkId, b.videoId AS videoId
+        FROM Bookmark b JOIN Video v ON v.videoId = b.videoId
+        WHERE b.userId = :userId
+          AND (:afterBookmarkId IS NULL OR b.bookmarkId < :afterBookmarkId)
+        ORDER BY b.bookmarkId DESC
+        """)
+    List<BookmarkVideoRef> findVideoRefsByUser(@Param("userId") String userId,
+                                               @Param("afterBookmarkId") Integer afterBookmarkId,
+                                               Pageable pageable);
+
+    // findVideoRefs* 결과 프로젝션
+    interface BookmarkVideoRef {
+        Integer getBookmarkId();
+        String getVideoId();
+    }
+}
@@ -1,112 +1,136 @@
 package com.minute.bookmark.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.minute.bookmark.dto.BookmarkCreateRequestDTO;
 import com.minute.bookmark.entity.Bookmark;
 import com.minute.bookmark.repository.BookmarkRepository;
+import com.minute.common.exception.InvalidRequestParameterException;
 import com.minute.folder.entity.Folder;
 import com.minute.folder.repository.FolderRepository;
 import com.minute.video.entity.Video;
+import com.minute.video.dto.VideoPageResponseDTO;
 import com.minute.video.dto.VideoResponseDTO;
+import com.minute.video.event.UserActivityEvent;
 import com.minute.video.repository.VideoRepository; // VideoRepository 임포트
+import com.minute.video.service.UserSignalStore;
+import com.minute.video.service.YoutubeVideoLookup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Service
 public class BookmarkService {
 
     private static final Logger log = LoggerFactory.getLogger(BookmarkService.class);
+    // 북마크 목록 API 한 번에 반환하는 최대 영상 수
+    public static final int MAX_PAGE_SIZE = 100;
     private final BookmarkRepository bookmarkRepository;
     private final FolderRepository folderRepository;
     private final VideoRepository videoRepository; // VideoRepository 주입
-    private final WebClient webClient;
-
-    @Value("${youtube.api.key}")
-    private String youtubeApiKey;
+    private final YoutubeVideoLookup youtubeVideoLookup;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSignalStore userSignalStore;
 
     // 생성자에 VideoRepository 주입 추가
     public BookmarkService(BookmarkRepository bookmarkRepository,
                            FolderRepository folderRepository,
                            VideoRepository videoRepository, // VideoRepository 주입
-                           WebClient.Builder webClientBuilder) {
+                           YoutubeVideoLookup youtubeVideoLookup,
+                           ApplicationEventPublisher eventPublisher,
+                           UserSignalStore userSignalStore) {
         this.bookmarkRepository = bookmarkRepository;
         this.folderRepository = folderRepository;
         this.videoRepository = videoRepository; // 초기화
-        this.webClient = webClientBuilder.baseUrl("https://www.googleapis.com/youtube/v3").build();
+        this.youtubeVideoLookup = youtubeVideoLookup;
+        this.eventPublisher = eventPublisher;
+        this.userSignalStore = userSignalStore;
     }
 
-    @Transactional
+    /** 북마크 저장에 필요한 폴더와 영상 메타데이터 (title 이 null 이면 YouTube 조회 필요) */
+    private record BookmarkTarget(Folder folder, String title, String thumbnailUrl) {
+    }
+
+    /**
+     * 폴더에 영상 북마크 추가
+     * - 제목/썸네일은 먼저 로컬 video 테이블에서 찾고, 없을 때만 YouTube 에 조회 (동시 요청은 다건 조회로 묶임)
+     * - 폴더/중복 확인, 카탈로그 조회, 저장 등 JPA 작업은 boundedElastic 에서 실행해서 reactor 스레드를 막지 않음
+     */
     public Mono<Bookmark> addVideoToFolder(String userId, BookmarkCreateRequestDTO requestDto) {
         log.info("[BookmarkService] addVideoToFolder - 사용자 ID: {}, 요청 DTO: folderId={}, videoId={}",
                 userId, requestDto.getFolderId(), requestDto.getVideoId());
 
-        Folder folder = folderRepository.findByFolderIdAndUserId(requestDto.getFolderId(), userId)
-                .orElseThrow(() -> new RuntimeException("폴더를 찾을 수 없거나 해당 폴더에 대한 접근 권한이 없습니다."));
-
         String videoIdFromDto = requestDto.getVideoId(); // DTO에서 받은 videoId
 
         if (videoIdFromDto == null || videoIdFromDto.trim().isEmpty()) {
             return Mono.error(new IllegalArgumentException("요청에 videoId가 포함되지 않았거나 비어있습니다."));
         }
 
-        String canonicalVideoUrl = "youtu.be" + videoIdFromDto;
+        return Mono.fromCallable(() -> prepareTarget(userId, requestDto.getFolderId(), videoIdFromDto))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(target -> target.title() != null
+                        ? Mono.just(target)
+                        : resolveFromYoutube(target.folder(), videoIdFromDto))
+                .publishOn(Schedulers.boundedElastic())
+                .map(target -> saveBookmark(userId, videoIdFromDto, target));
+    }
+
+    /** 폴더 권한/중복 확인 후 로컬 카탈로그에서 메타데이터 조회 */
+    private BookmarkTarget prepareTarget(String userId, Integer folderId, String videoId) {
+        Folder folder = folderRepository.findByFolderIdAndUserId(folderId, userId)
+                .orElseThrow(() -> new RuntimeException("폴더를 찾을 수 없거나 해당 폴더에 대한 접근 권한이 없습니다."));
 
-        if (bookmarkRepository.findByUserIdAndVideoIdAndFolder_FolderId(userId, videoIdFromDto, folder.getFolderId()).isPresent()) {
-            return Mono.error(new IllegalStateException("이미 해당 폴더에 동일한 비디오가 북마크되어 있습니다."));
+        if (bookmarkRepository.findByUserIdAndVideoIdAndFolder_FolderId(userId, videoId, folder.getFolderId()).isPresent()) {
+            throw new IllegalStateException("이미 해당 폴더에 동일한 비디오가 북마크되어 있습니다.");
         }
 
-        // Video 엔티티가 DB에 이미 있는지 확인하고, 없다면 YouTube API를 통해 정보를 가져와서
-        // Video 엔티티를 먼저 저장한 후, 그 Video 엔티티를 Bookmark에 연결하는 것이 좋습니다.
-        // 현재 코드는 Video 엔티티를 직접 생성/관리하지 않고, videoId만 참조하며,
-        // title과 thumbnailUrl은 Bookmark 엔티티에 직접 저장합니다.
-        // 만약 Video 엔티티가 중심이라면, 아래 fetchYouTubeVideoInfo 부분은 VideoService로 옮겨지고,
-        // 여기서는 videoRepository.findById(videoIdFromDto)를 먼저 호출해야 합니다.
-        return fetchYouTubeVideoInfo(videoIdFromDto)
-                .flatMap(videoInfo -> {
-                    if (videoInfo.path("items").isEmpty()) {
-                        return Mono.error(new RuntimeException("YouTube에서 영상 정보를 가져올 수 없습니다. ID: " + videoIdFromDto));
-                    }
-
-                    JsonNode snippet = videoInfo.path("items").get(0).path("snippet");
-                    String title = snippet.path("title").asText("제목 없음");
-                    String thumbnailUrl = snippet.path("thumbnails").path("high").path("url").asText();
-
-                    if (thumbnailUrl.isEmpty()) {
-                        thumbnailUrl = snippet.path("thumbnails").path("default").path("url").asText();
-                    }
-
-                    Bookmark newBookmark = Bookmark.builder()
-                            .userId(userId)
-                            .videoUrl(canonicalVideoUrl)
-                            .videoId(videoIdFromDto) // Video 엔티티의 ID (String)
-                            .folder(folder)
-                            .title(title) // 북마크 시점의 제목 (Video 엔티티의 제목과 다를 수 있음)
-                            .thumbnailUrl(thumbnailUrl) // 북마크 시점의 썸네일
-                            .build();
-
-                    return Mono.just(bookmarkRepository.save(newBookmark));
-                });
-    }
-
-    private Mono<JsonNode> fetchYouTubeVideoInfo(String videoId) {
-        return this.webClient
-                .get()
-                .uri("/videos?part=snippet&id={videoId}&key={apiKey}", videoId, youtubeApiKey)
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .doOnError(e -> log.error("YouTube API 호출 중 에러 발생, Video ID: {}", videoId, e));
+        return videoRepository.findById(videoId)
+                .filter(video -> video.getVideoTitle() != null)
+                .map(video -> new BookmarkTarget(folder, video.getVideoTitle(),
+                        video.getThumbnailUrl() != null ? video.getThumbnailUrl() : ""))
+                .orElseGet(() -> new BookmarkTarget(folder, null, null));
+    }
+
+    /** 로컬 카탈로그에 없는 영상은 YouTube videos.list 로 조회 */
+    private Mono<BookmarkTarget> resolveFromYoutube(Folder folder, String videoId) {
+        return youtubeVideoLookup.findSnippet(videoId)
+                .doOnError(e -> log.error("YouTube API 호출 중 에러 발생, Video ID: {}", videoId, e))
+                .map(snippet -> new BookmarkTarget(folder,
+                        snippet.title() != null ? snippet.title() : "제목 없음",
+                        snippet.bestThumbnailUrl()))
+                .switchIfEmpty(Mono.error(new RuntimeException("YouTube에서 영상 정보를 가져올 수 없습니다. ID: " + videoId)));
+    }
+
+    private Bookmark saveBookmark(String userId, String videoId, BookmarkTarget target) {
+        String canonicalVideoUrl = "youtu.be" + videoId;
+
+        Bookmark newBookmark = Bookmark.builder()
+                .userId(userId)
+                .videoUrl(canonicalVideoUrl)
+                .videoId(videoId) // Video 엔티티의 ID (String)
+                .folder(target.folder())
+                .title(target.title()) // 북마크 시점의 제목 (Video 엔티티의 제목과 다를 수 있음)
+                .thumbnailUrl(target.thumbnailUrl()) // 북마크 시점의 썸네일
+                .build();
+
+        Bookmark saved = bookmarkRepository.save(newBookmark);
+        // 트랜잭션 밖(save 가 이미 커밋됨)이라 UserSignalStore 는 이 사용자 항목을 버리고 다시 읽음
+        userSignalStore.record(userId, UserSignalStore.Kind.BOOKMARK, videoId, 1);
+        eventPublisher.publishEvent(new UserActivityEvent(userId, UserActivityEvent.ActivityType.BOOKMARK));
+        return saved;
     }
 
     private String extractYouTubeVideoId(String url) {
@@ -125,6 +149,8 @@ public class BookmarkService {
         Bookmark bookmark = bookmarkRepository.findByBookmarkIdAndUserId(bookmarkId, userId)
                 .orElseThrow(() -> new RuntimeException("삭제할 북마크를 찾을 수 없거나 권한이 없습니다."));
         bookmarkRepository.delete(bookmark);
+        userSignalStore.record(userId, UserSignalStore.Kind.BOOKMARK, bookmark.getVideoId(), -1);
+        eventPublisher.publishEvent(new UserActivityEvent(userId, UserActivityEvent.ActivityType.BOOKMARK));
         log.info("[BookmarkService] removeBookmarkById: 북마크(ID:{}) 삭제 완료.", bookmarkId);
     }
 
@@ -133,7 +159,9 @@ public class BookmarkService {
         log.info("[BookmarkService] removeVideoFromUserFolder - 사용자 ID: {}, 폴더 ID: {}, 비디오 ID: {}", userId, folderId, videoId);
         folderRepository.findByFolderIdAndUserId(folderId, userId)
                 .orElseThrow(() -> new RuntimeException("해당 폴더를 찾을 수 없거나 권한이 없습니다."));
-        bookmarkRepository.deleteByFolder_FolderIdAndVideoIdAndUserId(folderId, videoId, userId);
+        long deleted = bookmarkRepository.deleteByFolder_FolderIdAndVideoIdAndUserId(folderId, videoId, userId);
+        userSignalStore.record(userId, UserSignalStore.Kind.BOOKMARK, videoId, (int) -deleted);
+        eventPublisher.publishEvent(new UserActivityEvent(userId, UserActivityEvent.ActivityType.BOOKMARK));
     }
 
     @Transactional(readOnly = true)
@@ -141,44 +169,79 @@ public class BookmarkService {
         log.info("[BookmarkService] getBookmarksByFolder - 사용자 ID: {}, 폴더 ID: {}", userId, folderId);
         folderRepository.findByFolderIdAndUserId(folderId, userId)
                 .orElseThrow(() -> new RuntimeException("조회하려는 폴더를 찾을 수 없거나 권한이 없습니다."));
-        List<Bookmark> bookmarks = bookmarkRepository.findByFolder_FolderIdAndUserIdOrderByBookmarkIdDesc(folderId, userId);
-
-        return bookmarks.stream()
-                .map(bookmark -> {
-                    if (bookmark.getVideoId() == null) {
-                        log.warn("Bookmark ID {} 에 videoId가 null입니다.", bookmark.getBookmarkId());
-                        return null;
-                    }
-                    Optional<Video> videoOptional = videoRepository.findById(bookmark.getVideoId());
-                    if (videoOptional.isEmpty()) {
-                        log.warn("Video ID {} 에 해당하는 Video 엔티티를 찾을 수 없습니다. (Bookmark ID: {})", bookmark.getVideoId(), bookmark.getBookmarkId());
-                        return null;
-                    }
-                    return VideoResponseDTO.fromEntity(videoOptional.get());
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return toVideoDtos(bookmarkRepository.findVideoRefsInFolder(folderId, userId, null, Pageable.unpaged()));
     }
 
     @Transactional(readOnly = true)
     public List<VideoResponseDTO> getAllBookmarksForUser(String userId) {
         log.info("[BookmarkService] getAllBookmarksForUser - 사용자 ID: {}", userId);
-        List<Bookmark> bookmarks = bookmarkRepository.findByUserIdOrderByBookmarkIdDesc(userId);
-
-        return bookmarks.stream()
-                .map(bookmark -> {
-                    if (bookmark.getVideoId() == null) {
-                        log.warn("사용자 ID {} 의 북마크 중 videoId가 null인 항목이 있습니다. (Bookmark ID: {})", userId, bookmark.getBookmarkId());
-                        return null;
-                    }
-                    Optional<Video> videoOptional = videoRepository.findById(bookmark.getVideoId());
-                    if (videoOptional.isEmpty()) {
-                        log.warn("Video ID {} 에 해당하는 Video 엔티티를 찾을 수 없습니다. (Bookmark ID: {})", bookmark.getVideoId(), bookmark.getBookmarkId());
-                        return null;
-                    }
-                    return VideoResponseDTO.fromEntity(videoOptional.get());
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-    }
-}
\ No newline at end of file
+        return toVideoDtos(bookmarkRepository.findVideoRefsByUser(userId, null, Pageable.unpaged()));
+    }
+
+    /**
+     * 폴더 내 북마크 영상 키셋 페이지 (최근 북마크 순)
+     * - size+1 개를 읽어 다음 페이지 존재 여부를 판단하고, 마지막 북마크 ID 를 다음 커서로 사용
+     */
+    @Transactional(readOnly = true)
+    public VideoPageResponseDTO getBookmarkPageByFolder(Integer folderId, String userId, String cursor, int size) {
+        folderRepository.findByFolderIdAndUserId(folderId, userId)
+                .orElseThrow(() -> new RuntimeException("조회하려는 폴더를 찾을 수 없거나 권한이 없습니다."));
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return toPage(bookmarkRepository.findVideoRefsInFolder(folderId, userId, decodeCursor(cursor),
+                PageRequest.of(0, pageSize + 1)), pageSize);
+    }
+
+    /** 사용자 전체 북마크 영상 키셋 페이지 (최근 북마크 순) */
+    @Transactional(readOnly = true)
+    public VideoPageResponseDTO getBookmarkPageForUser(String userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return toPage(bookmarkRepository.findVideoRefsByUser(userId, decodeCursor(cursor),
+                PageRequest.of(0, pageSize + 1)), pageSize);
+    }
+
+    private VideoPageResponseDTO toPage(List<BookmarkRepository.BookmarkVideoRef> fetched, int pageSize) {
+        boolean hasNext = fetched.size() > pageSize;
+        List<BookmarkRepository.BookmarkVideoRef> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getBookmarkId()) : null;
+        return new VideoPageResponseDTO(toVideoDtos(page), nextCursor, hasNext);
+    }
+
+    /** 커서 = 이전 페이지 마지막 북마크 ID (없으면 null = 첫 페이지) */
+    private static Integer decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestParameterException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    /**
+     * 북마크 순서대로 영상 DTO 변환
+     * - 영상은 채널과 함께 IN 쿼리 한 번으로 조회하고, 카테고리/태그는 @BatchSize 로 묶어서 로딩
+     */
+    private List<VideoResponseDTO> toVideoDtos(List<BookmarkRepository.BookmarkVideoRef> refs) {
+        if (refs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<String> videoIds = new LinkedHashSet<>();
+        for (BookmarkRepository.BookmarkVideoRef ref : refs) {
+            videoIds.add(ref.getVideoId());
+        }
+        Map<String, Video> videos = new HashMap<>(videoIds.size() * 2);
+        for (Video video : videoRepository.findAllWithChannelByVideoIdIn(videoIds)) {
+            videos.put(video.getVideoId(), video);
+        }
+
+        List<VideoResponseDTO> result = new ArrayList<>(refs.size());
+        for (BookmarkRepository.BookmarkVideoRef ref : refs) {
+            Video video = videos.get(ref.getVideoId());
+            if (video != null) {
+                result.add(VideoResponseDTO.fromEntity(video));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,433 @@
+package com.minute.common.batch;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 스레드에서 받은 이벤트를 메모리 큐에 쌓고, 전용 쓰기 스레드가 배치로 저장하는 공통 기반 클래스
+ * - 큐(bounded)가 가득 차면 요청 스레드를 막지 않고 넘침 버퍼에 넣고, 쓰기 스레드가 spill 파일에 이어 씀
+ *   (요청 스레드는 파일 I/O 를 하지 않음, 넘침 버퍼도 가득 차면 버리고 failed 로 셈)
+ * - DB 장애로 배치 저장이 실패해도 spill 파일로 넘겨 두었다가 나중에 재처리
+ * - 제약조건 위반(존재하지 않는 사용자/영상 등)은 한 건씩 재시도해서 문제 행만 버림
+ * - spill 파일은 한가할 때 통째로, 큐가 계속 차 있을 때는 배치 사이사이에 조금씩 재처리
+ *   (읽은 위치를 offset 파일에 남기고 이어서 읽으므로 재처리 중에 파일을 다시 쓰지 않음)
+ *
+ * 하위 클래스는 writeBatch / serialize / deserialize 만 구현하면 됩니다.
+ * 저장이 끝난 뒤의 후처리(집계, 이벤트 발행)는 writeBatch 가 아니라 afterBatchWritten 에 둡니다.
+ */
+@Slf4j
+public abstract class BufferedBatchWriter<E> {
+
+    private static final long REPLAY_INTERVAL_MS = 30_000;
+    // 큐에 이벤트가 계속 들어오는 동안 한 번에 재처리할 최대 배치 수 (새 이벤트 처리를 오래 막지 않도록)
+    private static final int REPLAY_BATCHES_UNDER_LOAD = 5;
+    private static final long WARN_INTERVAL_MS = 10_000;
+
+    private final String name;
+    private final int capacity;
+    private final int batchSize;
+    private final long maxWaitMillis;
+    private final Path spillFile;
+    private final Path replayFile;
+    private final Path offsetFile;
+    private final BlockingQueue<E> queue;
+    // 큐가 가득 찼을 때 쓰기 스레드가 spill 파일로 옮길 때까지 잠시 두는 곳 (최대 capacity 건)
+    private final Queue<E> overflow = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger overflowSize = new AtomicInteger();
+    private final Object spillLock = new Object();
+
+    // 백프레셔 지표
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+    private long lastReplayAt;
+    // replayFile 에서 다음에 읽을 위치 (byte, -1 이면 offset 파일에서 읽음)
+    private long replayOffset = -1;
+    private volatile long lastWarnAt;
+
+    protected BufferedBatchWriter(String name, int capacity, int batchSize, long maxWaitMillis, String spillFile) {
+        this.name = name;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.spillFile = Paths.get(spillFile);
+        this.replayFile = Paths.get(spillFile + ".replay");
+        this.offsetFile = Paths.get(spillFile + ".replay.offset");
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /** 한 배치를 저장 (실패 시 예외를 던지면 됩니다) */
+    protected abstract void writeBatch(List<E> batch);
+
+    /** spill 파일에 기록할 한 줄 문자열로 변환 (개행 문자를 포함하면 안 됨) */
+    protected abstract String serialize(E event);
+
+    protected abstract E deserialize(String line);
+
+    /**
+     * 저장이 끝난(커밋된) 이벤트에 대한 후처리 (기본 동작 없음)
+     * - 재시도/spill 경로 밖에서 호출되므로, 여기서 예외가 나도 이미 저장된 배치를 다시 쓰지 않음 (로그만 남김)
+     * - 한 건씩 재시도한 경우에는 저장에 성공한 이벤트만 넘어옴
+     */
+    protected void afterBatchWritten(List<E> batch) {
+    }
+
+    /** 이벤트 등록 (요청 스레드에서 호출, 블로킹 없음) */
+    public void submit(E event) {
+        if (queue.offer(event)) {
+            enqueued.incrementAndGet();
+            return;
+        }
+        // 큐가 가득 찬 경우: 요청 스레드를 기다리게 하지 않고 넘침 버퍼에 두면 쓰기 스레드가 파일로 넘김
+        if (overflowSize.incrementAndGet() <= capacity) {
+            overflow.add(event);
+            warnRateLimited("[{}] 큐가 가득 차서 spill 파일로 넘깁니다. {}", name, getStats());
+            return;
+        }
+        overflowSize.decrementAndGet();
+        failed.incrementAndGet();
+        warnRateLimited("[{}] 큐와 넘침 버퍼가 모두 가득 차서 이벤트를 버립니다. {}", name, getStats());
+    }
+
+    public Stats getStats() {
+        return new Stats(queue.size(), capacity, enqueued.get(), written.get(),
+                spilled.get(), replayed.get(), failed.get());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, name + "-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 종료 시 큐에 남은 이벤트 처리 (실패하면 spill 파일로 보존)
+        List<E> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            flush(rest);
+        }
+        spillOverflow();
+        log.info("[{}] 쓰기 스레드 종료: {}", name, getStats());
+    }
+
+    private void runLoop() {
+        List<E> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                spillOverflow();
+                E first = queue.poll(maxWaitMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    // 한가할 때 spill 파일 재처리
+                    replaySpillFile(Integer.MAX_VALUE);
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                if (queue.size() > capacity * 0.8) {
+                    warnRateLimited("[{}] 쓰기 처리량이 유입량을 따라가지 못하고 있습니다. {}", name, getStats());
+                }
+                flush(batch);
+                // 큐가 비는 순간이 없어도 spill 파일이 계속 쌓이지 않도록 배치 사이에 일부씩 재처리
+                replaySpillFile(REPLAY_BATCHES_UNDER_LOAD);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("[{}] 쓰기 스레드 처리 중 오류", name, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<E> batch) {
+        try {
+            writeBatch(batch);
+            written.addAndGet(batch.size());
+        } catch (DataIntegrityViolationException e) {
+            // 일부 행의 제약조건 위반 → 한 건씩 다시 저장하고 문제 행만 버림
+            writeOneByOne(batch);
+            return;
+        } catch (Exception e) {
+            // DB 장애 등 → 파일로 넘겨 두고 나중에 재처리
+            log.warn("[{}] 배치 저장 실패, spill 파일로 넘깁니다: {}", name, e.getMessage());
+            spill(batch);
+            return;
+        }
+        notifyWritten(batch);
+    }
+
+    /**
+     * 한 건씩 다시 저장
+     * - 제약조건 위반인 행만 버리고, 그 밖의 오류(연결 끊김, 타임아웃 등)가 나면 그 행부터 나머지를 spill 파일로 넘김
+     */
+    private void writeOneByOne(List<E> batch) {
+        List<E> saved = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            E event = batch.get(i);
+            try {
+                writeBatch(List.of(event));
+                written.incrementAndGet();
+                saved.add(event);
+            } catch (DataIntegrityViolationException ex) {
+                failed.incrementAndGet();
+                log.debug("[{}] 저장할 수 없는 이벤트를 버립니다: {} ({})", name, event, ex.getMessage());
+            } catch (Exception ex) {
+                log.warn("[{}] 한 건씩 저장하던 중 실패, 남은 {}건을 spill 파일로 넘깁니다: {}",
+                        name, batch.size() - i, ex.getMessage());
+                spill(batch.subList(i, batch.size()));
+                break;
+            }
+        }
+        if (!saved.isEmpty()) {
+            notifyWritten(saved);
+        }
+    }
+
+    private void notifyWritten(List<E> batch) {
+        try {
+            afterBatchWritten(batch);
+        } catch (Exception e) {
+            log.warn("[{}] 저장 후처리 실패 (저장된 {}건은 그대로 둡니다): {}", name, batch.size(), e.getMessage());
+        }
+    }
+
+    /** 요청 스레드가 넘침 버퍼에 둔 이벤트를 spill 파일로 옮김 (쓰기 스레드에서 호출) */
+    private void spillOverflow() {
+        List<E> events = new ArrayList<>();
+        E event;
+        while ((event = overflow.poll()) != null) {
+            overflowSize.decrementAndGet();
+            events.add(event);
+        }
+        if (!events.isEmpty()) {
+            spill(events);
+        }
+    }
+
+    private void spill(List<E> events) {
+        StringBuilder sb = new StringBuilder();
+        for (E event : events) {
+            sb.append(serialize(event)).append('\n');
+        }
+        synchronized (spillLock) {
+            try {
+                if (spillFile.getParent() != null) {
+                    Files.createDirectories(spillFile.getParent());
+                }
+                Files.writeString(spillFile, sb, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                spilled.addAndGet(events.size());
+            } catch (IOException e) {
+                failed.addAndGet(events.size());
+                log.error("[{}] spill 파일 기록 실패, 이벤트 {}건 유실: {}", name, events.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * spill 파일에 쌓인 이벤트를 최대 maxBatches 배치까지 재처리
+     * - spill 파일을 replay 파일로 옮긴 뒤 앞에서부터 읽고, 읽은 위치(byte)는 offset 파일에 남김
+     *   (멈출 때 파일을 다시 쓰지 않으므로 재처리 전체가 파일 크기에 비례)
+     * - DB 실패로 멈추면 그 배치 위치를 남기고 REPLAY_INTERVAL_MS 뒤에 재시도
+     * - 배치 수 제한으로 멈추면 다음 위치를 남기고 다음 호출에서 바로 이어서 처리
+     * - 읽을 수 없는 줄은 failed 로 세고 건너뜀 (한 줄 때문에 파일 전체가 막히지 않도록)
+     */
+    void replaySpillFile(int maxBatches) {
+        long now = System.currentTimeMillis();
+        if (now - lastReplayAt < REPLAY_INTERVAL_MS) {
+            return;
+        }
+        lastReplayAt = now;
+
+        try {
+            synchronized (spillLock) {
+                if (!Files.exists(replayFile)) {
+                    if (!Files.exists(spillFile)) {
+                        return;
+                    }
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                    Files.deleteIfExists(offsetFile);
+                    replayOffset = 0;
+                }
+            }
+            if (replayOffset < 0) {
+                replayOffset = readOffset();
+            }
+        } catch (IOException e) {
+            log.warn("[{}] spill 파일을 읽을 수 없습니다: {}", name, e.getMessage());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(replayFile, StandardOpenOption.READ)) {
+            channel.position(replayOffset);
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel));
+            ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream();
+            int batches = 0;
+            while (true) {
+                // batchSize 줄씩 읽음 (chunkEnd: 이 묶음 다음 줄의 시작 위치)
+                long chunkEnd = replayOffset;
+                List<String> chunk = new ArrayList<>(batchSize);
+                while (chunk.size() < batchSize) {
+                    long read = readLine(in, lineBuffer);
+                    if (read == 0) {
+                        break;
+                    }
+                    chunkEnd += read;
+                    chunk.add(lineBuffer.toString(StandardCharsets.UTF_8));
+                }
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                if (batches++ == maxBatches) {
+                    saveOffset();
+                    lastReplayAt = 0;
+                    return;
+                }
+                if (!replayChunk(chunk)) {
+                    // 아직 DB가 복구되지 않음 → 이 묶음부터 다음에 재시도
+                    saveOffset();
+                    return;
+                }
+                replayOffset = chunkEnd;
+            }
+        } catch (IOException e) {
+            log.warn("[{}] spill 파일 재처리 중 읽기 실패: {}", name, e.getMessage());
+            saveOffset();
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(replayFile);
+            Files.deleteIfExists(offsetFile);
+            log.info("[{}] spill 파일 재처리 완료: {}byte", name, replayOffset);
+            replayOffset = -1;
+        } catch (IOException e) {
+            log.warn("[{}] 재처리한 spill 파일 삭제 실패: {}", name, e.getMessage());
+        }
+    }
+
+    /** 한 묶음 재처리 (DB 장애로 저장하지 못했으면 false) */
+    private boolean replayChunk(List<String> chunk) {
+        List<E> events = new ArrayList<>(chunk.size());
+        for (String line : chunk) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                events.add(deserialize(line));
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.warn("[{}] 읽을 수 없는 spill 줄을 버립니다: {} ({})", name, line, e.getMessage());
+            }
+        }
+        if (events.isEmpty()) {
+            return true;
+        }
+        try {
+            writeBatch(events);
+            written.addAndGet(events.size());
+        } catch (DataIntegrityViolationException e) {
+            // 한 건씩 저장하다 DB 장애가 나면 남은 행은 새 spill 파일로 넘어가므로 여기서는 끝난 것으로 봄
+            writeOneByOne(events);
+            replayed.addAndGet(events.size());
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+        notifyWritten(events);
+        replayed.addAndGet(events.size());
+        return true;
+    }
+
+    /** 한 줄을 lineBuffer 에 읽고 개행까지 포함한 byte 수를 반환 (파일 끝이면 0) */
+    private static long readLine(InputStream in, ByteArrayOutputStream lineBuffer) throws IOException {
+        lineBuffer.reset();
+        long read = 0;
+        int b;
+        while ((b = in.read()) != -1) {
+            read++;
+            if (b == '\n') {
+                return read;
+            }
+            lineBuffer.write(b);
+        }
+        return read;
+    }
+
+    private long readOffset() throws IOException {
+        if (!Files.exists(offsetFile)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(Files.readString(offsetFile, StandardCharsets.UTF_8).trim());
+        } catch (NumberFormatException e) {
+            log.warn("[{}] spill offset 파일이 손상되어 처음부터 재처리합니다: {}", name, e.getMessage());
+            return 0;
+        }
+    }
+
+    private void saveOffset() {
+        try {
+            Files.writeString(offsetFile, Long.toString(replayOffset), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            log.error("[{}] spill offset 파일 갱신 실패: {}", name, e.getMessage());
+        }
+    }
+
+    private void warnRateLimited(String format, Object... args) {
+        long now = System.currentTimeMillis();
+        if (now - lastWarnAt >= WARN_INTERVAL_MS) {
+            lastWarnAt = now;
+            log.warn(format, args);
+        }
+    }
+
+    /** 큐 적재량 및 처리 현황 */
+    public record Stats(int queueDepth, int capacity, long enqueued, long written,
+                        long spilled, long replayed, long failed) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.minute.common.config;
+
+import com.minute.common.ratelimit.DailyQuota;
+import com.minute.common.ratelimit.TokenBucket;
+import com.minute.common.resilience.CircuitBreaker;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * YouTube Data API 공용 클라이언트 (YoutubeApiService, BookmarkService 가 함께 사용)
+ * - 커넥션 풀 크기/대기 시간, 연결/읽기 타임아웃을 youtube.client.* 로 설정
+ * - 연속 실패 시 잠시 호출을 막는 서킷 브레이커, 일일 쿼터도 여기서 하나만 만들어 공유
+ * - 호출 속도 제한(토큰 버킷)은 사용자 요청용과 스케줄 수집용을 따로 둠
+ */
+@Configuration
+public class YoutubeClientConfig {
+
+    @Value("${youtube.api.base-url:https://www.googleapis.com/youtube/v3}")
+    private String baseUrl;
+
+    @Value("${youtube.client.max-connections:50}")
+    private int maxConnections;
+
+    // 풀의 커넥션이 모두 사용 중일 때 기다릴 최대 시간
+    @Value("${youtube.client.pending-acquire-timeout-ms:2000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${youtube.client.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    // 응답 전체를 기다리는 최대 시간 (첫 바이트 이후 읽기 공백도 같은 값으로 제한)
+    @Value("${youtube.client.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    @Value("${youtube.client.breaker.failure-threshold:5}")
+    private int breakerFailureThreshold;
+
+    @Value("${youtube.client.breaker.open-ms:30000}")
+    private long breakerOpenMs;
+
+    // 실제 API 호출(search.list, videos.list 각각) 1회당 토큰 1개: 순간 최대 burst 회, 이후 초당 permits-per-second 회
+    @Value("${youtube.client.rate.burst:4}")
+    private int rateBurst;
+
+    @Value("${youtube.client.rate.permits-per-second:2.0}")
+    private double ratePermitsPerSecond;
+
+    // 스케줄 수집은 사용자 요청과 따로 토큰 버킷을 써서, 수집이 몰려도 사용자 요청이 밀리지 않도록 함
+    @Value("${youtube.client.rate.ingest-burst:2}")
+    private int ingestRateBurst;
+
+    @Value("${youtube.client.rate.ingest-permits-per-second:1.0}")
+    private double ingestRatePermitsPerSecond;
+
+    // 하루에 쓸 수 있는 쿼터 단위 (search.list 100, videos.list 1 / 태평양 시간 자정에 초기화)
+    @Value("${youtube.client.quota.daily-units:10000}")
+    private long dailyQuotaUnits;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider youtubeConnectionProvider() {
+        return ConnectionProvider.builder("youtube")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public WebClient youtubeWebClient(WebClient.Builder builder, ConnectionProvider youtubeConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(youtubeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs))
+                .doOnConnected(conn -> conn.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS)));
+        return builder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreaker youtubeCircuitBreaker() {
+        return new CircuitBreaker("youtube", breakerFailureThreshold, breakerOpenMs);
+    }
+
+    // 사용자 요청용
+    @Bean
+    public TokenBucket youtubeRateLimiter() {
+        return new TokenBucket(Math.max(1, rateBurst), ratePermitsPerSecond);
+    }
+
+    // 스케줄 수집용
+    @Bean
+    public TokenBucket youtubeIngestRateLimiter() {
+        return new TokenBucket(Math.max(1, ingestRateBurst), ingestRatePermitsPerSecond);
+    }
+
+    @Bean
+    public DailyQuota youtubeDailyQuota() {
+        return new DailyQuota("youtube", dailyQuotaUnits, ZoneId.of("America/Los_Angeles"));
+    }
+}
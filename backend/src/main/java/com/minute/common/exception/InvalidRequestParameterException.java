@@ -0,0 +1,12 @@
+package com.minute.common.exception;
+
+/**
+ * 클라이언트가 보낸 요청 파라미터(커서, 정렬, 기간, 검색어 등)가 잘못된 경우
+ * - GlobalExceptionHandler 에서 400 으로 응답 (서비스/라이브러리의 다른 IllegalArgumentException 은 그대로 500)
+ */
+public class InvalidRequestParameterException extends IllegalArgumentException {
+
+    public InvalidRequestParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,77 @@
+package com.minute.common.ratelimit;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.function.LongSupplier;
+
+/**
+ * 하루 사용량 한도 (외부 API 일일 쿼터 보호용, 인스턴스 메모리 기준)
+ * - 호출마다 비용(units)을 차감하고, 남은 양이 모자라면 호출하지 않도록 false 를 반환
+ * - zone 기준 날짜가 바뀌면 사용량을 0 으로 되돌림 (YouTube Data API 는 태평양 시간 자정에 초기화)
+ */
+public class DailyQuota {
+
+    /** 오늘 사용량을 다 써서 호출하지 않고 거절했을 때 */
+    public static class ExhaustedException extends RuntimeException {
+        public ExhaustedException(String name, long units) {
+            super("일일 쿼터 소진: " + name + " (요청 " + units + " units)");
+        }
+    }
+
+    private final String name;
+    private final long dailyUnits;
+    private final ZoneId zone;
+    private final LongSupplier clock;
+
+    private LocalDate day;
+    private long used;
+
+    public DailyQuota(String name, long dailyUnits, ZoneId zone) {
+        this(name, dailyUnits, zone, System::currentTimeMillis);
+    }
+
+    public DailyQuota(String name, long dailyUnits, ZoneId zone, LongSupplier clock) {
+        if (dailyUnits <= 0) {
+            throw new IllegalArgumentException("dailyUnits 는 0보다 커야 합니다.");
+        }
+        this.name = name;
+        this.dailyUnits = dailyUnits;
+        this.zone = zone;
+        this.clock = clock;
+    }
+
+    /** units 만큼 남아 있으면 차감하고 true */
+    public synchronized boolean tryConsume(long units) {
+        rollOver();
+        if (used + units > dailyUnits) {
+            return false;
+        }
+        used += units;
+        return true;
+    }
+
+    /** 차감했지만 실제로 호출하지 않은 units 를 되돌림 (날짜가 바뀌었으면 무시) */
+    public synchronized void release(long units) {
+        rollOver();
+        used = Math.max(0, used - units);
+    }
+
+    /** 오늘 남은 양 */
+    public synchronized long remaining() {
+        rollOver();
+        return dailyUnits - used;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void rollOver() {
+        LocalDate today = Instant.ofEpochMilli(clock.getAsLong()).atZone(zone).toLocalDate();
+        if (!today.equals(day)) {
+            day = today;
+            used = 0;
+        }
+    }
+}
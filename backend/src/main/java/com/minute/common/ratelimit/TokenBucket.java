@@ -0,0 +1,76 @@
+package com.minute.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 (외부 API 쿼터 보호용)
+ * - capacity 만큼 순간적으로 몰아서 쓸 수 있고, 이후에는 refillPerSecond 속도로만 토큰이 채워집니다.
+ * - tryReserve 는 토큰을 먼저 가져가고(모자라면 빚으로) 기다려야 할 시간만 알려 주므로, 논블로킹 호출에서 지연으로 씁니다.
+ *   기다릴 시간이 상한을 넘으면 예약하지 않으므로 빚이 한없이 쌓이지 않습니다.
+ */
+public class TokenBucket {
+
+    /** 기다릴 시간이 상한을 넘어 호출하지 않고 거절했을 때 */
+    public static class RateLimitedException extends RuntimeException {
+        public RateLimitedException(String name, long maxWaitMillis) {
+            super("호출 속도 제한: " + name + " (대기 " + maxWaitMillis + "ms 초과)");
+        }
+    }
+
+    private final long capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    public TokenBucket(long capacity, double refillPerSecond, LongSupplier nanoClock) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity, refillPerSecond 는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * permits 개의 토큰을 지금 예약하고, 그 토큰이 채워질 때까지 기다려야 할 시간(ns)을 반환 (0 이면 바로 사용)
+     * - 예약은 도착 순서대로 쌓이므로 반환된 시간만큼 늦춰서 호출하면 전체 속도가 refillPerSecond 를 넘지 않음
+     * - 기다릴 시간이 maxWaitNanos 를 넘으면 예약하지 않고 -1 을 반환
+     */
+    public synchronized long tryReserve(int permits, long maxWaitNanos) {
+        checkPermits(permits);
+        refill();
+        double remaining = tokens - permits;
+        long waitNanos = remaining >= 0 ? 0L : (long) Math.ceil(-remaining / refillPerNano);
+        if (waitNanos > maxWaitNanos) {
+            return -1L;
+        }
+        tokens = remaining;
+        return waitNanos;
+    }
+
+    public synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void checkPermits(int permits) {
+        if (permits > capacity) {
+            throw new IllegalArgumentException("permits(" + permits + ")가 capacity(" + capacity + ")보다 큽니다.");
+        }
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,92 @@
+package com.minute.common.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 기반 서킷 브레이커 (외부 API 장애 시 빠르게 실패시키기 위함)
+ * - CLOSED: 정상 호출, 연속 failureThreshold 번 실패하면 OPEN
+ * - OPEN: openMillis 동안 호출하지 않고 바로 거절
+ * - HALF_OPEN: OPEN 시간이 지나면 시험 호출 한 번만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ *   (시험 호출이 취소 등으로 결과를 알리지 못해도 openMillis 가 지나면 다시 시험 호출을 허용)
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /** OPEN 상태라서 호출하지 않고 거절했을 때 */
+    public static class OpenException extends RuntimeException {
+        public OpenException(String name) {
+            super("서킷 브레이커 열림: " + name);
+        }
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long trialStartedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this(name, failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis, LongSupplier clock) {
+        if (failureThreshold <= 0 || openMillis <= 0) {
+            throw new IllegalArgumentException("failureThreshold, openMillis 는 0보다 커야 합니다.");
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    /** 호출해도 되면 true (HALF_OPEN 으로 바뀌는 경우 이 호출이 시험 호출) */
+    public synchronized boolean tryAcquire() {
+        long now = clock.getAsLong();
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (now - openedAt < openMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialStartedAt = now;
+                return true;
+            default:
+                // 시험 호출이 진행 중이면 거절, 너무 오래 결과가 없으면 새로 시험
+                if (now - trialStartedAt < openMillis) {
+                    return false;
+                }
+                trialStartedAt = now;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
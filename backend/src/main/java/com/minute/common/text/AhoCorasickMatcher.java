@@ -0,0 +1,178 @@
+package com.minute.common.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Aho-Corasick 다중 패턴 매처 (대소문자 무시)
+ * - 패턴 집합으로 한 번 빌드해 두고, 텍스트를 한 번만 훑어서 포함된 모든 패턴을 찾습니다.
+ * - 키워드 수가 늘어나도 텍스트 1글자당 비용은 거의 일정 (키워드마다 contains 하지 않음)
+ * - 빌드 후에는 불변이라 여러 스레드에서 동시에 사용해도 안전합니다.
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    // 노드별 전이: 정렬된 문자 배열 + 같은 위치의 다음 노드
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // 노드에 도달했을 때 매칭되는 패턴 ID (실패 링크 쪽 출력까지 합쳐 둠)
+    private final int[][] outputs;
+    private final int patternCount;
+
+    private AhoCorasickMatcher(char[][] edgeChars, int[][] edgeTargets, int[] fail, int[][] outputs, int patternCount) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.patternCount = patternCount;
+    }
+
+    /**
+     * 패턴 목록으로 매처 생성. 패턴 ID 는 목록의 인덱스입니다.
+     * null/빈 패턴은 무시됩니다.
+     */
+    public static AhoCorasickMatcher compile(List<String> patterns) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> out = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        out.add(new ArrayList<>());
+
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = patterns.get(id);
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = fold(pattern.charAt(i));
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    out.add(new ArrayList<>());
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            out.get(node).add(id);
+        }
+
+        int size = trie.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int n = 0; n < size; n++) {
+            TreeMap<Character, Integer> edges = trie.get(n);
+            edgeChars[n] = new char[edges.size()];
+            edgeTargets[n] = new int[edges.size()];
+            int i = 0;
+            for (var e : edges.entrySet()) {
+                edgeChars[n][i] = e.getKey();
+                edgeTargets[n][i] = e.getValue();
+                i++;
+            }
+        }
+
+        // BFS 로 실패 링크 계산 + 실패 링크 쪽 출력 병합
+        int[] fail = new int[size];
+        int[][] outputs = new int[size][];
+        outputs[0] = toArray(out.get(0));
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            fail[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            int[] own = toArray(out.get(node));
+            int[] inherited = outputs[fail[node]];
+            outputs[node] = inherited.length == 0 ? own : concat(own, inherited);
+
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                int f = fail[node];
+                int target;
+                while ((target = step(edgeChars, edgeTargets, f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = target >= 0 ? target : 0;
+                queue.add(child);
+            }
+        }
+        return new AhoCorasickMatcher(edgeChars, edgeTargets, fail, outputs, patterns.size());
+    }
+
+    public int patternCount() {
+        return patternCount;
+    }
+
+    /**
+     * 텍스트에 포함된 패턴 ID 를 매칭될 때마다 전달 (같은 패턴이 여러 번 나오면 여러 번 호출)
+     */
+    public void forEachMatch(CharSequence text, IntConsumer onMatch) {
+        if (text == null) {
+            return;
+        }
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            int next;
+            while ((next = step(edgeChars, edgeTargets, node, c)) < 0 && node != 0) {
+                node = fail[node];
+            }
+            node = next >= 0 ? next : 0;
+            for (int id : outputs[node]) {
+                onMatch.accept(id);
+            }
+        }
+    }
+
+    /** 패턴이 하나라도 포함되어 있는지 (첫 매칭에서 종료) */
+    public boolean containsAny(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            int next;
+            while ((next = step(edgeChars, edgeTargets, node, c)) < 0 && node != 0) {
+                node = fail[node];
+            }
+            node = next >= 0 ? next : 0;
+            if (outputs[node].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+        int idx = Arrays.binarySearch(edgeChars[node], c);
+        return idx >= 0 ? edgeTargets[node][idx] : -1;
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return NO_OUTPUT;
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        int[] merged = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, merged, a.length, b.length);
+        return merged;
+    }
+}
@@ -0,0 +1,60 @@
+package com.minute.common.text;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 검색 색인용 바이그램 토크나이저
+ * - NFKC 정규화 + 소문자 변환 후, 글자/숫자가 이어진 구간마다 인접한 두 글자씩 토큰으로 만듦
+ *   예) "부산여행 VLOG" → 부산, 산여, 여행, vl, lo, og
+ * - 한글은 음절 단위로 자르므로 띄어쓰기 없이 붙여 쓴 검색어도 부분 문자열로 찾을 수 있음
+ *   (검색어의 바이그램이 모두 들어 있으면 그 검색어를 포함할 가능성이 높음)
+ * - 한 글자짜리 구간은 그 글자 하나를 토큰으로 냄
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    public static List<String> tokenize(CharSequence text) {
+        List<String> tokens = new ArrayList<>();
+        tokenize(text, tokens::add);
+        return tokens;
+    }
+
+    /** 토큰을 등장 순서대로 sink 에 전달 (중복 포함) */
+    public static void tokenize(CharSequence text, Consumer<String> sink) {
+        if (text == null || text.length() == 0) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int runStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar) {
+                if (runStart < 0) {
+                    runStart = i;
+                }
+                continue;
+            }
+            if (runStart >= 0) {
+                emitRun(normalized, runStart, i, sink);
+                runStart = -1;
+            }
+        }
+    }
+
+    private static void emitRun(String text, int start, int end, Consumer<String> sink) {
+        if (end - start == 1) {
+            sink.accept(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            sink.accept(text.substring(i, i + 2));
+        }
+    }
+}
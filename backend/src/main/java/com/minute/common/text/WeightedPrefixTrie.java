@@ -0,0 +1,224 @@
+package com.minute.common.text;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 가중치 접두어 트라이 (검색어 자동완성용)
+ * - 키는 normalize() 한 문자열이고, 노드마다 그 접두어로 시작하는 키 중 가중치 상위 topK 개를 정렬해 둠
+ *   → 조회는 접두어 길이만큼 내려가서 목록을 잘라 주기만 하므로 키 개수와 무관
+ * - 가중치는 증가만 지원 (검색 횟수), 증가할 때 경로 위 노드들의 상위 목록만 고침
+ *   (다른 키의 가중치는 줄지 않으므로 목록 밖의 키가 끼어드는 경우는 그 키가 증가할 때뿐)
+ * - 가중치를 줄이거나 키를 지우려면 decayed() 로 새 트라이를 만들어 통째로 교체
+ * - 스레드 안전하지 않음 (호출 쪽에서 락으로 보호)
+ */
+public final class WeightedPrefixTrie {
+
+    /** 자동완성 결과 한 건 */
+    public record Completion(String keyword, long weight) {
+    }
+
+    // 가중치 내림차순, 같으면 키 오름차순
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong((Entry entry) -> entry.weight).reversed()
+            .thenComparing(entry -> entry.key);
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final int topK;
+    private final Node root = new Node();
+    // 등록된 키 (decayed 에서 전체를 훑기 위해 보관)
+    private final List<Entry> entries = new ArrayList<>();
+
+    public WeightedPrefixTrie(int topK) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("topK must be positive: " + topK);
+        }
+        this.topK = topK;
+    }
+
+    /** 비교용 키 (NFKC + 소문자 + 앞뒤 공백 제거 + 연속 공백 하나로) */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(normalized.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = key.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                key.append(' ');
+                pendingSpace = false;
+            }
+            key.append(c);
+        }
+        return key.toString();
+    }
+
+    /** keyword 가중치를 delta 만큼 증가 (없으면 추가, 표기는 처음 들어온 그대로 보여줌) */
+    public void add(String keyword, long delta) {
+        String key = normalize(keyword);
+        if (key.isEmpty() || delta <= 0) {
+            return;
+        }
+        Node[] path = new Node[key.length() + 1];
+        Node node = root;
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.child(key.charAt(i), true);
+            path[i + 1] = node;
+        }
+
+        Entry entry = node.entry;
+        if (entry == null) {
+            entry = new Entry(key, keyword.strip());
+            node.entry = entry;
+            entries.add(entry);
+        }
+        entry.weight += delta;
+        for (Node onPath : path) {
+            onPath.offer(entry, topK);
+        }
+    }
+
+    /** prefix 로 시작하는 키 중 가중치 상위 limit 개 (limit 는 topK 까지) */
+    public List<Completion> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i), false);
+        }
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+        int count = Math.min(limit, node.topCount);
+        List<Completion> completions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            completions.add(new Completion(node.top[i].keyword, node.top[i].weight));
+        }
+        return completions;
+    }
+
+    /** keyword 와 같은 키가 등록되어 있으면 true */
+    public boolean contains(String keyword) {
+        String key = normalize(keyword);
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i), false);
+        }
+        return node != null && node.entry != null;
+    }
+
+    /**
+     * 모든 가중치에 factor 를 곱한(버림) 새 트라이
+     * - 줄어든 가중치가 minWeight 미만인 키는 빼고, 남은 키도 가중치 상위 maxKeys 개까지만 담음
+     */
+    public WeightedPrefixTrie decayed(double factor, long minWeight, int maxKeys) {
+        List<Entry> kept = new ArrayList<>();
+        for (Entry entry : entries) {
+            long weight = (long) (entry.weight * factor);
+            if (weight >= Math.max(1, minWeight)) {
+                Entry copy = new Entry(entry.key, entry.keyword);
+                copy.weight = weight;
+                kept.add(copy);
+            }
+        }
+        kept.sort(ORDER);
+        WeightedPrefixTrie decayed = new WeightedPrefixTrie(topK);
+        for (int i = 0; i < Math.min(kept.size(), maxKeys); i++) {
+            decayed.add(kept.get(i).keyword, kept.get(i).weight);
+        }
+        return decayed;
+    }
+
+    /** 등록된 키 수 */
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        final String key;
+        final String keyword;
+        long weight;
+
+        Entry(String key, String keyword) {
+            this.key = key;
+            this.keyword = keyword;
+        }
+    }
+
+    private static final class Node {
+        // 자식은 글자 오름차순 배열 (HashMap 보다 노드당 메모리가 작음)
+        char[] labels = NO_LABELS;
+        Node[] children = NO_CHILDREN;
+        int childCount;
+        // 이 노드에서 끝나는 키
+        Entry entry;
+        // 이 접두어의 상위 키 (가중치 내림차순), 필요한 만큼만 늘림
+        Entry[] top = NO_ENTRIES;
+        int topCount;
+
+        Node child(char label, boolean create) {
+            int pos = Arrays.binarySearch(labels, 0, childCount, label);
+            if (pos >= 0) {
+                return children[pos];
+            }
+            if (!create) {
+                return null;
+            }
+            int insertAt = -pos - 1;
+            if (childCount == labels.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, insertAt, labels, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node created = new Node();
+            labels[insertAt] = label;
+            children[insertAt] = created;
+            childCount++;
+            return created;
+        }
+
+        /** 가중치가 오른 entry 를 상위 목록에 반영 */
+        void offer(Entry entry, int topK) {
+            int pos = -1;
+            for (int i = 0; i < topCount; i++) {
+                if (top[i] == entry) {
+                    pos = i;
+                    break;
+                }
+            }
+            if (pos < 0) {
+                if (topCount < topK) {
+                    if (topCount == top.length) {
+                        top = Arrays.copyOf(top, Math.min(topK, Math.max(1, topCount * 2)));
+                    }
+                    pos = topCount++;
+                } else if (ORDER.compare(entry, top[topCount - 1]) < 0) {
+                    pos = topCount - 1;
+                } else {
+                    return;
+                }
+                top[pos] = entry;
+            }
+            while (pos > 0 && ORDER.compare(top[pos], top[pos - 1]) < 0) {
+                Entry swap = top[pos - 1];
+                top[pos - 1] = top[pos];
+                top[pos] = swap;
+                pos--;
+            }
+        }
+    }
+}
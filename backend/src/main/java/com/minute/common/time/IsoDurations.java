@@ -0,0 +1,94 @@
+package com.minute.common.time;
+
+/**
+ * ISO 8601 기간 문자열(PnWnDTnHnMnS) → 초 변환
+ * - 정규식 없이 한 글자씩 훑으며 누적하므로 호출당 객체를 만들지 않습니다.
+ * - YouTube contentDetails.duration 형식(예: PT45S, PT1H2M3S, P1DT2H, P0D)을 대상으로 하며,
+ *   년(Y)/월(M) 단위와 소수 초처럼 길이가 고정되지 않거나 YouTube 가 쓰지 않는 형식은 잘못된 값으로 취급합니다.
+ */
+public final class IsoDurations {
+
+    /** 형식이 잘못됐거나 null 일 때 반환값 */
+    public static final long INVALID = -1;
+
+    // 이보다 크면 잘못된 값으로 취급 (약 292억 년, long 오버플로 방지)
+    private static final long MAX_SECONDS = Long.MAX_VALUE / 1_000;
+
+    private IsoDurations() {
+    }
+
+    /**
+     * @return 총 초, 형식이 잘못됐으면 {@link #INVALID}
+     */
+    public static long toSeconds(CharSequence iso) {
+        if (iso == null) {
+            return INVALID;
+        }
+        int length = iso.length();
+        if (length < 3 || iso.charAt(0) != 'P') {
+            return INVALID;
+        }
+
+        long total = 0;
+        long number = -1;      // 현재 읽는 숫자 (-1: 숫자 없음)
+        boolean timePart = false;
+        int lastUnit = 0;      // 단위 순서 검사용 (W=1, D=2, H=3, M=4, S=5)
+        boolean anyUnit = false;
+
+        for (int i = 1; i < length; i++) {
+            char c = iso.charAt(i);
+            if (c >= '0' && c <= '9') {
+                number = (number < 0 ? 0 : number * 10) + (c - '0');
+                if (number > MAX_SECONDS) {
+                    return INVALID;
+                }
+                continue;
+            }
+            if (c == 'T') {
+                // T 는 한 번만, 숫자 뒤에 바로 올 수 없음
+                if (timePart || number >= 0) {
+                    return INVALID;
+                }
+                timePart = true;
+                continue;
+            }
+
+            int unit;
+            long multiplier;
+            if (!timePart && c == 'W') {
+                unit = 1;
+                multiplier = 7L * 24 * 60 * 60;
+            } else if (!timePart && c == 'D') {
+                unit = 2;
+                multiplier = 24L * 60 * 60;
+            } else if (timePart && c == 'H') {
+                unit = 3;
+                multiplier = 60L * 60;
+            } else if (timePart && c == 'M') {
+                unit = 4;
+                multiplier = 60L;
+            } else if (timePart && c == 'S') {
+                unit = 5;
+                multiplier = 1L;
+            } else {
+                return INVALID;
+            }
+            if (number < 0 || unit <= lastUnit) {
+                return INVALID;
+            }
+            if (number > (MAX_SECONDS - total) / multiplier) {
+                return INVALID;
+            }
+            total += number * multiplier;
+            lastUnit = unit;
+            anyUnit = true;
+            number = -1;
+        }
+
+        // 끝에 단위 없는 숫자가 남았거나, 단위가 하나도 없거나, T 뒤가 비었으면 잘못된 값
+        if (number >= 0 || !anyUnit || (timePart && lastUnit < 3)) {
+            return INVALID;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,104 @@
+package com.minute.common.trend;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시간 버킷 단위 카운터 (슬라이딩 윈도우 집계용)
+ * - 이벤트가 들어올 때마다 해당 시간 버킷의 key 카운트를 증가 (전체 재집계 없음)
+ * - 최근 N 시간 윈도우의 상위 K개를 최소 힙으로 계산
+ * - 보관 기간(retention)을 넘은 버킷은 evictExpired 로 제거
+ */
+public class BucketedCounter<K> {
+
+    private final long bucketMillis;
+    private final long retentionMillis;
+
+    // 버킷 시작 인덱스(epochMillis / bucketMillis) → key별 카운트
+    private final ConcurrentSkipListMap<Long, Map<K, LongAdder>> buckets = new ConcurrentSkipListMap<>();
+
+    public BucketedCounter(long bucketMillis, long retentionMillis) {
+        this.bucketMillis = bucketMillis;
+        this.retentionMillis = retentionMillis;
+    }
+
+    public void increment(K key, long timestampMillis) {
+        add(key, timestampMillis, 1L);
+    }
+
+    public void add(K key, long timestampMillis, long delta) {
+        long bucket = timestampMillis / bucketMillis;
+        buckets.computeIfAbsent(bucket, b -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new LongAdder())
+                .add(delta);
+    }
+
+    /** nowMillis 기준 최근 windowMillis 동안의 key별 합계 */
+    public Map<K, Long> sum(long windowMillis, long nowMillis) {
+        long from = (nowMillis - windowMillis) / bucketMillis + 1;
+        long to = nowMillis / bucketMillis;
+        Map<K, Long> totals = new HashMap<>();
+        for (Map<K, LongAdder> counts : buckets.subMap(from, true, to, true).values()) {
+            counts.forEach((key, adder) -> totals.merge(key, adder.sum(), Long::sum));
+        }
+        return totals;
+    }
+
+    /** 최근 windowMillis 동안 카운트 상위 k개 (내림차순) */
+    public List<Ranked<K>> topK(long windowMillis, int k, long nowMillis) {
+        PriorityQueue<Ranked<K>> heap = new PriorityQueue<>(k + 1, Comparator.comparingLong(Ranked::count));
+        for (Map.Entry<K, Long> entry : sum(windowMillis, nowMillis).entrySet()) {
+            if (heap.size() < k) {
+                heap.offer(new Ranked<>(entry.getKey(), entry.getValue()));
+            } else if (entry.getValue() > heap.peek().count()) {
+                heap.poll();
+                heap.offer(new Ranked<>(entry.getKey(), entry.getValue()));
+            }
+        }
+        List<Ranked<K>> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingLong((Ranked<K> r) -> r.count()).reversed());
+        return result;
+    }
+
+    /** 보관 기간이 지난 버킷 제거 */
+    public void evictExpired(long nowMillis) {
+        long oldest = (nowMillis - retentionMillis) / bucketMillis;
+        buckets.headMap(oldest, false).clear();
+    }
+
+    /** 버킷 시작 시각(epochMillis)별 스냅샷 (재시작 복구용 저장에 사용) */
+    public Map<Long, Map<K, Long>> snapshot() {
+        Map<Long, Map<K, Long>> result = new HashMap<>();
+        buckets.forEach((bucket, counts) -> {
+            Map<K, Long> copy = new HashMap<>();
+            counts.forEach((key, adder) -> copy.put(key, adder.sum()));
+            result.put(bucket * bucketMillis, copy);
+        });
+        return result;
+    }
+
+    /** fromMillis 가 속한 버킷부터 이후 버킷만 스냅샷 (이미 저장한 과거 버킷은 다시 쓰지 않기 위함) */
+    public Map<Long, Map<K, Long>> snapshotSince(long fromMillis) {
+        Map<Long, Map<K, Long>> result = new HashMap<>();
+        buckets.tailMap(fromMillis / bucketMillis, true).forEach((bucket, counts) -> {
+            Map<K, Long> copy = new HashMap<>();
+            counts.forEach((key, adder) -> copy.put(key, adder.sum()));
+            result.put(bucket * bucketMillis, copy);
+        });
+        return result;
+    }
+
+    public void clear() {
+        buckets.clear();
+    }
+
+    public record Ranked<K>(K key, long count) {
+    }
+}
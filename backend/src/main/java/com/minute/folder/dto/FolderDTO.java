@@ -22,4 +22,7 @@ public class FolderDTO {
 
     // ✨ 랜덤 썸네일 URL을 담을 필드 추가
     private String randomThumbnailUrl;
+
+    // 폴더에 담긴 북마크 수 (목록 조회 시에만 채움)
+    private Long bookmarkCount;
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.minute.folder.repository;
 import com.minute.folder.entity.Folder;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository; // 👈 @Repository 어노테이션 추가 (선택적이지만 권장)
 
 import java.util.List;
@@ -28,4 +30,24 @@ public interface FolderRepository extends JpaRepository<Folder, Integer> {
     @EntityGraph(attributePaths = {"bookmarks"})
     Optional<Folder> findWithBookmarksByFolderIdAndUserId(Integer folderId, String userId);
 
-}
\ No newline at end of file
+    // 폴더 목록 + 폴더별 북마크 수 + 대표 썸네일(가장 최근 북마크)을 쿼리 한 번으로 조회
+    // (상관 서브쿼리는 bookmark.folder_id 인덱스로 폴더당 인덱스 탐색만 수행)
+    @Query("""
+        SELECT f.folderId AS folderId, f.folderName AS folderName,
+               (SELECT COUNT(b) FROM Bookmark b WHERE b.folder = f) AS bookmarkCount,
+               (SELECT lb.thumbnailUrl FROM Bookmark lb
+                 WHERE lb.bookmarkId = (SELECT MAX(mb.bookmarkId) FROM Bookmark mb WHERE mb.folder = f)) AS thumbnailUrl
+        FROM Folder f
+        WHERE f.userId = :userId
+        ORDER BY f.createdAt DESC
+        """)
+    List<FolderSummary> findSummariesByUserId(@Param("userId") String userId);
+
+    // findSummariesByUserId 결과 프로젝션
+    interface FolderSummary {
+        Integer getFolderId();
+        String getFolderName();
+        Long getBookmarkCount();
+        String getThumbnailUrl();
+    }
+}
@@ -6,6 +6,7 @@ import com.minute.bookmark.repository.BookmarkRepository;
 import com.minute.folder.dto.FolderDTO;
 import com.minute.folder.entity.Folder;
 import com.minute.folder.repository.FolderRepository;
+import com.minute.video.service.UserSignalStore;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,7 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +26,7 @@ public class FolderService {
 
     private final FolderRepository folderRepository;
     private final BookmarkRepository bookmarkRepository; // BookmarkRepository 주입 확인
+    private final UserSignalStore userSignalStore;
     private static final Logger log = LoggerFactory.getLogger(FolderService.class);
 
     private String getCurrentUserId() {
@@ -89,29 +90,14 @@ public class FolderService {
         String currentUserId = getCurrentUserId();
         log.info("[FolderService] getFoldersWithThumbnailsForCurrentUser 호출 - 사용자 ID: {}", currentUserId);
 
-        List<Folder> folders = folderRepository.findByUserIdOrderByCreatedAtDesc(currentUserId);
-        Random random = new Random();
-
-        return folders.stream()
-                .map(folder -> {
-                    // 특정 폴더의 북마크를 명시적으로 조회
-                    List<Bookmark> bookmarksInFolder = bookmarkRepository.findByFolder_FolderIdAndUserIdOrderByBookmarkIdDesc(folder.getFolderId(), currentUserId);
-
-                    String thumbnailUrl = null;
-                    if (bookmarksInFolder != null && !bookmarksInFolder.isEmpty()) {
-                        Bookmark randomBookmark = bookmarksInFolder.get(random.nextInt(bookmarksInFolder.size()));
-                        thumbnailUrl = randomBookmark.getThumbnailUrl();
-                    } else {
-                        // 폴더에 북마크가 없는 경우 썸네일을 null로 유지
-                        log.info("[FolderService] 폴더(ID:{})에 북마크가 없습니다. 썸네일 없음.", folder.getFolderId());
-                    }
-
-                    return FolderDTO.builder()
-                            .folderId(folder.getFolderId())
-                            .folderName(folder.getFolderName())
-                            .randomThumbnailUrl(thumbnailUrl)
-                            .build();
-                })
+        // 폴더마다 북마크 전체를 읽지 않고, 폴더별 개수와 최근 북마크 썸네일을 쿼리 한 번으로 가져옴
+        return folderRepository.findSummariesByUserId(currentUserId).stream()
+                .map(summary -> FolderDTO.builder()
+                        .folderId(summary.getFolderId())
+                        .folderName(summary.getFolderName())
+                        .randomThumbnailUrl(summary.getThumbnailUrl())
+                        .bookmarkCount(summary.getBookmarkCount())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -142,6 +128,8 @@ public class FolderService {
         // 2. folder 객체는 이제 연관된 북마크 정보를 모두 가지고 있으므로,
         //    JPA의 CascadeType.REMOVE 규칙에 따라 북마크와 폴더가 함께 삭제됩니다.
         folderRepository.delete(folder);
+        // 폴더에 담긴 북마크가 한꺼번에 지워지므로 북마크 신호는 다시 읽도록 함
+        userSignalStore.invalidate(currentUserId);
     }
 
 
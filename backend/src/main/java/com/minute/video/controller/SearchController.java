@@ -1,8 +1,11 @@
 package com.minute.video.controller;
 
+import com.minute.video.dto.HistoryPageResponseDTO;
+import com.minute.video.dto.SearchAutocompleteDTO;
 import com.minute.video.dto.SearchHistoryRequestDTO;
 import com.minute.video.dto.SearchHistoryResponseDTO;
 import com.minute.video.dto.SearchSuggestionsDTO;
+import com.minute.video.service.KeywordTrendWindow;
 import com.minute.video.service.SearchHistoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -24,7 +27,7 @@ public class SearchController {
 
     private final SearchHistoryService searchHistoryService;
 
-    @Operation(summary = "검색 실행 및 기록 저장", description ="사용자가 입력한 키워드로 영상을 검색하고, 검색 히스토리에 해당 키워드를 저장합니다.")
+    @Operation(summary = "검색 실행 및 기록 저장", description ="사용자가 입력한 키워드를 검색 히스토리와 인기 검색어에 저장합니다. 저장은 비동기로 처리되어 잠시 후 반영됩니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "검색 성공 및 기록 저장 완료되었습니다."),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터가 전달되었습니다."),
@@ -36,7 +39,7 @@ public class SearchController {
         return ResponseEntity.ok().build();
     }
 
-    @Operation(summary = "최근 검색어 조회", description ="해당 사용자의 최근 검색어 목록을 최신순으로 반환합니다.")
+    @Operation(summary = "최근 검색어 조회", description ="해당 사용자의 최근 검색어 목록을 최신순으로 최대 100개 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "최근 검색어 목록 반환 성공하였습니다."),
             @ApiResponse(responseCode = "400", description = "잘못된 사용자 ID입니다. 다시 확인해 주세요."),
@@ -47,6 +50,19 @@ public class SearchController {
         return searchHistoryService.getUserSearchHistory(userId);
     }
 
+    @Operation(summary = "검색 기록 페이지 조회", description ="해당 사용자의 검색 기록을 최신순으로 size개(최대 100개)씩 반환합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 기록 페이지 반환 성공하였습니다."),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서입니다. 다시 확인해 주세요."),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류가 발생했습니다. 잠시 후 다시 시도해 주세요.")
+    })
+    @GetMapping("/history/page")
+    public HistoryPageResponseDTO<SearchHistoryResponseDTO> getHistoryPage(@RequestParam String userId,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int size){
+        return searchHistoryService.getSearchHistoryPage(userId, cursor, size);
+    }
+
     @Operation(summary = "최근 검색어 삭제", description = "사용자의 특정 검색 기록을 삭제합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "검색 기록이 정상적으로 삭제되었습니다."),
@@ -60,14 +76,15 @@ public class SearchController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "인기 검색어 조회", description ="전체 사용자 기준 상위 5개 인기 검색어를 반환합니다.")
+    @Operation(summary = "인기 검색어 조회", description ="전체 사용자 기준 기간별(hour/day/week, all=누적) 상위 5개 인기 검색어를 반환합니다. 기간 안의 검색이 부족하면 누적 인기 검색어로 채웁니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "인기 검색어 목록 반환 성공하였습니다."),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 기간입니다. (hour, day, week, all)"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류가 발생했습니다. 잠시 후 다시 시도해 주세요.")
     })
     @GetMapping("/popular")
-    public List<String> popularKeywords(){
-        return searchHistoryService.getPopularKeywords();
+    public List<String> popularKeywords(@RequestParam(required = false) String window){
+        return searchHistoryService.getPopularKeywords(KeywordTrendWindow.from(window, KeywordTrendWindow.DAY));
     }
 
     @Operation(summary = "검색어 제안", description ="검색창 포커스 시 사용자의 최근 검색어와 인기 검색어를 함께 제공합니다.")
@@ -81,5 +98,15 @@ public class SearchController {
         return searchHistoryService.getSearchSuggestions(userId);
     }
 
-
+    @Operation(summary = "검색어 자동완성", description ="입력 중인 접두어로 시작하는 사용자의 최근 검색어와 인기 검색어를 최대 size개(최대 10개) 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "자동완성 검색어 반환 성공하였습니다."),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류가 발생했습니다. 잠시 후 다시 시도해 주세요.")
+    })
+    @GetMapping("/autocomplete")
+    public SearchAutocompleteDTO autocomplete(@RequestParam String prefix,
+                                              @RequestParam(required = false) String userId,
+                                              @RequestParam(defaultValue = "10") int size) {
+        return searchHistoryService.autocomplete(userId, prefix, size);
+    }
 }
@@ -1,9 +1,12 @@
 package com.minute.video.controller;
 
 import com.minute.video.dto.CategoryDTO;
+import com.minute.video.dto.VideoPageResponseDTO;
 import com.minute.video.dto.VideoResponseDTO;
 import com.minute.video.service.CategoryService;
+import com.minute.video.service.TrendingWindow;
 import com.minute.video.service.VideoService;
+import com.minute.video.service.VideoSort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,6 +15,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -30,7 +34,7 @@ public class VideoController {
             description =
                     "영상 목록을 조회합니다.\n\n" +
                             "1) `keyword` 파라미터가 있으면 제목 검색 결과를 반환합니다.\n" +
-                            "2) `category` 파라미터가 있으면 해당 카테고리별 영상 목록을 반환합니다.\n" +
+                            "2) `category` 파라미터가 있으면 해당 카테고리별 영상 목록을 최신순으로 최대 `size`개 반환합니다. (다음 페이지는 `/page` 사용)\n" +
                             "3) `tag` 파라미터가 있으면 해당 태그별 영상 목록을 반환합니다.\n" +
                             "4) `userId` 파라미터만 있으면 로그인된 사용자의 맞춤 추천 영상을 반환합니다.\n" +
                             "5) 아무 파라미터도 없으면 좋아요 수 기준 인기 영상을 반환합니다.\n" +
@@ -42,11 +46,12 @@ public class VideoController {
             @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다.")
     })
     @GetMapping
-    public List<VideoResponseDTO> getVideos(
+    public Mono<List<VideoResponseDTO>> getVideos(
             @Parameter(description = "제목 검색 키워드")   @RequestParam(required = false) String keyword,
             @Parameter(description = "카테고리 필터")     @RequestParam(required = false) String category,
             @Parameter(description = "태그 필터")         @RequestParam(required = false) String tag,
-            @Parameter(description = "로그인된 사용자 ID") @RequestParam(required = false) String userId
+            @Parameter(description = "로그인된 사용자 ID") @RequestParam(required = false) String userId,
+            @Parameter(description = "카테고리 조회 개수 (최대 100)") @RequestParam(defaultValue = "50") int size
     ) {
         // 검색어가 있으면 “DB + API” 통합 검색으로 바꿔 줍니다.
         if (keyword != null && !keyword.isBlank()) {
@@ -56,21 +61,46 @@ public class VideoController {
 
         // 2) category 필터가 있으면 그 카테고리 영상만 반환
         if (category != null && !category.isBlank()) {
-            return videoService.getVideoByCategory(category);
+            return Mono.just(videoService.getVideoByCategory(category, size));
         }
 
         // 3) tag 필터가 있으면 그 태그 영상만 반환
         if (tag != null && !tag.isBlank()) {
-            return videoService.getVideosByTag(tag);
+            return Mono.just(videoService.getVideosByTag(tag));
         }
 
         // 4) userId만 있으면 추천 영상 목록을 반환
         if (userId != null && !userId.isBlank()) {
-            return videoService.getRecommendedVideos(userId);
+            return Mono.just(videoService.getRecommendedVideos(userId));
         }
 
         // 5) 아무 파라미터도 없으면 좋아요 수 기준 인기 영상 반환
-        return videoService.getPopularByLikeCount();
+        return Mono.just(videoService.getPopularByLikeCount());
+    }
+
+    @Operation(
+            summary = "영상 목록 페이지 조회 (커서 기반)",
+            description =
+                    "영상 목록을 키셋 커서 방식으로 한 페이지씩 조회합니다.\n\n" +
+                            "- `category` / `tag` / `keyword`(제목·지역·도시) 중 하나로 필터링하며, 필터가 있으면 최신순입니다.\n" +
+                            "- 필터가 없으면 여행 관련으로 분류된 영상 전체를 `sort`(latest, likes, views) 기준으로 반환합니다.\n" +
+                            "- 응답의 `nextCursor`를 다음 요청의 `cursor`로 넘기면 이어서 조회합니다. (`size` 최대 100)\n" +
+                            "- likes/views 정렬은 페이지 사이에 값이 바뀐 영상이 빠지거나 중복될 수 있습니다. (best-effort)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "정상적으로 영상 페이지를 반환합니다."),
+            @ApiResponse(responseCode = "400", description = "잘못된 정렬 기준 또는 커서가 전달되었습니다.")
+    })
+    @GetMapping("/page")
+    public VideoPageResponseDTO getVideoPage(
+            @Parameter(description = "카테고리 필터")   @RequestParam(required = false) String category,
+            @Parameter(description = "태그 필터")       @RequestParam(required = false) String tag,
+            @Parameter(description = "검색 키워드")     @RequestParam(required = false) String keyword,
+            @Parameter(description = "정렬 (latest, likes, views)") @RequestParam(defaultValue = "latest") String sort,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size
+    ) {
+        return videoService.getVideoPage(VideoSort.from(sort, VideoSort.LATEST), category, tag, keyword, cursor, size);
     }
 
     @Operation(
@@ -98,6 +128,15 @@ public class VideoController {
         return videoService.getAllVideos();  // 최신순 50개 반환
     }
 
+    @Operation(summary = "시청수 기준 인기 영상 조회",
+            description = "최근 window(day=24시간, week=7일, month=30일) 동안의 시청수 상위 영상을 반환합니다. 집계가 없으면 조회수/최신순으로 대체합니다.")
+    @GetMapping("/popular")
+    public List<VideoResponseDTO> getPopularVideos(
+            @RequestParam(defaultValue = "week") String window
+    ) {
+        return videoService.getPopularByWatchCount(TrendingWindow.from(window, TrendingWindow.WEEK));
+    }
+
     @Operation(summary = "카테고리 목록 조회", description = "전체 카테고리 목록을 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "정상적으로 카테고리 목록을 반환합니다."),
@@ -109,7 +148,7 @@ public class VideoController {
     }
 
     @GetMapping("/mixed")
-    public List<VideoResponseDTO> getMixedVideos(
+    public Mono<List<VideoResponseDTO>> getMixedVideos(
             @RequestParam String keyword,
         @RequestParam(defaultValue = "10") int apiCount
     ) {
@@ -1,5 +1,6 @@
 package com.minute.video.controller;
 
+import com.minute.video.dto.HistoryPageResponseDTO;
 import com.minute.video.dto.WatchHistoryRequestDTO;
 import com.minute.video.dto.WatchHistoryResponseDTO;
 import com.minute.video.service.WatchHistoryService;
@@ -51,7 +52,7 @@ public class WatchHistoryController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "사용자 시청 기록 조회",description = "해당 사용자의 시청 기록을 최신순으로 반환합니다.")
+    @Operation(summary = "사용자 시청 기록 조회",description = "해당 사용자의 최근 시청 기록을 최신순으로 최대 100개 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "시청 기록 목록을 정상적으로 반환하였습니다."),
             @ApiResponse(responseCode = "400", description = "잘못된 사용자 ID입니다. 다시 확인해 주세요."),
@@ -63,4 +64,18 @@ public class WatchHistoryController {
         List<WatchHistoryResponseDTO> histories = watchHistoryService.getUserWatchHistory(userId);
         return ResponseEntity.ok(histories);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "사용자 시청 기록 페이지 조회",description = "해당 사용자의 시청 기록을 최신순으로 size개(최대 100개)씩 반환합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "시청 기록 페이지를 정상적으로 반환하였습니다."),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서입니다. 다시 확인해 주세요."),
+            @ApiResponse(responseCode = "500", description = "서버 오류가 발생했습니다. 잠시 후 다시 시도해 주세요.")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<HistoryPageResponseDTO<WatchHistoryResponseDTO>> page(
+            @PathVariable("userId") String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size){
+        return ResponseEntity.ok(watchHistoryService.getWatchHistoryPage(userId, cursor, size));
+    }
+}
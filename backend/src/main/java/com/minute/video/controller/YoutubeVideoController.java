@@ -1,26 +1,31 @@
 package com.minute.video.controller;
 
+import com.minute.video.dto.YoutubeSearchResponse;
 import com.minute.video.entity.Video;
+import com.minute.video.service.VideoIngestService;
 import com.minute.video.service.VideoService;
 import com.minute.video.service.YoutubeApiService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/youtube")
 @RequiredArgsConstructor
+@Slf4j
 public class YoutubeVideoController {
 
     private final YoutubeApiService youtubeApiService;
     private final VideoService videoService;
+    private final VideoIngestService videoIngestService;
 
     // 1. 상단 슬라이더 (지역별)
     @GetMapping("/slider")
-    public List<Map<String, Object>> getSliderVideos(@RequestParam String region) {
+    public Mono<List<YoutubeSearchResponse.Item>> getSliderVideos(@RequestParam String region) {
         // ex) "부산 여행지"로 검색
         String keyword = region + " 여행지";
         return youtubeApiService.searchVideosByKeyword(keyword, 10);
@@ -28,7 +33,7 @@ public class YoutubeVideoController {
 
     // 2. 지역별 여행 영상 카드
 //    @GetMapping("/region")
-//    public List<Map<String, Object>> getRegionVideos(@RequestParam String region) {
+//    public List<YoutubeSearchResponse.Item> getRegionVideos(@RequestParam String region) {
 //        // ex) "해운대 여행" 등
 //        String keyword = region + " 여행";
 //        return youtubeApiService.searchVideosByKeyword(keyword, 5);
@@ -36,22 +41,20 @@ public class YoutubeVideoController {
 
     // 2. 지역별 여행 영상 카드 → 예외 시 빈 리스트 리턴하도록 수정
     @GetMapping("/region")
-    public List<Map<String, Object>> getRegionVideos(@RequestParam String region) {
+    public Mono<List<YoutubeSearchResponse.Item>> getRegionVideos(@RequestParam String region) {
         String keyword = region + " 여행";
-        try {
-            return youtubeApiService.searchVideosByKeyword(keyword, 5);
-        } catch (Exception e) {
-            // (1) 로그 출력
-            System.err.println("▶ getRegionVideos 예외 발생: region=" + region + ", message=" + e.getMessage());
-            e.printStackTrace();
-            // (2) 프론트가 빈 배열로 받아서 “영상이 없습니다” UI를 보여줄 수 있도록 빈 리스트 반환
-            return Collections.emptyList();
-        }
+        return youtubeApiService.searchVideosByKeyword(keyword, 5)
+                .onErrorResume(e -> {
+                    // (1) 로그 출력
+                    log.warn("getRegionVideos 예외 발생: region={}", region, e);
+                    // (2) 프론트가 빈 배열로 받아서 “영상이 없습니다” UI를 보여줄 수 있도록 빈 리스트 반환
+                    return Mono.just(Collections.emptyList());
+                });
     }
 
     // 3. 쇼츠만
     @GetMapping("/shorts")
-    public List<Map<String, Object>> getShortsByRegion(
+    public Mono<List<YoutubeSearchResponse.Item>> getShortsByRegion(
             @RequestParam(required = false) String region,
             @RequestParam(defaultValue = "15") int maxResults
     ) {
@@ -73,7 +76,7 @@ public class YoutubeVideoController {
                 return videoService.getAllVideos(maxResults);
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.warn("getDbShorts 예외 발생: region={}, city={}", region, city, ex);
             return Collections.emptyList();
         }
     }
@@ -81,8 +84,9 @@ public class YoutubeVideoController {
     // ▶▶ 유튜브 API에서 받아온 쇼츠 DB 저장
     @PostMapping("/shorts/save")
     public String saveShortsToDb(@RequestParam String region, @RequestParam(defaultValue="15") int maxResults) {
-        List<Map<String, Object>> list = youtubeApiService.searchShortsByRegion(region, maxResults);
-        videoService.saveVideosFromApi(list, region);
+        // 관리용 수동 저장이라 API 결과를 기다린 뒤 저장
+        List<YoutubeSearchResponse.Item> list = youtubeApiService.searchShortsByRegion(region, maxResults).block();
+        videoIngestService.saveVideosFromApi(list, region);
         return "ok";
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.minute.video.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "HistoryPageResponseDTO", description = "검색/시청 기록 페이지 응답 (키셋 커서 방식)")
+public class HistoryPageResponseDTO<T> {
+
+    @Schema(description = "이번 페이지 기록 목록 (최신순)")
+    private List<T> items;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNS0wNS0yMVQxNDozMDAwfDEx")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+}
@@ -0,0 +1,24 @@
+package com.minute.video.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "SearchAutocompleteDTO", description = "검색창 입력 중 반환할 자동완성 검색어")
+public class SearchAutocompleteDTO {
+
+    @Schema(description = "입력한 접두어", example = "부산")
+    private String prefix;
+
+    @Schema(description = "접두어로 시작하는 사용자의 최근 검색어 (최신순)")
+    private List<String> recentKeywords;
+
+    @Schema(description = "접두어로 시작하는 인기 검색어 (검색 횟수순, 최근 검색어와 중복 제외)")
+    private List<String> popularKeywords;
+}
@@ -0,0 +1,24 @@
+package com.minute.video.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "VideoPageResponseDTO", description = "영상 목록 페이지 응답 (키셋 커서 방식)")
+public class VideoPageResponseDTO {
+
+    @Schema(description = "이번 페이지 영상 목록")
+    private List<VideoResponseDTO> items;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "TEFURVNUfHx4eXoxMjM")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+}
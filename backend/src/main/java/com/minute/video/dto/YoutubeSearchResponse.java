@@ -0,0 +1,85 @@
+package com.minute.video.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * YouTube Data API search.list 응답 (필요한 필드만 바인딩, 나머지는 파싱 중 건너뜀)
+ * - 프론트엔드가 받던 응답과 같은 모양(id.videoId, snippet.title, snippet.thumbnails.medium.url ...)으로 직렬화됨
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record YoutubeSearchResponse(List<Item> items, String nextPageToken) {
+
+    public List<Item> itemsOrEmpty() {
+        return items != null ? items : List.of();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(Id id, Snippet snippet) {
+
+        /** id.videoId (없으면 null) */
+        public String videoId() {
+            return id != null ? id.videoId() : null;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Id(String videoId) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Snippet(String publishedAt, String title, String description,
+                          String channelTitle, Thumbnails thumbnails) {
+
+        /** 기본 썸네일 URL (없으면 빈 문자열) */
+        public String defaultThumbnailUrl() {
+            if (thumbnails == null || thumbnails.defaultThumbnail() == null
+                    || thumbnails.defaultThumbnail().url() == null) {
+                return "";
+            }
+            return thumbnails.defaultThumbnail().url();
+        }
+
+        /** 가장 큰 썸네일 URL (high → medium → default, 없으면 빈 문자열) */
+        public String bestThumbnailUrl() {
+            if (thumbnails != null) {
+                for (Thumbnail thumbnail : new Thumbnail[]{thumbnails.high(), thumbnails.medium(), thumbnails.defaultThumbnail()}) {
+                    if (thumbnail != null && thumbnail.url() != null && !thumbnail.url().isEmpty()) {
+                        return thumbnail.url();
+                    }
+                }
+            }
+            return "";
+        }
+
+        /** publishedAt(RFC 3339, UTC) → Instant (없거나 형식이 다르면 null) */
+        public Instant publishedInstant() {
+            if (publishedAt == null) {
+                return null;
+            }
+            try {
+                return Instant.parse(publishedAt);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Thumbnails(@JsonProperty("default") Thumbnail defaultThumbnail, Thumbnail medium, Thumbnail high) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Thumbnail(String url) {
+    }
+}
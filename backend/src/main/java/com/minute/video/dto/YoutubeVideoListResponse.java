@@ -0,0 +1,30 @@
+package com.minute.video.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * YouTube Data API videos.list 응답
+ * - part=contentDetails 면 영상 길이, part=snippet 이면 제목/썸네일 등만 바인딩
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record YoutubeVideoListResponse(List<Item> items) {
+
+    public List<Item> itemsOrEmpty() {
+        return items != null ? items : List.of();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Item(String id, ContentDetails contentDetails, YoutubeSearchResponse.Snippet snippet) {
+
+        /** ISO 8601 길이 문자열 (예: PT45S, 없으면 null) */
+        public String duration() {
+            return contentDetails != null ? contentDetails.duration() : null;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ContentDetails(String duration) {
+    }
+}
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "search_history")
+@Table(name = "search_history",
+        indexes = @Index(name = "idx_search_history_user_recent", columnList = "user_id, searched_at, search_id"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
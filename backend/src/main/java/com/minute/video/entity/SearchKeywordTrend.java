@@ -0,0 +1,58 @@
+package com.minute.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 급상승 검색어 시간 버킷 스냅샷 (재시작 복구용)
+ * - 각 인스턴스가 지난 스냅샷 이후의 증가분을 주기적으로 더해 두고, 시작 시 최근 7일치를 다시 읽음
+ * - 여러 인스턴스의 증가분이 같은 버킷에 합산됨 (search_count = search_count + delta, 덮어쓰지 않음)
+ * - 읽기/쓰기는 JdbcTemplate 로 일괄 처리 (테이블 정의용 엔티티)
+ */
+@Entity
+@Table(name = "search_keyword_trend")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchKeywordTrend {
+
+    @EmbeddedId
+    private SearchKeywordTrendId id;
+
+    // 버킷 안의 검색 횟수
+    @Column(nullable = false)
+    private long searchCount;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchKeywordTrendId implements Serializable {
+
+        // 버킷 시작 시각
+        @Column(name = "bucket_start")
+        private LocalDateTime bucketStart;
+
+        @Column(length = 100)
+        private String keyword;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SearchKeywordTrendId that = (SearchKeywordTrendId) o;
+            return Objects.equals(bucketStart, that.bucketStart) &&
+                    Objects.equals(keyword, that.keyword);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bucketStart, keyword);
+        }
+    }
+}
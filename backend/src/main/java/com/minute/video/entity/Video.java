@@ -6,12 +6,18 @@ import com.minute.video.entity.VideoCategory;
 import com.minute.video.entity.VideoTag;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "video")
+@Table(name = "video",
+        indexes = {
+                @Index(name = "idx_video_travel", columnList = "travel_related, video_id"),
+                @Index(name = "idx_video_likes", columnList = "travel_related, likes, video_id"),
+                @Index(name = "idx_video_views", columnList = "travel_related, views, video_id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,21 +46,38 @@ public class Video {
     @Column(length = 255)
     private String city;
 
+    // 수집/재분류 시점에 계산해 둔 여행 관련 여부 (VideoFilterService 의 #여행 규칙)
+    @Column(name = "travel_related", nullable = false)
+    @Builder.Default
+    private boolean travelRelated = false;
+
+    // 분류에 사용한 필터 규칙 지문 (규칙이 바뀌면 재분류 대상)
+    @Column(name = "classified_rules")
+    private Long classifiedRules;
+
+    // 수집 시 저장한 본문(제목/설명/URL/썸네일/지역/도시) 해시, 같으면 다시 쓰지 않음
+    @Column(name = "content_hash")
+    private Long contentHash;
+
     @ManyToOne
     @JoinColumn(name = "channel_id")
     private Channel channel;
 
+    // 목록 변환 시 영상마다 따로 지연 로딩되지 않도록 IN 쿼리로 묶어서 로딩
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
+    @BatchSize(size = 100)
     @Builder.Default
     private List<VideoTag> videoTags = new ArrayList<>();
 
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
+    @BatchSize(size = 100)
     @Builder.Default
     private List<VideoCategory> videoCategories = new ArrayList<>();
 
-    @Column(nullable = false)
+    // 조회수는 ViewCountAccumulator 가 "views = views + ?" 로만 갱신 (엔티티 저장 시 덮어쓰지 않도록 updatable = false)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Long views = 0L;
 
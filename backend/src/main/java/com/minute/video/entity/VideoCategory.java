@@ -8,7 +8,8 @@ import java.io.Serializable;
 import java.util.Objects;
 
 @Entity
-@Table(name = "video_category")
+@Table(name = "video_category",
+        indexes = @Index(name = "idx_video_category_visible", columnList = "category_id, visible, video_id"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -32,6 +33,11 @@ public class VideoCategory {
     @JoinColumn(name = "category_id")
     private Category category;
 
+    // 수집/재분류 시점에 계산해 둔 노출 여부 (카테고리 규칙 통과 + 여행 관련)
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean visible = false;
+
     // 복합키 처리하기 위해 사용되는 임베디드 키 클래스
     // 엔티티의 기본 키(pk)가 여러 컬럼으로 구성된 경우, 하나의 객체로 묶어 관리한다.
     @Embeddable
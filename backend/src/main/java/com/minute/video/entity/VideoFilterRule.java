@@ -0,0 +1,42 @@
+package com.minute.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 영상 필터 키워드 규칙
+ * - ruleName: 카테고리 이름(예: 캠핑, 힐링) 또는 공통 규칙 이름(#여행, #광고채널)
+ * - POSITIVE 키워드가 하나라도 있어야 통과, NEGATIVE 키워드가 하나라도 있으면 차단
+ */
+@Entity
+@Table(name = "video_filter_rule",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"rule_name", "keyword", "polarity"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoFilterRule {
+
+    public enum Polarity {
+        POSITIVE, NEGATIVE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long ruleId;
+
+    @Column(name = "rule_name", length = 50, nullable = false)
+    private String ruleName;
+
+    @Column(length = 50, nullable = false)
+    private String keyword;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private Polarity polarity;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean enabled = true;
+}
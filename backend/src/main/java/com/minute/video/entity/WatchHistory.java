@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "watch_history")
+@Table(name = "watch_history",
+        indexes = @Index(name = "idx_watch_history_user_recent", columnList = "user_id, watched_at, watch_id"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,32 @@
+package com.minute.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 유튜브 검색 응답 캐시 (2차 저장소)
+ * - cacheKey: 검색 종류 + 파라미터 + 정규화한 검색어 (예: "shorts:15:부산 여행")
+ * - payload: 숏츠 필터까지 끝난 items 목록의 JSON
+ */
+@Entity
+@Table(name = "youtube_response_cache")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class YoutubeResponseCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 255)
+    private String cacheKey;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant fetchedAt;
+}
@@ -0,0 +1,51 @@
+package com.minute.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 유튜브 검색 쿼리별 증분 동기화 체크포인트
+ * - queryKey: 수집 작업 이름 (예: "category:캠핑", "city:강원도/강릉")
+ * - lastPublishedAt: 지금까지 받은 영상 중 가장 최근 publishedAt (다음 검색의 publishedAfter)
+ * - etag: 마지막 검색 응답의 ETag (같은 요청이면 If-None-Match 로 보내 304 를 받음)
+ * - resumePageToken / pendingPublishedAt: 페이지 제한에 걸려 다 못 읽은 증분 검색을 다음 실행에서 이어 읽기 위한 상태
+ */
+@Entity
+@Table(name = "youtube_sync_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class YoutubeSyncCheckpoint {
+
+    @Id
+    @Column(name = "query_key", length = 100)
+    private String queryKey;
+
+    // 마지막 실행 시각 (304 로 끝난 실행 포함)
+    private LocalDateTime lastRunAt;
+
+    // publishedAfter 없이 전체를 다시 받은 마지막 시각
+    private LocalDateTime lastFullSyncAt;
+
+    // YouTube publishedAt 은 UTC 기준이므로 Instant 로 보관
+    private Instant lastPublishedAt;
+
+    @Column(length = 100)
+    private String etag;
+
+    // 다 못 읽은 증분 검색의 다음 페이지 토큰 (null 이면 이어 읽을 구간 없음)
+    @Column(length = 100)
+    private String resumePageToken;
+
+    // 이어 읽는 중인 증분 검색에서 지금까지 본 가장 최근 publishedAt (끝까지 읽으면 lastPublishedAt 으로 옮김)
+    private Instant pendingPublishedAt;
+
+    // 이 체크포인트로 지금까지 받은 영상 수
+    @Column(nullable = false)
+    private long fetchedTotal;
+}
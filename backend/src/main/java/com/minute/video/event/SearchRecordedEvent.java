@@ -0,0 +1,11 @@
+package com.minute.video.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자의 검색어가 검색 기록/인기 검색어에 저장되었음을 알리는 이벤트
+ * - 자동완성(SearchAutocomplete)의 인기 검색어 가중치와 최근 검색어를 커밋 이후에 갱신하기 위해 사용
+ * - 급상승 검색어(TrendingKeywordService)는 searchedAt 시간 버킷에 집계
+ */
+public record SearchRecordedEvent(String userId, String keyword, LocalDateTime searchedAt) {
+}
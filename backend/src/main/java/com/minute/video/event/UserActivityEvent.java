@@ -0,0 +1,12 @@
+package com.minute.video.event;
+
+/**
+ * 사용자의 추천 신호(좋아요, 북마크, 시청, 검색)가 바뀌었음을 알리는 이벤트
+ * - 추천 피드 갱신 등 후속 처리를 트랜잭션 커밋 이후에 비동기적으로 처리하기 위해 사용
+ */
+public record UserActivityEvent(String userId, ActivityType type) {
+
+    public enum ActivityType {
+        LIKE, BOOKMARK, WATCH, SEARCH
+    }
+}
@@ -0,0 +1,8 @@
+package com.minute.video.event;
+
+/**
+ * 영상 카탈로그(video / video_category)가 수집 작업으로 변경되었음을 알리는 이벤트
+ * - 비로그인 피드 스냅샷 등 카탈로그 기반 캐시를 커밋 이후에 무효화하기 위해 사용
+ */
+public record VideoCatalogChangedEvent(String source, int changedCount) {
+}
@@ -0,0 +1,13 @@
+package com.minute.video.event;
+
+import java.util.List;
+
+/**
+ * 수집 작업으로 영상의 검색 대상 텍스트(제목/설명/지역/도시)가 새로 저장되거나 바뀌었음을 알리는 이벤트
+ * - 검색 색인(VideoSearchIndex)을 커밋 이후에 해당 영상만 갱신하기 위해 사용
+ */
+public record VideoTextChangedEvent(List<Text> videos) {
+
+    public record Text(String videoId, String title, String description, String region, String city) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.minute.video.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 사용자의 영상 시청 이벤트 (시청 기록 큐에 등록되는 시점에 발행)
+ * - 트렌딩 집계처럼 DB 반영을 기다릴 필요 없는 후속 처리에 사용
+ */
+public record VideoWatchedEvent(String userId, String videoId, LocalDateTime watchedAt) {
+}
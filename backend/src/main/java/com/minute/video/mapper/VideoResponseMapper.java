@@ -3,19 +3,27 @@ package com.minute.video.mapper;
 import com.minute.video.entity.Video;
 import com.minute.video.dto.VideoResponseDTO;
 import com.minute.video.repository.VideoLikesRepository;
+import com.minute.video.service.ViewCountAccumulator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class VideoResponseMapper {
     private final VideoMapper videoMapper;
     private final VideoLikesRepository videoLikesRepository;
+    private final ViewCountAccumulator viewCountAccumulator;
 
     public VideoResponseDTO toDtoWithStats(Video video) {
         VideoResponseDTO dto = videoMapper.toDto(video);
         dto.setLikes(videoLikesRepository.countByVideoVideoId(video.getVideoId()));
-        dto.setViews(video.getViews());
+        dto.setViews(viewCountAccumulator.currentViews(video.getVideoId(), video.getViews()));
         return dto;
     }
 
@@ -25,4 +33,42 @@ public class VideoResponseMapper {
         dto.setRecommendationScore(score);            // 추천 점수 추가
         return dto;
     }
+
+    /**
+     * 목록 변환용: 좋아요 수를 영상마다 조회하지 않고 GROUP BY 쿼리 한 번으로 가져옵니다.
+     * (입력 순서 유지)
+     */
+    public List<VideoResponseDTO> toDtosWithStats(List<Video> videos) {
+        return toDtosWithStats(videos, Collections.emptyMap());
+    }
+
+    // 추천 점수(videoId → 점수)를 함께 채우는 목록 변환
+    public List<VideoResponseDTO> toDtosWithStats(List<Video> videos, Map<String, Integer> scores) {
+        if (videos.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<String, Long> likeCounts = countLikes(videos);
+
+        List<VideoResponseDTO> result = new ArrayList<>(videos.size());
+        for (Video video : videos) {
+            VideoResponseDTO dto = videoMapper.toDto(video);
+            dto.setLikes(likeCounts.getOrDefault(video.getVideoId(), 0L));
+            dto.setViews(viewCountAccumulator.currentViews(video.getVideoId(), video.getViews()));
+            Integer score = scores.get(video.getVideoId());
+            if (score != null) {
+                dto.setRecommendationScore(score);
+            }
+            result.add(dto);
+        }
+        return result;
+    }
+
+    private Map<String, Long> countLikes(List<Video> videos) {
+        List<String> videoIds = videos.stream().map(Video::getVideoId).distinct().toList();
+        Map<String, Long> likeCounts = new HashMap<>(videoIds.size() * 2);
+        for (VideoLikesRepository.VideoLikeCount row : videoLikesRepository.countByVideoIds(videoIds)) {
+            likeCounts.put(row.getVideoId(), row.getLikeCount());
+        }
+        return likeCounts;
+    }
 }
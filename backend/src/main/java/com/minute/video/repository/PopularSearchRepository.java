@@ -9,4 +9,7 @@ public interface PopularSearchRepository extends JpaRepository<PopularSearch, St
 
     // 상위 5개 키워드 조회
     List<PopularSearch> findTop5ByOrderBySearchCountDesc();
+
+    // 접두어로 시작하는 상위 10개 키워드 (자동완성 색인이 준비되기 전 대체 조회)
+    List<PopularSearch> findTop10ByKeywordStartingWithOrderBySearchCountDesc(String prefix);
 }
@@ -1,20 +1,46 @@
 package com.minute.video.repository;
 
 import com.minute.video.entity.SearchHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SearchHistoryRepository extends JpaRepository<SearchHistory, Integer> {
 
-    // 사용자의 최근 검색 기록 조회 (최신순)
-    List<SearchHistory> findByUserUserIdOrderBySearchedAtDesc(String userId);
+    // 자동완성용 최근 검색어 (최신순, 중복 포함 / 개수는 pageable 로 제한)
+    @Query("SELECT h.keyword FROM SearchHistory h WHERE h.user.userId = :userId " +
+            "ORDER BY h.searchedAt DESC, h.searchId DESC")
+    List<String> findRecentKeywords(@Param("userId") String userId, Pageable pageable);
+
+    // 검색 기록 키셋 페이지 (최신순, 엔티티 대신 필요한 컬럼만 / idx_search_history_user_recent 사용)
+    @Query("""
+        SELECT h.searchId AS searchId, h.keyword AS keyword, h.searchedAt AS searchedAt
+        FROM SearchHistory h
+        WHERE h.user.userId = :userId
+          AND (:afterAt IS NULL OR h.searchedAt < :afterAt
+               OR (h.searchedAt = :afterAt AND h.searchId < :afterId))
+        ORDER BY h.searchedAt DESC, h.searchId DESC
+        """)
+    List<SearchHistoryRow> findPageByUserId(@Param("userId") String userId,
+                                            @Param("afterAt") LocalDateTime afterAt,
+                                            @Param("afterId") Integer afterId,
+                                            Pageable pageable);
 
     // 최근 검색어 삭제
     @Modifying
     @Transactional
     void deleteByUserUserIdAndKeyword(String userId, String keyword);
 
-}
\ No newline at end of file
+    // findPageByUserId 결과 프로젝션
+    interface SearchHistoryRow {
+        Integer getSearchId();
+        String getKeyword();
+        LocalDateTime getSearchedAt();
+    }
+}
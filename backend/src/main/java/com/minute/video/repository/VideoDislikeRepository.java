@@ -15,4 +15,8 @@ public interface VideoDislikeRepository extends JpaRepository<VideoDislike, Long
 
     @Query("SELECT d FROM VideoDislike d JOIN FETCH d.video WHERE d.user.userId = :userId")
     List<VideoDislike> findByUserUserId(@Param("userId") String userId);
+
+    // 싫어요한 영상 ID 만 조회 (UserSignalStore 로딩용)
+    @Query("SELECT d.video.videoId FROM VideoDislike d WHERE d.user.userId = :userId")
+    List<String> findVideoIdsByUserId(@Param("userId") String userId);
 }
\ No newline at end of file
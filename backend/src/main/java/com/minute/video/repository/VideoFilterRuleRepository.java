@@ -0,0 +1,13 @@
+package com.minute.video.repository;
+
+import com.minute.video.entity.VideoFilterRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface VideoFilterRuleRepository extends JpaRepository<VideoFilterRule, Long> {
+
+    List<VideoFilterRule> findByEnabledTrue();
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface VideoLikesRepository extends JpaRepository<VideoLikes, Integer> {
@@ -16,6 +17,10 @@ public interface VideoLikesRepository extends JpaRepository<VideoLikes, Integer>
     @Query("SELECT vl FROM VideoLikes vl JOIN FETCH vl.video WHERE vl.user.userId = :userId")
     List<VideoLikes> findByUserUserId(@Param("userId") String userId);
 
+    // 특정 사용자가 좋아요한 영상 ID 만 조회 (UserSignalStore 로딩용, 영상 행은 읽지 않음)
+    @Query("SELECT vl.video.videoId FROM VideoLikes vl WHERE vl.user.userId = :userId")
+    List<String> findVideoIdsByUserId(@Param("userId") String userId);
+
     // 기존 findByUserUserId(String userId)는 VideoLikes만 가져오고, 그 안의 video는 지연 로딩(Lazy Loading) 상태라서 null이거나 프록시 객체였기 때문에,
     //→ like.getVideo().getVideoId()가 null로 나왔던 겁니다.
 
@@ -25,6 +30,21 @@ public interface VideoLikesRepository extends JpaRepository<VideoLikes, Integer>
     // 영상 좋아요 개수 조회
     Long countByVideoVideoId(String videoId);
 
+    // 여러 영상의 좋아요 개수를 한 번의 GROUP BY 쿼리로 조회 (목록 조회용)
+    @Query("""
+        SELECT vl.video.videoId AS videoId, COUNT(vl) AS likeCount
+        FROM VideoLikes vl
+        WHERE vl.video.videoId IN :videoIds
+        GROUP BY vl.video.videoId
+        """)
+    List<VideoLikeCount> countByVideoIds(@Param("videoIds") Collection<String> videoIds);
+
+    // countByVideoIds 결과 프로젝션
+    interface VideoLikeCount {
+        String getVideoId();
+        Long getLikeCount();
+    }
+
     // 삭제한 행 수를 반환하도록 변경
     @Modifying
     @Transactional
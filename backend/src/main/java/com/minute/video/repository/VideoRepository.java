@@ -6,24 +6,119 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import org.springframework.data.domain.Pageable;
+import java.util.Collection;
 import java.util.List;
 
 public interface VideoRepository extends JpaRepository<Video, String> {
 
-    // 카테고리 필터링
-    @Query("SELECT v FROM Video v JOIN v.videoCategories vc JOIN vc.category c WHERE c.categoryName = :categoryName")
-    List<Video> findByCategoryName(@Param("categoryName") String categoryName);
+    // ── 키셋 페이지네이션 목록 조회 ──────────────────────────────────────────
+    // afterVideoId / afterKey 가 null 이면 첫 페이지, 아니면 커서 다음 행부터 조회 (OFFSET 없음)
+    // 채널은 fetch join, 카테고리/태그 컬렉션은 @BatchSize 로 IN 조회 (페이지 크기 만큼만 로딩)
+
+    // 카테고리 필터링 (수집 시 분류해 둔 노출 플래그 기준, idx_video_category_visible 사용)
+    @Query("""
+        SELECT v FROM Video v LEFT JOIN FETCH v.channel
+        JOIN v.videoCategories vc JOIN vc.category c
+        WHERE c.categoryName = :categoryName AND vc.visible = true
+          AND (:afterVideoId IS NULL OR v.videoId < :afterVideoId)
+        ORDER BY v.videoId DESC
+        """)
+    List<Video> findVisibleByCategoryName(@Param("categoryName") String categoryName,
+                                          @Param("afterVideoId") String afterVideoId,
+                                          Pageable pageable);
 
     // 태그 필터링
-    @Query("SELECT v FROM Video v JOIN v.videoTags vt JOIN vt.tag t WHERE t.tagName = :tagName")
-    List<Video> findByTagName(@Param("tagName") String tagName);
+    @Query("""
+        SELECT v FROM Video v LEFT JOIN FETCH v.channel
+        JOIN v.videoTags vt JOIN vt.tag t
+        WHERE t.tagName = :tagName
+          AND (:afterVideoId IS NULL OR v.videoId < :afterVideoId)
+        ORDER BY v.videoId DESC
+        """)
+    List<Video> findByTagName(@Param("tagName") String tagName,
+                              @Param("afterVideoId") String afterVideoId,
+                              Pageable pageable);
 
     // 제목에 키워드가 포함된 영상 조회
-    List<Video> findByVideoTitleContainingIgnoreCase(String keyword);
+    @Query("""
+        SELECT v FROM Video v LEFT JOIN FETCH v.channel
+        WHERE LOWER(v.videoTitle) LIKE LOWER(CONCAT('%', :keyword, '%'))
+          AND (:afterVideoId IS NULL OR v.videoId < :afterVideoId)
+        ORDER BY v.videoId DESC
+        """)
+    List<Video> findByTitleContaining(@Param("keyword") String keyword,
+                                      @Param("afterVideoId") String afterVideoId,
+                                      Pageable pageable);
+
+    // 제목/지역/도시 검색
+    @Query("""
+        SELECT v FROM Video v LEFT JOIN FETCH v.channel
+        WHERE (LOWER(v.videoTitle) LIKE LOWER(CONCAT('%', :keyword, '%'))
+            OR LOWER(v.region) LIKE LOWER(CONCAT('%', :keyword, '%'))
+            OR LOWER(v.city) LIKE LOWER(CONCAT('%', :keyword, '%')))
+          AND (:afterVideoId IS NULL OR v.videoId < :afterVideoId)
+        ORDER BY v.videoId DESC
+        """)
+    List<Video> searchByTitleOrRegionOrCity(@Param("keyword") String keyword,
+                                            @Param("afterVideoId") String afterVideoId,
+                                            Pageable pageable);
+
+    // 여행 관련 영상 최신순 (idx_video_travel 사용)
+    @Query("""
+        SELECT v FROM Video v LEFT JOIN FETCH v.channel
+        WHERE v.travelRelated = true
+          AND (:afterVideoId IS NULL OR v.videoId < :afterVideoId)
+        ORDER BY v.videoId DESC
+        """)
+    List<Video> findLatestPage(@Param("afterVideoId") String afterVideoId, Pageable pageable);
+
+    // 여행 관련 영상 좋아요 순 (idx_video_likes 사용)
+    @Query("""
+        SELECT v FROM Video v LEFT JOIN FETCH v.channel
+        WHERE v.travelRelated = true
+          AND (:afterKey IS NULL
+               OR v.likes < :afterKey
+               OR (v.likes = :afterKey AND v.videoId < :afterVideoId))
+        ORDER BY v.likes DESC, v.videoId DESC
+        """)
+    List<Video> findLikesPage(@Param("afterKey") Long afterKey,
+                              @Param("afterVideoId") String afterVideoId,
+                              Pageable pageable);
+
+    // 여행 관련 영상 조회수 순 (idx_video_views 사용)
+    @Query("""
+        SELECT v FROM Video v LEFT JOIN FETCH v.channel
+        WHERE v.travelRelated = true
+          AND (:afterKey IS NULL
+               OR v.views < :afterKey
+               OR (v.views = :afterKey AND v.videoId < :afterVideoId))
+        ORDER BY v.views DESC, v.videoId DESC
+        """)
+    List<Video> findViewsPage(@Param("afterKey") Long afterKey,
+                              @Param("afterVideoId") String afterVideoId,
+                              Pageable pageable);
+
+    // 재분류 대상 (규칙 지문이 다르거나 아직 분류되지 않은 영상), videoId 순으로 끊어서 조회
+    @Query("""
+        SELECT v FROM Video v
+        WHERE (v.classifiedRules IS NULL OR v.classifiedRules <> :fingerprint)
+          AND v.videoId > :afterVideoId
+        ORDER BY v.videoId
+        """)
+    List<Video> findUnclassified(@Param("fingerprint") long fingerprint,
+                                 @Param("afterVideoId") String afterVideoId,
+                                 Pageable pageable);
+
+    // ID 목록으로 한 번에 조회 (북마크 목록 등, 순서는 호출 쪽에서 맞춤)
+    @Query("SELECT v FROM Video v LEFT JOIN FETCH v.channel WHERE v.videoId IN :videoIds")
+    List<Video> findAllWithChannelByVideoIdIn(@Param("videoIds") Collection<String> videoIds);
 
     // 영상 ID를 기준으로 최신순 정렬
     List<Video> findTop50ByOrderByVideoIdDesc();
 
+    // 여행 관련으로 분류된 영상 중 최신순 (idx_video_travel 사용)
+    List<Video> findTop50ByTravelRelatedTrueOrderByVideoIdDesc();
+
     // 조회수 순
     List<Video> findTop50ByOrderByViewsDesc();
 
@@ -34,12 +129,4 @@ public interface VideoRepository extends JpaRepository<Video, String> {
 
     List<Video> findByRegionAndCity(String region, String city,Pageable pageable);
 
-    @Query("""
-    SELECT v FROM Video v 
-    WHERE LOWER(v.videoTitle) LIKE LOWER(CONCAT('%', :keyword, '%'))
-       OR LOWER(v.region) LIKE LOWER(CONCAT('%', :keyword, '%'))
-       OR LOWER(v.city) LIKE LOWER(CONCAT('%', :keyword, '%'))
-""")
-    List<Video> searchByTitleOrRegionOrCity(@Param("keyword") String keyword);
-
 }
\ No newline at end of file
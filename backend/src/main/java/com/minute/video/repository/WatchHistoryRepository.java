@@ -3,24 +3,56 @@ package com.minute.video.repository;
 import com.minute.user.entity.User;
 import com.minute.video.entity.Video;
 import com.minute.video.entity.WatchHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface WatchHistoryRepository extends JpaRepository<WatchHistory, Integer> {
 
-    // 특정 사용자의 시청 기록 조회 (최신순)
-    List<WatchHistory> findByUserUserIdOrderByWatchedAtDesc(String userId);
+    List<WatchHistory> findByUserAndVideo(User user, Video video);
 
-    // 조회수(WatchHistory 레코드 수) 기준 인기 영상 TOP50
+    // 시청 기록 키셋 페이지 (최신순, 영상 정보까지 조인 한 번으로 / idx_watch_history_user_recent 사용)
     @Query("""
-        SELECT wh.video 
-        FROM WatchHistory wh 
-        GROUP BY wh.video 
-        ORDER BY COUNT(wh) DESC 
+        SELECT wh.watchId AS watchId, v.videoId AS videoId, v.videoTitle AS videoTitle,
+               v.videoUrl AS videoUrl, v.thumbnailUrl AS thumbnailUrl, wh.watchedAt AS watchedAt
+        FROM WatchHistory wh
+        JOIN wh.video v
+        WHERE wh.user.userId = :userId
+          AND (:afterAt IS NULL OR wh.watchedAt < :afterAt
+               OR (wh.watchedAt = :afterAt AND wh.watchId < :afterId))
+        ORDER BY wh.watchedAt DESC, wh.watchId DESC
         """)
-    List<Video> findMostWatchedVideos();
+    List<WatchHistoryRow> findPageByUserId(@Param("userId") String userId,
+                                           @Param("afterAt") LocalDateTime afterAt,
+                                           @Param("afterId") Integer afterId,
+                                           Pageable pageable);
 
-    List<WatchHistory> findByUserAndVideo(User user, Video video);
+    // 영상별 시청 횟수 (UserSignalStore 로딩용, 이력 행 대신 GROUP BY 결과만 읽음)
+    @Query("""
+        SELECT wh.video.videoId AS videoId, COUNT(wh) AS watchCount
+        FROM WatchHistory wh
+        WHERE wh.user.userId = :userId
+        GROUP BY wh.video.videoId
+        """)
+    List<VideoWatchCount> countByVideoForUser(@Param("userId") String userId);
+
+    // findPageByUserId 결과 프로젝션
+    interface WatchHistoryRow {
+        Integer getWatchId();
+        String getVideoId();
+        String getVideoTitle();
+        String getVideoUrl();
+        String getThumbnailUrl();
+        LocalDateTime getWatchedAt();
+    }
+
+    // countByVideoForUser 결과 프로젝션
+    interface VideoWatchCount {
+        String getVideoId();
+        Long getWatchCount();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.minute.video.repository;
+
+import com.minute.video.entity.YoutubeResponseCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface YoutubeResponseCacheRepository extends JpaRepository<YoutubeResponseCacheEntry, String> {
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM YoutubeResponseCacheEntry e WHERE e.fetchedAt < :before")
+    int deleteOlderThan(@Param("before") Instant before);
+}
@@ -0,0 +1,9 @@
+package com.minute.video.repository;
+
+import com.minute.video.entity.YoutubeSyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface YoutubeSyncCheckpointRepository extends JpaRepository<YoutubeSyncCheckpoint, String> {
+}
@@ -0,0 +1,114 @@
+package com.minute.video.scheduler;
+
+import com.minute.video.service.SearchAutocomplete;
+import com.minute.video.service.UserSignalStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 검색/시청 기록 보관 개수 제한 배치
+ * - 사용자별로 최근 N건(search-max-per-user / watch-max-per-user)만 남기고 오래된 기록을 삭제
+ * - 기준 행은 (user_id, 시각, ID) 인덱스로 한 번에 찾고, 삭제는 delete-chunk 건씩 나눠서 잠금 시간을 짧게 유지
+ * - 시청 기록을 지운 사용자는 UserSignalStore 항목을 버려서 시청 횟수를 다시 읽게 함
+ * - 최대 개수를 0 이하로 설정하면 해당 기록은 정리하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HistoryRetentionScheduler {
+
+    private static final HistoryTable SEARCH = new HistoryTable("search_history", "searched_at", "search_id");
+    private static final HistoryTable WATCH = new HistoryTable("watch_history", "watched_at", "watch_id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserSignalStore userSignalStore;
+    private final SearchAutocomplete searchAutocomplete;
+
+    @Value("${history.retention.search-max-per-user:500}")
+    private int searchMaxPerUser;
+
+    @Value("${history.retention.watch-max-per-user:1000}")
+    private int watchMaxPerUser;
+
+    @Value("${history.retention.delete-chunk:1000}")
+    private int deleteChunk;
+
+    @Scheduled(cron = "${history.retention.cron:0 0 5 * * *}")
+    public void compact() {
+        compact(SEARCH, searchMaxPerUser, searchAutocomplete::forgetRecent);
+        compact(WATCH, watchMaxPerUser, userSignalStore::invalidate);
+    }
+
+    private void compact(HistoryTable table, int maxPerUser, Consumer<String> afterUser) {
+        if (maxPerUser <= 0) {
+            return;
+        }
+        List<String> userIds;
+        try {
+            userIds = jdbcTemplate.queryForList(table.overLimitSql(), String.class, maxPerUser);
+        } catch (Exception e) {
+            log.warn("{} 보관 개수 정리 실패: {}", table.name(), e.getMessage());
+            return;
+        }
+
+        long deleted = 0;
+        for (String userId : userIds) {
+            try {
+                deleted += compactUser(table, userId, maxPerUser);
+                afterUser.accept(userId);
+            } catch (Exception e) {
+                log.warn("{} 보관 개수 정리 중 오류 (userId={}): {}", table.name(), userId, e.getMessage());
+            }
+        }
+        if (deleted > 0) {
+            log.info("=== HistoryRetentionScheduler: {} 사용자 {}명, {}건 삭제 (사용자당 최대 {}건) ===",
+                    table.name(), userIds.size(), deleted, maxPerUser);
+        }
+    }
+
+    /** 최근 maxPerUser 건 바로 다음 행(가장 최근의 삭제 대상)부터 이전 기록을 나눠서 삭제 */
+    private long compactUser(HistoryTable table, String userId, int maxPerUser) {
+        List<Object[]> boundary = jdbcTemplate.query(table.boundarySql(),
+                (rs, rowNum) -> new Object[]{rs.getTimestamp(1), rs.getLong(2)}, userId, maxPerUser);
+        if (boundary.isEmpty()) {
+            return 0;
+        }
+        Timestamp at = (Timestamp) boundary.get(0)[0];
+        long id = (Long) boundary.get(0)[1];
+
+        long deleted = 0;
+        int chunk = Math.max(1, deleteChunk);
+        int removed;
+        do {
+            removed = jdbcTemplate.update(table.deleteSql(), userId, at, at, id, chunk);
+            deleted += removed;
+        } while (removed == chunk);
+        return deleted;
+    }
+
+    /** 기록 테이블 이름과 정렬 컬럼 (SQL 은 고정 상수로만 조립) */
+    private record HistoryTable(String name, String timeColumn, String idColumn) {
+
+        String overLimitSql() {
+            return "SELECT user_id FROM " + name + " WHERE user_id IS NOT NULL GROUP BY user_id HAVING COUNT(*) > ?";
+        }
+
+        String boundarySql() {
+            return "SELECT " + timeColumn + ", " + idColumn + " FROM " + name
+                    + " WHERE user_id = ? ORDER BY " + timeColumn + " DESC, " + idColumn + " DESC LIMIT 1 OFFSET ?";
+        }
+
+        String deleteSql() {
+            return "DELETE FROM " + name + " WHERE user_id = ? AND (" + timeColumn + " < ? OR ("
+                    + timeColumn + " = ? AND " + idColumn + " <= ?)) LIMIT ?";
+        }
+    }
+}
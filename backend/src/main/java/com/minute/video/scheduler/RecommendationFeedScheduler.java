@@ -0,0 +1,64 @@
+package com.minute.video.scheduler;
+
+import com.minute.video.event.UserActivityEvent;
+import com.minute.video.service.RecommendationFeedStore;
+import com.minute.video.service.VideoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 추천 피드 갱신 스케줄러
+ * - 좋아요/북마크/시청/검색 이벤트가 들어오면 해당 사용자를 갱신 대기열에 올리고 짧은 주기로 재계산
+ * - 활성 사용자의 피드는 refresh 주기마다 전체 재계산
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationFeedScheduler {
+
+    private final RecommendationFeedStore recommendationFeedStore;
+    private final VideoService videoService;
+
+    @Value("${recommendation.feed.refresh-ms:600000}")
+    private long refreshMillis;
+
+    // 커밋된 이후에만 갱신 대상으로 등록 (트랜잭션 밖에서 발행된 이벤트도 처리)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserActivity(UserActivityEvent event) {
+        recommendationFeedStore.markDirty(event.userId());
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.feed.dirty-refresh-ms:5000}")
+    public void refreshDirtyFeeds() {
+        List<String> userIds = recommendationFeedStore.drainDirtyUsers();
+        if (userIds.isEmpty()) {
+            return;
+        }
+        refresh(userIds);
+    }
+
+    @Scheduled(initialDelay = 60_000, fixedDelayString = "${recommendation.feed.refresh-ms:600000}")
+    public void refreshActiveFeeds() {
+        int evicted = recommendationFeedStore.evictInactiveUsers();
+        List<String> userIds = recommendationFeedStore.findActiveUsersToRefresh(refreshMillis);
+        log.info("=== RecommendationFeedScheduler: 활성 사용자 {}명 피드 갱신 (비활성 {}명 제거) ===",
+                userIds.size(), evicted);
+        refresh(userIds);
+    }
+
+    private void refresh(List<String> userIds) {
+        for (String userId : userIds) {
+            try {
+                videoService.refreshRecommendationFeed(userId);
+            } catch (Exception e) {
+                log.warn("추천 피드 갱신 실패: userId={}, message={}", userId, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,85 +1,209 @@
 package com.minute.video.scheduler;
 
-import com.minute.video.service.VideoService;
+import com.minute.common.ratelimit.DailyQuota;
+import com.minute.video.service.IngestResult;
+import com.minute.video.service.VideoIngestService;
 import com.minute.video.service.YoutubeApiService;
+import com.minute.video.service.YoutubeSyncService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 유튜브 영상 수집 스케줄러 (카테고리 + 지역/도시 숏츠)
+ * - 수집 대상은 YoutubeIngestProperties(youtube.ingest.*) 한 곳에서 관리
+ * - 작업들은 고정 크기 스레드 풀에서 동시에 실행 (스케줄러 스레드는 작업을 넘기기만 하고 기다리지 않음)
+ * - API 호출 속도/일일 쿼터는 YoutubeApiService 가 실제 호출마다 차감 (재시도·페이지 호출 포함)
+ * - 작업별로 지수 백오프 재시도 (일일 쿼터 소진은 재시도하지 않음), 실행마다 소요 시간/성공/실패 통계를 남김
+ * - 이전 실행이 끝나지 않았으면 이번 주기는 건너뜀
+ * - 검색은 YoutubeSyncService 의 체크포인트(publishedAfter/ETag) 기준 증분 동기화
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ScheduledVideoFetcher {
 
-    private final YoutubeApiService youtubeApiService;
-    private final VideoService videoService;
+    private final YoutubeSyncService youtubeSyncService;
+    private final VideoIngestService videoIngestService;
+    private final YoutubeIngestProperties properties;
 
-    /**
-     * 6시간마다 네 가지 카테고리(캠핑, 힐링, 산, 테마파크) 키워드로
-     * 유튜브에서 영상을 가져와서 VideoService.saveVideosFromApi(...)를 호출합니다.
-     */
-    @Scheduled(initialDelay = 0,fixedDelay = 1000 * 60 * 60 * 6)  // 6시간마다 실행
-    public void fetchAllCategories() {
+    private ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile RunStats lastRun;
 
-        log.info("=== ScheduledVideoFetcher: fetchAllCategories 호출 ===");
-        // 1) 캠핑 카테고리
-        List<Map<String, Object>> campingResults = youtubeApiService.searchVideosByKeyword("캠핑", 15);
-        videoService.saveVideosFromApi(campingResults, "캠핑");
+    /** 수집 작업 하나 (카테고리 키워드 검색 또는 도시 숏츠 검색) */
+    record IngestJob(String category, String region, String city) {
 
-        // 2) 힐링 카테고리
-        List<Map<String, Object>> healingResults = youtubeApiService.searchVideosByKeyword("힐링", 15);
-        videoService.saveVideosFromApi(healingResults, "힐링");
+        static IngestJob category(String category) {
+            return new IngestJob(category, null, null);
+        }
+
+        static IngestJob city(String region, String city) {
+            return new IngestJob(null, region, city);
+        }
 
-        // 3) 산 카테고리
-        List<Map<String, Object>> mountainResults = youtubeApiService.searchVideosByKeyword("산", 15);
-        videoService.saveVideosFromApi(mountainResults, "산");
+        String name() {
+            return category != null ? "category:" + category : "city:" + region + "/" + city;
+        }
+    }
+
+    /** 한 번의 전체 수집 실행 통계 */
+    public record RunStats(long startedAt, long elapsedMs, int jobs, int succeeded, int failed,
+                           int retries, int fetchedVideos, IngestResult saved) {
+    }
 
-        // 4) 테마파크 카테고리
-        List<Map<String, Object>> themeParkResults = youtubeApiService.searchVideosByKeyword("테마파크", 15);
-        videoService.saveVideosFromApi(themeParkResults, "테마파크");
+    @PostConstruct
+    void init() {
+        int threads = Math.max(1, properties.getConcurrency());
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "youtube-ingest-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
     }
 
     /**
-     * 6시간마다 “지역 → 도시(구·군)” 단위로 숏츠를 저장
-     *
-     * Region 목록 총 11개, 각 region마다 3개 도시(구·군)를 순회하며
-     * "{도시} 여행" 키워드로 숏츠를 가져와 DB에 저장합니다.
+     * 6시간마다 (설정 가능) 카테고리 + 지역/도시 대상 전체 수집
+     * - 작업을 수집 풀에 넘긴 뒤 바로 반환하고, 통계는 모든 작업이 끝났을 때 남김
+     *   (공용 스케줄러 스레드를 수집 시간 동안 붙잡지 않도록)
      */
-    @Scheduled(initialDelay = 10_000, fixedDelay = 1000 * 60 * 60 * 6)  // 6시간마다 실행 (초기 지연 10초)
-    public void fetchCityShorts() {
-        log.info("=== ScheduledVideoFetcher: fetchCityShorts 호출 ===");
-
-        Map<String, List<String>> regionToCities = new HashMap<>();
-
-        // region
-        regionToCities.put("경기도", Arrays.asList("가평", "수원", "파주"));
-        regionToCities.put("강원도", Arrays.asList("강릉", "속초", "평창"));
-        regionToCities.put("전라북도", Arrays.asList("전주", "군산", "남원"));
-        regionToCities.put("충청북도", Arrays.asList("단양", "청주", "제천"));
-        regionToCities.put("경상남도", Arrays.asList("통영", "거제", "진주"));
-        regionToCities.put("전라남도", Arrays.asList("여수", "순천", "담양"));
-        regionToCities.put("제주도",   Arrays.asList("서귀포", "성산", "애월"));
-        regionToCities.put("서울",     Arrays.asList("강남", "종로", "홍대"));
-        regionToCities.put("충청남도", Arrays.asList("태안", "공주", "보령"));
-        regionToCities.put("부산",     Arrays.asList("해운대", "광안리", "서면"));
-        regionToCities.put("경상북도", Arrays.asList("경주", "안동", "포항"));
-
-        // 각 region → city마다 “{도시} 여행” 키워드로 조회 후 저장
-        for (Map.Entry<String, List<String>> entry : regionToCities.entrySet()) {
-            String region = entry.getKey();
+    @Scheduled(initialDelayString = "${youtube.ingest.initial-delay-ms:10000}",
+            fixedDelayString = "${youtube.ingest.interval-ms:21600000}")
+    public void fetchAll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.info("=== ScheduledVideoFetcher: 이전 수집이 아직 진행 중이라 이번 주기는 건너뜁니다 ===");
+            return;
+        }
+        List<IngestJob> jobs = buildJobs();
+        log.info("=== ScheduledVideoFetcher: {}개 작업 수집 시작 (동시 {}개) ===", jobs.size(), properties.getConcurrency());
+
+        long startedAt = System.currentTimeMillis();
+        long start = System.nanoTime();
+        AtomicInteger retries = new AtomicInteger();
+        AtomicInteger fetched = new AtomicInteger();
+        AtomicReference<IngestResult> saved = new AtomicReference<>(IngestResult.EMPTY);
+
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(jobs.size());
+        try {
+            for (IngestJob job : jobs) {
+                futures.add(CompletableFuture.supplyAsync(() -> runWithRetry(job, retries, fetched, saved), executor));
+            }
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, e) -> {
+                    try {
+                        finishRun(futures, startedAt, start, retries, fetched, saved);
+                    } finally {
+                        running.set(false);
+                    }
+                });
+    }
+
+    private void finishRun(List<CompletableFuture<Boolean>> futures, long startedAt, long start,
+                           AtomicInteger retries, AtomicInteger fetched, AtomicReference<IngestResult> saved) {
+        int succeeded = 0;
+        for (CompletableFuture<Boolean> future : futures) {
+            // 모두 끝난 뒤라 기다리지 않음 (작업 안에서 예외를 잡으므로 실패는 false)
+            if (!future.isCompletedExceptionally() && future.getNow(false)) {
+                succeeded++;
+            }
+        }
+        int jobs = futures.size();
+
+        RunStats stats = new RunStats(startedAt, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                jobs, succeeded, jobs - succeeded, retries.get(), fetched.get(), saved.get());
+        lastRun = stats;
+        log.info("=== ScheduledVideoFetcher: 수집 완료 {}ms (성공 {}, 실패 {}, 재시도 {}, 영상 {}개 → 신규 {}, 수정 {}, 변경 없음 {}) ===",
+                stats.elapsedMs(), stats.succeeded(), stats.failed(), stats.retries(), stats.fetchedVideos(),
+                stats.saved().inserted(), stats.saved().updated(), stats.saved().unchanged());
+    }
+
+    /** 마지막 수집 실행 통계 (아직 실행 전이면 null) */
+    public RunStats getLastRun() {
+        return lastRun;
+    }
+
+    private List<IngestJob> buildJobs() {
+        List<IngestJob> jobs = new ArrayList<>();
+        properties.getCategories().forEach(category -> jobs.add(IngestJob.category(category)));
+        for (Map.Entry<String, List<String>> entry : properties.targetRegions().entrySet()) {
             for (String city : entry.getValue()) {
-                log.info("Fetching shorts for city: {} (region: {})", city,region);
-                List<Map<String, Object>> cityResults =
-                        youtubeApiService.searchShortsByRegion(city, 15);
-                // ← 여기를 saveVideosFromApi가 아닌 saveVideosByRegionAndCity 로 바꿔야 합니다.
-                videoService.saveVideosByRegionAndCity(cityResults, region, city);
+                jobs.add(IngestJob.city(entry.getKey(), city));
+            }
+        }
+        return jobs;
+    }
+
+    private boolean runWithRetry(IngestJob job, AtomicInteger retries, AtomicInteger fetched,
+                                 AtomicReference<IngestResult> saved) {
+        long backoff = properties.getBackoffMs();
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            long start = System.nanoTime();
+            try {
+                IngestResult result = runOnce(job);
+                fetched.addAndGet(result.received());
+                saved.accumulateAndGet(result, IngestResult::plus);
+                log.debug("수집 완료: {} ({}개, {}ms)", job.name(), result.received(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                return true;
+            } catch (DailyQuota.ExhaustedException e) {
+                // 날짜가 바뀔 때까지 재시도해도 같은 결과
+                log.warn("수집 중단: {} - {}", job.name(), e.getMessage());
+                return false;
+            } catch (Exception e) {
+                if (attempt == maxAttempts) {
+                    log.warn("수집 실패: {} ({}회 시도) - {}", job.name(), attempt, e.getMessage());
+                    return false;
+                }
+                retries.incrementAndGet();
+                log.info("수집 재시도 예정: {} ({}회 실패, {}ms 후) - {}", job.name(), attempt, backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                backoff *= 2;
             }
         }
+        return false;
+    }
+
+    private IngestResult runOnce(IngestJob job) {
+        if (job.category() != null) {
+            return youtubeSyncService.sync(job.name(), job.category(), properties.getMaxResults(),
+                    items -> videoIngestService.saveVideosFromApi(items, job.category()));
+        }
+        return youtubeSyncService.sync(job.name(), YoutubeApiService.regionQuery(job.city()), properties.getMaxResults(),
+                items -> videoIngestService.saveVideosByRegionAndCity(items, job.region(), job.city()));
     }
 }
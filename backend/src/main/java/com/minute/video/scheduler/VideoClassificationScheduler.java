@@ -0,0 +1,61 @@
+package com.minute.video.scheduler;
+
+import com.minute.video.service.VideoClassificationService;
+import com.minute.video.service.VideoFilterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 영상 재분류 배치
+ * - 필터 규칙 지문이 마지막으로 재분류를 끝낸 지문과 다르면, 규칙이 다른 영상만 배치 단위로 다시 분류
+ * - 애플리케이션 시작 직후에도 한 번 실행되어 분류되지 않은 기존 영상을 채웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VideoClassificationScheduler {
+
+    private final VideoFilterService videoFilterService;
+    private final VideoClassificationService videoClassificationService;
+
+    @Value("${video.classify.batch-size:500}")
+    private int batchSize;
+
+    // 마지막으로 전체 재분류를 끝낸 규칙 지문
+    private volatile Long completedFingerprint;
+
+    @Scheduled(initialDelay = 10_000, fixedDelayString = "${video.classify.check-ms:60000}")
+    public void reclassifyIfRulesChanged() {
+        long fingerprint = videoFilterService.getRulesFingerprint();
+        if (completedFingerprint != null && completedFingerprint == fingerprint) {
+            return;
+        }
+
+        int processed = 0;
+        int changed = 0;
+        String after = "";
+        try {
+            while (true) {
+                VideoClassificationService.BatchResult result = videoClassificationService.reclassifyBatch(after, batchSize);
+                if (result.lastVideoId() == null) {
+                    break;
+                }
+                processed += result.processed();
+                changed += result.changed();
+                after = result.lastVideoId();
+            }
+        } catch (Exception e) {
+            log.warn("영상 재분류 중단 ({}건 처리): {}", processed, e.getMessage());
+            return;
+        }
+
+        completedFingerprint = fingerprint;
+        if (processed > 0) {
+            log.info("=== VideoClassificationScheduler: {}건 재분류, {}건 플래그 변경 (rules={}) ===",
+                    processed, changed, Long.toHexString(fingerprint));
+        }
+    }
+}
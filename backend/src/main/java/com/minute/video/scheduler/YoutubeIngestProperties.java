@@ -0,0 +1,63 @@
+package com.minute.video.scheduler;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유튜브 수집 대상/동시성/재시도 설정 (application.yml 의 youtube.ingest.*)
+ * - API 호출 속도/일일 쿼터는 모든 호출에 공통이라 youtube.client.rate.* / youtube.client.quota.* 에서 설정
+ * - 값을 지정하지 않으면 아래 기본값을 사용합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "youtube.ingest")
+@Getter
+@Setter
+public class YoutubeIngestProperties {
+
+    // 스케줄 수집 사용 여부
+    private boolean enabled = true;
+
+    // 카테고리 이름 = 검색 키워드 (category 테이블에 있어야 저장됨)
+    private List<String> categories = List.of("캠핑", "힐링", "산", "테마파크");
+
+    // 지역 → 도시(구·군), 도시마다 "{도시} 여행" 숏츠 검색
+    // (Map 은 바인딩 시 기존 값과 합쳐지므로 비워 두고, 설정이 없을 때만 targetRegions 에서 기본값 사용)
+    private Map<String, List<String>> regions = new LinkedHashMap<>();
+
+    // 검색 1회당 가져올 결과 수
+    private int maxResults = 15;
+
+    // 동시에 실행할 수집 작업 수
+    private int concurrency = 4;
+
+    // 작업 실패 시 재시도 (backoffMs, 2배씩 증가)
+    private int maxAttempts = 3;
+    private long backoffMs = 2_000;
+
+    /** 수집 대상 지역/도시 (설정이 없으면 기본 11개 지역) */
+    public Map<String, List<String>> targetRegions() {
+        return regions.isEmpty() ? defaultRegions() : regions;
+    }
+
+    private static Map<String, List<String>> defaultRegions() {
+        Map<String, List<String>> regions = new LinkedHashMap<>();
+        regions.put("경기도", List.of("가평", "수원", "파주"));
+        regions.put("강원도", List.of("강릉", "속초", "평창"));
+        regions.put("전라북도", List.of("전주", "군산", "남원"));
+        regions.put("충청북도", List.of("단양", "청주", "제천"));
+        regions.put("경상남도", List.of("통영", "거제", "진주"));
+        regions.put("전라남도", List.of("여수", "순천", "담양"));
+        regions.put("제주도", List.of("서귀포", "성산", "애월"));
+        regions.put("서울", List.of("강남", "종로", "홍대"));
+        regions.put("충청남도", List.of("태안", "공주", "보령"));
+        regions.put("부산", List.of("해운대", "광안리", "서면"));
+        regions.put("경상북도", List.of("경주", "안동", "포항"));
+        return regions;
+    }
+}
@@ -0,0 +1,136 @@
+package com.minute.video.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minute.video.dto.VideoResponseDTO;
+import com.minute.video.event.VideoCatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비로그인 사용자용 피드 스냅샷 캐시
+ * - 모든 비로그인 사용자에게 같은 목록이 나가므로 한 번 만든 DTO 목록을 직렬화해서 보관
+ * - 카탈로그 버전이 바뀌거나(수집 커밋) TTL 이 지나면 다음 요청에서 다시 생성
+ * - 직렬화된 바이트로 보관하므로 호출자가 반환 목록을 수정해도 스냅샷에는 영향 없음
+ * - 스냅샷이 없을 때 같은 피드/버전의 생성은 한 요청만 하고, 동시에 들어온 요청은 그 결과를 기다림
+ *   (만료·폐기 직후 요청이 몰려도 DB 조회는 한 번)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnonymousFeedCache {
+
+    private static final TypeReference<List<VideoResponseDTO>> DTO_LIST = new TypeReference<>() {};
+
+    public enum Feed {
+        LATEST, POPULAR_BY_LIKES
+    }
+
+    private record Snapshot(long version, long expiresAt, byte[] payload) {
+    }
+
+    private record LoadKey(Feed feed, long version) {
+    }
+
+    private final ObjectMapper objectMapper;
+
+    // 좋아요 수/조회수 등 통계가 늦게 반영되어도 되는 최대 시간
+    @Value("${video.anonymous-feed.ttl-ms:300000}")
+    private long ttlMillis;
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Map<Feed, Snapshot> snapshots = new ConcurrentHashMap<>();
+    // 생성 중인 피드 (직렬화된 결과, 직렬화에 실패하면 null)
+    private final Map<LoadKey, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    /** 유효한 스냅샷이 있으면 그대로, 없으면 loader 로 만들어 저장 후 반환 */
+    public List<VideoResponseDTO> get(Feed feed, Supplier<List<VideoResponseDTO>> loader) {
+        long version = catalogVersion.get();
+        Snapshot snapshot = snapshots.get(feed);
+        if (snapshot != null && snapshot.version() == version
+                && snapshot.expiresAt() > System.currentTimeMillis()) {
+            try {
+                return objectMapper.readValue(snapshot.payload(), DTO_LIST);
+            } catch (IOException e) {
+                log.warn("피드 스냅샷 역직렬화 실패 ({}): {}", feed, e.getMessage());
+                snapshots.remove(feed, snapshot);
+            }
+        }
+
+        LoadKey key = new LoadKey(feed, version);
+        CompletableFuture<byte[]> mine = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return awaitLoad(feed, running, loader);
+        }
+
+        try {
+            List<VideoResponseDTO> loaded = loader.get();
+            byte[] payload = null;
+            try {
+                payload = objectMapper.writeValueAsBytes(loaded);
+                // 생성 도중 카탈로그가 바뀌었다면 오래된 목록이므로 저장하지 않음
+                if (catalogVersion.get() == version) {
+                    snapshots.put(feed, new Snapshot(version, System.currentTimeMillis() + ttlMillis, payload));
+                }
+            } catch (IOException e) {
+                log.warn("피드 스냅샷 직렬화 실패 ({}): {}", feed, e.getMessage());
+            }
+            mine.complete(payload);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** 다른 요청이 만들고 있는 피드를 기다렸다가 각자 복사본으로 반환 (생성 실패는 그대로 전달) */
+    private List<VideoResponseDTO> awaitLoad(Feed feed, CompletableFuture<byte[]> running,
+                                             Supplier<List<VideoResponseDTO>> loader) {
+        byte[] payload;
+        try {
+            payload = running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        if (payload != null) {
+            try {
+                return objectMapper.readValue(payload, DTO_LIST);
+            } catch (IOException e) {
+                log.warn("피드 스냅샷 역직렬화 실패 ({}): {}", feed, e.getMessage());
+            }
+        }
+        // 직렬화 결과를 쓸 수 없으면 직접 생성
+        return loader.get();
+    }
+
+    public long getCatalogVersion() {
+        return catalogVersion.get();
+    }
+
+    /** 수집 트랜잭션 커밋 이후 버전을 올리고 스냅샷 폐기 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(VideoCatalogChangedEvent event) {
+        long version = catalogVersion.incrementAndGet();
+        snapshots.clear();
+        log.debug("카탈로그 변경({}, {}건) → 비로그인 피드 스냅샷 폐기 (version={})",
+                event.source(), event.changedCount(), version);
+    }
+}
@@ -0,0 +1,173 @@
+package com.minute.video.service;
+
+import com.minute.common.text.AhoCorasickMatcher;
+import com.minute.video.entity.VideoFilterRule.Polarity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 컴파일된 필터 규칙 묶음 (불변)
+ * - 모든 규칙의 키워드를 하나의 Aho-Corasick 오토마톤으로 합쳐 두고,
+ *   텍스트를 한 번 훑어 규칙별 positive/negative 매칭 수를 계산합니다.
+ * - 규칙이 바뀌면 새 인스턴스를 만들어 통째로 교체합니다.
+ */
+public final class FilterRuleSet {
+
+    private final long version;
+    // 규칙 내용으로 계산한 지문 (재시작해도 같은 규칙이면 같은 값)
+    private final long fingerprint;
+    // 정규화된 원본 정의 (규칙 이름 → 극성 → 키워드), 변경 여부 비교용
+    private final Map<String, Map<Polarity, Set<String>>> definition;
+    private final Map<String, Integer> ruleIndex;
+    private final AhoCorasickMatcher matcher;
+    // 패턴 ID → 규칙 인덱스 / 극성
+    private final int[] patternRule;
+    private final boolean[] patternNegative;
+
+    private FilterRuleSet(long version, Map<String, Map<Polarity, Set<String>>> definition) {
+        this.version = version;
+        this.definition = definition;
+        this.fingerprint = fingerprint(definition);
+        this.ruleIndex = new HashMap<>();
+
+        List<String> patterns = new ArrayList<>();
+        List<Integer> rules = new ArrayList<>();
+        List<Boolean> negatives = new ArrayList<>();
+        for (Map.Entry<String, Map<Polarity, Set<String>>> rule : definition.entrySet()) {
+            int index = ruleIndex.size();
+            ruleIndex.put(rule.getKey(), index);
+            for (Map.Entry<Polarity, Set<String>> byPolarity : rule.getValue().entrySet()) {
+                for (String keyword : byPolarity.getValue()) {
+                    patterns.add(keyword);
+                    rules.add(index);
+                    negatives.add(byPolarity.getKey() == Polarity.NEGATIVE);
+                }
+            }
+        }
+        this.matcher = AhoCorasickMatcher.compile(patterns);
+        this.patternRule = rules.stream().mapToInt(Integer::intValue).toArray();
+        this.patternNegative = new boolean[negatives.size()];
+        for (int i = 0; i < negatives.size(); i++) {
+            patternNegative[i] = negatives.get(i);
+        }
+    }
+
+    /** 규칙 정의로 생성 (규칙 이름/키워드는 소문자로 정규화) */
+    public static FilterRuleSet compile(long version, Map<String, ? extends Map<Polarity, ? extends Collection<String>>> rules) {
+        return new FilterRuleSet(version, normalize(rules));
+    }
+
+    public static Map<String, Map<Polarity, Set<String>>> normalize(Map<String, ? extends Map<Polarity, ? extends Collection<String>>> rules) {
+        Map<String, Map<Polarity, Set<String>>> normalized = new LinkedHashMap<>();
+        rules.forEach((name, byPolarity) -> {
+            Map<Polarity, Set<String>> target = normalized.computeIfAbsent(
+                    name.toLowerCase(Locale.ROOT), k -> new LinkedHashMap<>());
+            byPolarity.forEach((polarity, keywords) -> {
+                Set<String> set = target.computeIfAbsent(polarity, p -> new LinkedHashSet<>());
+                for (String kw : keywords) {
+                    if (kw != null && !kw.isBlank()) {
+                        set.add(kw.trim().toLowerCase(Locale.ROOT));
+                    }
+                }
+            });
+        });
+        return Collections.unmodifiableMap(normalized);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public Map<String, Map<Polarity, Set<String>>> getDefinition() {
+        return definition;
+    }
+
+    /** 규칙 이름/극성/키워드를 정렬한 뒤 64비트 FNV-1a 해시 */
+    private static long fingerprint(Map<String, Map<Polarity, Set<String>>> definition) {
+        StringBuilder canonical = new StringBuilder();
+        new TreeMap<>(definition).forEach((name, byPolarity) -> {
+            canonical.append(name).append('\u0001');
+            new TreeMap<>(byPolarity).forEach((polarity, keywords) -> {
+                canonical.append(polarity.name()).append('\u0002');
+                new TreeSet<>(keywords).forEach(kw -> canonical.append(kw).append('\u0003'));
+            });
+        });
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < canonical.length(); i++) {
+            hash ^= canonical.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /** 여러 텍스트(제목, 설명 등)를 한 번씩 훑어 규칙별 매칭 수 계산 */
+    public Classification classify(CharSequence... texts) {
+        int[] positive = new int[ruleIndex.size()];
+        int[] negative = new int[ruleIndex.size()];
+        for (CharSequence text : texts) {
+            matcher.forEachMatch(text, id -> {
+                if (patternNegative[id]) {
+                    negative[patternRule[id]]++;
+                } else {
+                    positive[patternRule[id]]++;
+                }
+            });
+        }
+        return new Classification(ruleIndex, positive, negative);
+    }
+
+    /**
+     * 텍스트 하나에 대한 규칙별 분류 결과
+     * - 규칙이 없는 이름은 "제한 없음"으로 보고 isAllowed=true
+     */
+    public static final class Classification {
+
+        private final Map<String, Integer> ruleIndex;
+        private final int[] positive;
+        private final int[] negative;
+
+        private Classification(Map<String, Integer> ruleIndex, int[] positive, int[] negative) {
+            this.ruleIndex = ruleIndex;
+            this.positive = positive;
+            this.negative = negative;
+        }
+
+        public int positiveHits(String ruleName) {
+            Integer idx = index(ruleName);
+            return idx == null ? 0 : positive[idx];
+        }
+
+        public int negativeHits(String ruleName) {
+            Integer idx = index(ruleName);
+            return idx == null ? 0 : negative[idx];
+        }
+
+        /** negative 매칭이 없고 positive 매칭이 하나 이상이면 true (규칙이 없으면 true) */
+        public boolean isAllowed(String ruleName) {
+            Integer idx = index(ruleName);
+            if (idx == null) {
+                return true;
+            }
+            return negative[idx] == 0 && positive[idx] > 0;
+        }
+
+        private Integer index(String ruleName) {
+            return ruleName == null ? null : ruleIndex.get(ruleName.toLowerCase(Locale.ROOT));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.minute.video.service;
+
+import com.minute.common.exception.InvalidRequestParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 검색/시청 기록 키셋 커서 (기록 시각, 기록 ID)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 전달되어 내부 구조를 노출하지 않습니다.
+ * - 다음 페이지는 "시각이 더 이르거나, 같으면 ID 가 더 작은" 행부터 조회합니다.
+ * - 두 기록 테이블의 ID 가 int 이므로 ID 도 int 로 해석합니다 (범위를 넘으면 잘못된 커서).
+ */
+public record HistoryCursor(LocalDateTime at, int id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = at.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (없으면 null = 첫 페이지)
+     * @throws InvalidRequestParameterException 형식이 잘못되었거나 ID 가 int 범위를 넘는 경우
+     */
+    public static HistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new HistoryCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Integer.parseInt(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestParameterException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
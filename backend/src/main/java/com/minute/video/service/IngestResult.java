@@ -0,0 +1,18 @@
+package com.minute.video.service;
+
+/**
+ * 영상 수집 저장 결과 (요청 건수 중 신규/수정/변경 없음/건너뜀 + 새로 연결된 카테고리 수)
+ */
+public record IngestResult(int received, int inserted, int updated, int unchanged, int skipped, int linked) {
+
+    public static final IngestResult EMPTY = new IngestResult(0, 0, 0, 0, 0, 0);
+
+    public IngestResult plus(IngestResult other) {
+        return new IngestResult(received + other.received, inserted + other.inserted, updated + other.updated,
+                unchanged + other.unchanged, skipped + other.skipped, linked + other.linked);
+    }
+
+    public boolean hasChanges() {
+        return inserted + updated + linked > 0;
+    }
+}
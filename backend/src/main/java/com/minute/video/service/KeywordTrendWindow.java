@@ -0,0 +1,37 @@
+package com.minute.video.service;
+
+import com.minute.common.exception.InvalidRequestParameterException;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/** 인기 검색어 집계 기간 (ALL 은 기간 없이 누적 검색 횟수) */
+public enum KeywordTrendWindow {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofHours(24)),
+    WEEK(Duration.ofDays(7)),
+    ALL(null);
+
+    private final Duration duration;
+
+    KeywordTrendWindow(Duration duration) {
+        this.duration = duration;
+    }
+
+    /** 집계 기간 (ALL 이면 null) */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /** 쿼리 파라미터(hour/day/week/all) → enum, 값이 없으면 기본값 / 잘못된 값이면 InvalidRequestParameterException */
+    public static KeywordTrendWindow from(String value, KeywordTrendWindow defaultWindow) {
+        if (value == null || value.isBlank()) {
+            return defaultWindow;
+        }
+        try {
+            return KeywordTrendWindow.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestParameterException("지원하지 않는 기간입니다: " + value + " (hour, day, week, all)");
+        }
+    }
+}
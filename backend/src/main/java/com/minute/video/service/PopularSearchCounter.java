@@ -0,0 +1,100 @@
+package com.minute.video.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 검색어 횟수 쓰기 지연(write-behind) 누적기
+ * - 검색마다 popular_search 행을 읽고 저장하는 대신, 키워드별 LongAdder 에 메모리로 누적
+ * - 주기적으로 누적된 증가분만 "search_count = search_count + ?" 배치 UPSERT 로 반영 (종료 시에도 한 번 더 반영)
+ *   → 인기 키워드 한 행에 요청이 몰려도 직렬화되지 않고, 처음 보는 키워드를 동시에 INSERT 하다 충돌하지도 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PopularSearchCounter {
+
+    private static final String FLUSH_SQL = """
+            INSERT INTO popular_search (keyword, search_count, updated_at) VALUES (?, ?, NOW())
+            ON DUPLICATE KEY UPDATE search_count = search_count + VALUES(search_count), updated_at = NOW()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // keyword → 아직 DB에 반영되지 않은 검색 횟수 증가분
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /** 검색 횟수 1 증가 (메모리 누적) */
+    public void increment(String keyword) {
+        add(keyword, 1L);
+    }
+
+    /** 아직 DB에 반영되지 않은 검색 횟수 증가분 */
+    public long pendingCount(String keyword) {
+        LongAdder adder = pending.get(keyword);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${search.popular.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        // 키워드 순으로 정렬해서 쓰기 (다른 인스턴스와 같은 순서로 행을 잠가 교착 방지)
+        Map<String, Long> deltas = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+            // sumThenReset 은 셀 단위로 원자적으로 0으로 바꾸므로 동시에 들어온 증가분은 다음 반영 때 포함됩니다.
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.put(entry.getKey(), delta);
+            } else {
+                evictIdle(entry.getKey());
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((keyword, delta) -> batchArgs.add(new Object[]{keyword, delta}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            log.debug("인기 검색어 반영 완료: {}개 키워드", batchArgs.size());
+        } catch (Exception e) {
+            // 반영 실패 시 증가분을 되돌려 두고 다음 주기에 다시 시도
+            deltas.forEach(this::add);
+            log.warn("인기 검색어 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지난 반영 이후 검색이 없던 항목 제거
+     * - increment 도 같은 키의 compute 안에서 더하므로, 0 확인과 제거 사이에 증가분이 끼어들어 유실되지 않음
+     */
+    private void evictIdle(String keyword) {
+        pending.compute(keyword, (k, adder) -> adder == null || adder.sum() == 0 ? null : adder);
+    }
+
+    /** 증가분 누적 (제거와 같은 키 단위로 직렬화되도록 compute 사용) */
+    private void add(String keyword, long delta) {
+        pending.compute(keyword, (k, adder) -> {
+            LongAdder target = adder != null ? adder : new LongAdder();
+            target.add(delta);
+            return target;
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("=== PopularSearchCounter: 종료 전 인기 검색어 반영 ===");
+        flush();
+    }
+}
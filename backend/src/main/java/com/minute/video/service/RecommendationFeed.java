@@ -0,0 +1,12 @@
+package com.minute.video.service;
+
+/**
+ * 사용자별로 미리 계산해 둔 추천 결과 (videoId, 점수를 순위 순서대로 보관)
+ * - 엔티티 대신 ID/점수 배열만 들고 있어서 메모리 사용량이 작습니다.
+ */
+public record RecommendationFeed(String[] videoIds, int[] scores, long computedAt) {
+
+    public int size() {
+        return videoIds.length;
+    }
+}
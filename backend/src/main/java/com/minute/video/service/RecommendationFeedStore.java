@@ -0,0 +1,95 @@
+package com.minute.video.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 추천 피드 저장소 (인메모리)
+ * - 요청 경로에서는 여기 저장된 피드만 읽고, 계산은 스케줄러/이벤트가 담당합니다.
+ * - 최근 추천 목록을 조회한 "활성 사용자"만 주기적으로 갱신 대상이 됩니다.
+ */
+@Component
+public class RecommendationFeedStore {
+
+    // 피드가 이 시간보다 오래되면 요청 경로에서 사용하지 않고 다시 계산
+    @Value("${recommendation.feed.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    // 마지막 조회 후 이 시간이 지나면 비활성 사용자로 보고 피드를 제거
+    @Value("${recommendation.feed.active-window-hours:24}")
+    private long activeWindowHours;
+
+    private final Map<String, RecommendationFeed> feeds = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastAccessedAt = new ConcurrentHashMap<>();
+    private final Set<String> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    /** 유효한 피드가 있으면 반환 (조회 시각도 함께 갱신) */
+    public Optional<RecommendationFeed> find(String userId) {
+        long now = System.currentTimeMillis();
+        lastAccessedAt.put(userId, now);
+
+        RecommendationFeed feed = feeds.get(userId);
+        if (feed == null || now - feed.computedAt() > ttlMinutes * 60_000L) {
+            return Optional.empty();
+        }
+        return Optional.of(feed);
+    }
+
+    public void put(String userId, RecommendationFeed feed) {
+        feeds.put(userId, feed);
+    }
+
+    /** 신호가 바뀐 사용자를 갱신 대기열에 등록 (활성 사용자만) */
+    public void markDirty(String userId) {
+        if (userId != null && lastAccessedAt.containsKey(userId)) {
+            dirtyUsers.add(userId);
+        }
+    }
+
+    /** 갱신 대기 중인 사용자 목록을 꺼내고 비움 */
+    public List<String> drainDirtyUsers() {
+        List<String> drained = new ArrayList<>();
+        for (String userId : dirtyUsers) {
+            if (dirtyUsers.remove(userId)) {
+                drained.add(userId);
+            }
+        }
+        return drained;
+    }
+
+    /** 활성 사용자 중 피드가 없거나 refreshMillis보다 오래된 사용자 목록 */
+    public List<String> findActiveUsersToRefresh(long refreshMillis) {
+        long now = System.currentTimeMillis();
+        List<String> result = new ArrayList<>();
+        for (String userId : lastAccessedAt.keySet()) {
+            RecommendationFeed feed = feeds.get(userId);
+            if (feed == null || now - feed.computedAt() >= refreshMillis) {
+                result.add(userId);
+            }
+        }
+        return result;
+    }
+
+    /** 비활성 사용자의 피드와 접근 기록 제거 */
+    public int evictInactiveUsers() {
+        long threshold = System.currentTimeMillis() - activeWindowHours * 3_600_000L;
+        int evicted = 0;
+        for (Map.Entry<String, Long> entry : lastAccessedAt.entrySet()) {
+            if (entry.getValue() < threshold) {
+                String userId = entry.getKey();
+                lastAccessedAt.remove(userId);
+                feeds.remove(userId);
+                dirtyUsers.remove(userId);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+}
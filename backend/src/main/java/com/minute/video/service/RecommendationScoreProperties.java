@@ -0,0 +1,35 @@
+package com.minute.video.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천 점수 가중치 설정 (application.yml 의 recommendation.score.*)
+ * - 값을 지정하지 않으면 아래 기본값을 사용합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "recommendation.score")
+@Getter
+@Setter
+public class RecommendationScoreProperties {
+
+    // 좋아요한 영상
+    private int like = 5;
+
+    // 북마크한 영상
+    private int bookmark = 4;
+
+    // 제목에 최근 검색 키워드 포함
+    private int keyword = 2;
+
+    // 재생 횟수 구간: 1~lowPlayMax회, ~midPlayMax회, 그 이상
+    private int lowPlayMax = 2;
+    private int midPlayMax = 5;
+
+    // 재생 횟수 구간별 가산점
+    private int lowPlay = 1;
+    private int midPlay = 2;
+    private int highPlay = 3;
+}
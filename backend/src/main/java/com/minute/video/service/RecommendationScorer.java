@@ -0,0 +1,111 @@
+package com.minute.video.service;
+
+import com.minute.common.text.AhoCorasickMatcher;
+import com.minute.video.entity.Video;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 추천 후보 영상 점수 계산기
+ * - 사용자 신호는 해시 기반 Set/Map(UserSignals)으로 한 번만 만들어 두고,
+ *   후보마다 O(1) 조회 + 제목 1회 스캔으로 점수를 계산합니다.
+ * - 가중치는 RecommendationScoreProperties 로 설정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationScorer {
+
+    private final RecommendationScoreProperties properties;
+
+    /** 개별 영상 점수 계산 */
+    public int score(Video video, UserSignals signals) {
+        String videoId = video.getVideoId();
+        int score = 0;
+
+        // 좋아요한 영상
+        if (signals.likedVideoIds().contains(videoId)) {
+            score += properties.getLike();
+        }
+
+        // 북마크한 영상
+        if (signals.bookmarkedVideoIds().contains(videoId)) {
+            score += properties.getBookmark();
+        }
+
+        // 제목에 검색 키워드 포함
+        if (signals.keywordMatcher().matches(video.getVideoTitle())) {
+            score += properties.getKeyword();
+        }
+
+        // 재생 횟수 기반 보정
+        Integer playCount = signals.playCounts().get(videoId);
+        if (playCount != null && playCount > 0) {
+            if (playCount <= properties.getLowPlayMax()) {
+                score += properties.getLowPlay();
+            } else if (playCount <= properties.getMidPlayMax()) {
+                score += properties.getMidPlay();
+            } else {
+                score += properties.getHighPlay();
+            }
+        }
+
+        return score;
+    }
+
+    /**
+     * 점수 계산에 필요한 사용자 신호 묶음
+     * - playCounts 에 들어있는 영상은 이미 시청한 영상입니다.
+     */
+    public record UserSignals(Set<String> likedVideoIds,
+                              Set<String> bookmarkedVideoIds,
+                              KeywordMatcher keywordMatcher,
+                              Map<String, Integer> playCounts) {
+
+        public boolean hasWatched(String videoId) {
+            return playCounts.containsKey(videoId);
+        }
+    }
+
+    /**
+     * 검색 키워드 매처
+     * - 키워드를 미리 중복 제거해 Aho-Corasick 오토마톤으로 컴파일해 두어,
+     *   후보마다 키워드 수만큼 contains 하지 않고 제목을 한 번만 훑습니다.
+     */
+    public static final class KeywordMatcher {
+
+        private static final KeywordMatcher EMPTY = new KeywordMatcher(null);
+
+        private final AhoCorasickMatcher matcher;
+
+        private KeywordMatcher(AhoCorasickMatcher matcher) {
+            this.matcher = matcher;
+        }
+
+        public static KeywordMatcher compile(Collection<String> rawKeywords) {
+            if (rawKeywords == null || rawKeywords.isEmpty()) {
+                return EMPTY;
+            }
+            Set<String> normalized = new LinkedHashSet<>();
+            for (String kw : rawKeywords) {
+                if (kw != null && !kw.isBlank()) {
+                    normalized.add(kw.toLowerCase(Locale.ROOT));
+                }
+            }
+            if (normalized.isEmpty()) {
+                return EMPTY;
+            }
+            return new KeywordMatcher(AhoCorasickMatcher.compile(new ArrayList<>(normalized)));
+        }
+
+        public boolean matches(String text) {
+            return matcher != null && matcher.containsAny(text);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.minute.video.service;
+
+import com.minute.common.text.WeightedPrefixTrie;
+import com.minute.video.entity.PopularSearch;
+import com.minute.video.event.SearchRecordedEvent;
+import com.minute.video.repository.PopularSearchRepository;
+import com.minute.video.repository.SearchHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색어 자동완성
+ * - 인기 검색어: popular_search 에서 min-count 번 이상 검색된 상위 max-terms 개를 검색 횟수 가중치로
+ *   WeightedPrefixTrie 에 올려 두고(기동 시 1회), 검색이 기록될 때마다(SearchRecordedEvent, 커밋 후) 그 검색어 가중치만 1 올림
+ * - 트라이에 없는 검색어는 바로 올리지 않고 따로 세다가 min-count 번이 되면 올림
+ *   (한 번 들어온 임의의 문자열이 다른 사용자의 제안에 바로 보이지 않도록)
+ * - prune-ms 마다 가중치를 decay-factor 만큼 줄이고 min-count 미만이 된 검색어를 지워 트라이 크기를 제한
+ * - 최근 검색어: 사용자별 최근 검색어(중복 제거) recent-size 개를 최근 조회한 max-users 명까지 LRU 로 보관,
+ *   처음 조회할 때만 DB 에서 읽고 이후에는 기록 이벤트로 맨 앞에 붙임
+ * - 트라이가 준비되기 전에는 popular_search 접두어 조회로 대체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchAutocomplete {
+
+    private static final String LOAD_SQL = "SELECT keyword, search_count FROM popular_search"
+            + " WHERE search_count >= ? ORDER BY search_count DESC LIMIT ?";
+
+    /** 한 번에 돌려줄 수 있는 최대 제안 수 (트라이 노드별 상위 목록 크기) */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PopularSearchRepository popularSearchRepository;
+    private final SearchHistoryRepository searchHistoryRepository;
+
+    @Value("${search.autocomplete.recent-size:20}")
+    private int recentSize;
+
+    @Value("${search.autocomplete.max-users:10000}")
+    private int maxUsers;
+
+    // 인기 검색어 제안에 올라가기 위한 최소 검색 횟수
+    @Value("${search.autocomplete.min-count:3}")
+    private int minCount;
+
+    // 트라이에 담을 최대 검색어 수
+    @Value("${search.autocomplete.max-terms:50000}")
+    private int maxTerms;
+
+    // 트라이에 오르기 전 횟수를 세는 검색어 최대 수 (넘으면 새 검색어는 다음 정리 때까지 세지 않음)
+    @Value("${search.autocomplete.max-candidates:10000}")
+    private int maxCandidates;
+
+    // 정리할 때마다 가중치에 곱하는 값
+    @Value("${search.autocomplete.decay-factor:0.5}")
+    private double decayFactor;
+
+    // 트라이와 빌드 상태는 lock 으로 보호 (조회는 동시에, 갱신은 배타적으로)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private WeightedPrefixTrie popular;
+    private boolean building;
+    // 빌드 중 기록된 검색어 (순위용이라 DB 에 이미 반영된 한두 건이 중복돼도 무방)
+    private final List<String> pendingDuringBuild = new ArrayList<>();
+    // 아직 트라이에 없는 검색어의 검색 횟수 (정규화한 키 → 처음 들어온 표기와 횟수)
+    private final Map<String, Candidate> candidates = new HashMap<>();
+
+    // 아래 상태는 recent 로 동기화
+    private final LinkedHashMap<String, List<String>> recent = new LinkedHashMap<>(256, 0.75f, true);
+    // 최근 검색어 변경 횟수 (DB 를 읽는 도중 바뀌었으면 읽은 값을 캐시하지 않음)
+    private long recentWrites;
+
+    /** popular_search 전체로 트라이 빌드 (빌드가 끝난 뒤 통째로 교체) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        lock.writeLock().lock();
+        try {
+            building = true;
+            pendingDuringBuild.clear();
+            candidates.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        WeightedPrefixTrie fresh = new WeightedPrefixTrie(MAX_SUGGESTIONS);
+        boolean loaded = false;
+        try {
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                fresh.add(rs.getString("keyword"), rs.getLong("search_count"));
+            }, minCount, maxTerms);
+            loaded = true;
+        } catch (Exception e) {
+            log.warn("자동완성 트라이 빌드 실패 (인기 검색어는 DB 조회로 대체): {}", e.getMessage());
+        }
+
+        lock.writeLock().lock();
+        try {
+            WeightedPrefixTrie target = loaded ? fresh : popular;
+            if (target != null) {
+                pendingDuringBuild.forEach(keyword -> recordPopular(target, keyword));
+            }
+            pendingDuringBuild.clear();
+            popular = target;
+            building = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (loaded) {
+            log.info("=== SearchAutocomplete: 인기 검색어 {}개 로딩 완료 ===", fresh.size());
+        }
+    }
+
+    /** 검색 기록 커밋 이후 인기 검색어 가중치 + 최근 검색어 갱신 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchRecorded(SearchRecordedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                pendingDuringBuild.add(event.keyword());
+            } else if (popular != null) {
+                recordPopular(popular, event.keyword());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        synchronized (recent) {
+            recentWrites++;
+            List<String> cached = recent.get(event.userId());
+            if (cached != null) {
+                recent.put(event.userId(), prepend(cached, event.keyword()));
+            }
+        }
+    }
+
+    /** 트라이에 있으면 가중치 1 증가, 없으면 따로 세다가 min-count 번이 되면 올림 (write lock 안에서 호출) */
+    private void recordPopular(WeightedPrefixTrie trie, String keyword) {
+        if (trie.contains(keyword)) {
+            trie.add(keyword, 1);
+            return;
+        }
+        String key = WeightedPrefixTrie.normalize(keyword);
+        Candidate candidate = candidates.get(key);
+        if (candidate == null) {
+            if (key.isEmpty() || candidates.size() >= maxCandidates) {
+                return;
+            }
+            candidate = new Candidate(keyword);
+            candidates.put(key, candidate);
+        }
+        candidate.count++;
+        // 트라이가 가득 찼으면 다음 정리 때 자리가 날 때까지 계속 셈
+        if (candidate.count >= minCount && trie.size() < maxTerms) {
+            trie.add(candidate.keyword, candidate.count);
+            candidates.remove(key);
+        }
+    }
+
+    /** 인기 검색어 가중치를 줄이고 min-count 미만이 된 검색어를 지움 (트라이에 오르지 못한 횟수도 비움) */
+    @Scheduled(initialDelayString = "${search.autocomplete.prune-ms:86400000}",
+            fixedDelayString = "${search.autocomplete.prune-ms:86400000}")
+    public void prune() {
+        lock.writeLock().lock();
+        try {
+            candidates.clear();
+            if (popular == null || building) {
+                return;
+            }
+            int before = popular.size();
+            popular = popular.decayed(decayFactor, minCount, maxTerms);
+            log.info("자동완성 인기 검색어 정리: {}개 → {}개", before, popular.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 사용자의 최근 검색어를 버리고 다음 조회 때 다시 읽음 (검색 기록 삭제 등) */
+    public void forgetRecent(String userId) {
+        synchronized (recent) {
+            recentWrites++;
+            recent.remove(userId);
+        }
+    }
+
+    /** prefix 로 시작하는 인기 검색어 (검색 횟수순, 최대 MAX_SUGGESTIONS 개) */
+    public List<String> popularKeywords(String prefix, int limit) {
+        int capped = Math.min(Math.max(limit, 0), MAX_SUGGESTIONS);
+        lock.readLock().lock();
+        try {
+            if (popular != null) {
+                return popular.complete(prefix, capped).stream()
+                        .map(WeightedPrefixTrie.Completion::keyword)
+                        .toList();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        String trimmed = prefix == null ? "" : prefix.strip();
+        List<PopularSearch> rows = trimmed.isEmpty()
+                ? popularSearchRepository.findTop5ByOrderBySearchCountDesc()
+                : popularSearchRepository.findTop10ByKeywordStartingWithOrderBySearchCountDesc(trimmed);
+        return rows.stream()
+                .map(PopularSearch::getKeyword)
+                .limit(capped)
+                .toList();
+    }
+
+    /** prefix 로 시작하는 사용자의 최근 검색어 (최신순, 중복 제거) */
+    public List<String> recentKeywords(String userId, String prefix, int limit) {
+        if (userId == null || userId.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        String key = WeightedPrefixTrie.normalize(prefix);
+        List<String> matched = new ArrayList<>(Math.min(limit, recentSize));
+        for (String keyword : loadRecent(userId)) {
+            if (WeightedPrefixTrie.normalize(keyword).startsWith(key)) {
+                matched.add(keyword);
+                if (matched.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+
+    private List<String> loadRecent(String userId) {
+        long writesBefore;
+        synchronized (recent) {
+            List<String> cached = recent.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            writesBefore = recentWrites;
+        }
+
+        // 같은 검색어가 반복될 수 있어 넉넉히 읽은 뒤 중복 제거
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String keyword : searchHistoryRepository.findRecentKeywords(userId, PageRequest.of(0, recentSize * 3))) {
+            distinct.add(keyword);
+            if (distinct.size() == recentSize) {
+                break;
+            }
+        }
+        List<String> loaded = List.copyOf(distinct);
+
+        synchronized (recent) {
+            if (recentWrites == writesBefore) {
+                recent.put(userId, loaded);
+                Iterator<String> eldest = recent.keySet().iterator();
+                while (recent.size() > Math.max(1, maxUsers) && eldest.hasNext()) {
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private List<String> prepend(List<String> keywords, String keyword) {
+        List<String> updated = new ArrayList<>(Math.min(keywords.size() + 1, recentSize));
+        updated.add(keyword);
+        for (String existing : keywords) {
+            if (updated.size() == recentSize) {
+                break;
+            }
+            if (!existing.equals(keyword)) {
+                updated.add(existing);
+            }
+        }
+        return List.copyOf(updated);
+    }
+
+    private static final class Candidate {
+        final String keyword;
+        int count;
+
+        Candidate(String keyword) {
+            this.keyword = keyword;
+        }
+    }
+}
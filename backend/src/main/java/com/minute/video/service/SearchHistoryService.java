@@ -1,20 +1,20 @@
 package com.minute.video.service;
 
-import com.minute.user.entity.User;
+import com.minute.common.exception.InvalidRequestParameterException;
 import com.minute.user.repository.UserRepository;
-import com.minute.video.entity.PopularSearch;
-import com.minute.video.entity.SearchHistory;
+import com.minute.video.dto.HistoryPageResponseDTO;
 import com.minute.video.dto.SearchHistoryRequestDTO;
+import com.minute.video.dto.SearchAutocompleteDTO;
 import com.minute.video.dto.SearchHistoryResponseDTO;
 import com.minute.video.dto.SearchSuggestionsDTO;
-import com.minute.video.repository.PopularSearchRepository;
 import com.minute.video.repository.SearchHistoryRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,87 +24,146 @@ public class SearchHistoryService {
 
     private final SearchHistoryRepository searchHistoryRepository;
     private final UserRepository userRepository;
-    private final PopularSearchRepository popularSearchRepository;
+    private final SearchAutocomplete searchAutocomplete;
+    private final SearchHistoryWriter searchHistoryWriter;
+    private final TrendingKeywordService trendingKeywordService;
 
-    // 사용자의 검색어 저장 + 인기 검색어 집계
-    @Transactional
+    // search_history.keyword / popular_search.keyword 컬럼 길이
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 사용자의 검색어 저장 + 인기 검색어 집계 (큐에 넣고 바로 반환, 저장/집계는 SearchHistoryWriter 가 배치로)
     public void saveSearchHistory(SearchHistoryRequestDTO searchRequestDTO) {
-        User user = userRepository.findById(searchRequestDTO.getUserId())
-                .orElseThrow(() -> new RuntimeException("User not found with ID: " + searchRequestDTO.getUserId()));
-
-        // 항상 현재 시각을 사용
-        LocalDateTime now = LocalDateTime.now();
-
-        // 1. 개인 검색 이력 저장
-        SearchHistory searchHistory = SearchHistory.builder()
-                .user(user)
-                .keyword(searchRequestDTO.getKeyword())
-                .searchedAt(now)
-                .build();
-        searchHistoryRepository.save(searchHistory);
-
-        // 2. 인기 검색어 카운트 1 증가 (없으면 새로 생성)
-        PopularSearch popularSearch = popularSearchRepository.findById(searchRequestDTO.getKeyword())
-                .orElseGet(()->{
-                    PopularSearch ps = new PopularSearch();
-                    ps.setKeyword(searchRequestDTO.getKeyword());
-                    ps.setSearchCount(0);
-                    return ps;
-                });
-        popularSearch.setSearchCount(popularSearch.getSearchCount() + 1);
-        popularSearchRepository.save(popularSearch);
+        String userId = searchRequestDTO.getUserId();
+        if (userId == null || userId.isBlank()) {
+            throw new InvalidRequestParameterException("userId는 필수입니다.");
+        }
+        String keyword = normalizeKeyword(searchRequestDTO.getKeyword());
+        // 없는 사용자는 큐에 넣기 전에 거부 (배치에서 FK 위반으로 조용히 버려지지 않도록)
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found with ID: " + userId);
+        }
+
+        // 항상 현재 시각을 사용 (요청의 searchedAt 은 무시)
+        searchHistoryWriter.record(userId, keyword);
     }
 
+    /** 앞뒤 공백 제거 + 연속 공백(개행 포함) 하나로, 비었거나 컬럼 길이를 넘으면 InvalidRequestParameterException */
+    private static String normalizeKeyword(String keyword) {
+        String normalized = keyword == null ? "" : keyword.strip().replaceAll("\\s+", " ");
+        if (normalized.isEmpty()) {
+            throw new InvalidRequestParameterException("검색어는 비어 있을 수 없습니다.");
+        }
+        if (normalized.length() > MAX_KEYWORD_LENGTH) {
+            throw new InvalidRequestParameterException("검색어는 " + MAX_KEYWORD_LENGTH + "자 이하여야 합니다.");
+        }
+        return normalized;
+    }
 
-    // 사용자의 검색 기록 조회(최신순)
+    // 사용자의 검색 기록 조회(최신순, 최근 MAX_PAGE_SIZE 건 / 이후는 getSearchHistoryPage 로)
     @Transactional(readOnly = true)
     public List<SearchHistoryResponseDTO> getUserSearchHistory(String userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found: " + userId));
-
-        return searchHistoryRepository.findByUserUserIdOrderBySearchedAtDesc(userId).stream()
-                .map(searchHistory -> new SearchHistoryResponseDTO(
-                        searchHistory.getUser().getUserId(),
-                        searchHistory.getSearchId(),
-                        searchHistory.getKeyword(),
-                        searchHistory.getSearchedAt()))
-                .collect(Collectors.toList());
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found: " + userId);
+        }
+        return getSearchHistoryPage(userId, null, MAX_PAGE_SIZE).getItems();
     }
 
-    // 최신 검색 키워드 (중복 제거 후 최대 5개)
-    public List<String> getRecentKeywords(String userId){
-        userRepository.findById(userId)
-                .orElseThrow(()-> new RuntimeException("User not found: " + userId));
+    // 사용자의 검색 기록 키셋 페이지 (최신순, 커서는 마지막 기록의 (검색 시각, searchId))
+    @Transactional(readOnly = true)
+    public HistoryPageResponseDTO<SearchHistoryResponseDTO> getSearchHistoryPage(String userId, String cursor, int size) {
+        HistoryCursor after = HistoryCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<SearchHistoryRepository.SearchHistoryRow> rows = searchHistoryRepository.findPageByUserId(userId,
+                after != null ? after.at() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<SearchHistoryRepository.SearchHistoryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            SearchHistoryRepository.SearchHistoryRow last = page.get(page.size() - 1);
+            nextCursor = new HistoryCursor(last.getSearchedAt(), last.getSearchId()).encode();
+        }
+        return new HistoryPageResponseDTO<>(toResponses(userId, page), nextCursor, hasNext);
+    }
 
-        return searchHistoryRepository.findByUserUserIdOrderBySearchedAtDesc(userId).stream()
-                .map(SearchHistory::getKeyword)
-                .distinct()
-                .limit(5)
+    private static List<SearchHistoryResponseDTO> toResponses(String userId,
+                                                              List<SearchHistoryRepository.SearchHistoryRow> rows) {
+        return rows.stream()
+                .map(row -> new SearchHistoryResponseDTO(
+                        userId,
+                        row.getSearchId(),
+                        row.getKeyword(),
+                        row.getSearchedAt()))
                 .collect(Collectors.toList());
     }
 
-    // 인기 검색 키워드 (상위 5개)
+    // 최신 검색 키워드 (중복 제거 후 최대 5개, 자동완성의 사용자별 최근 검색어 사용)
+    public List<String> getRecentKeywords(String userId){
+        return searchAutocomplete.recentKeywords(userId, "", 5);
+    }
+
+    // 인기 검색 키워드 (최근 24시간 상위 5개)
     public List<String> getPopularKeywords(){
-        return popularSearchRepository.findTop5ByOrderBySearchCountDesc().stream()
-                .map(PopularSearch::getKeyword)
-                .collect(Collectors.toList());
+        return getPopularKeywords(KeywordTrendWindow.DAY);
+    }
+
+    // 기간별 인기 검색 키워드 (상위 5개, 기간 안의 검색이 부족하면 누적 인기 검색어로 채움)
+    public List<String> getPopularKeywords(KeywordTrendWindow window){
+        List<String> keywords = new ArrayList<>(trendingKeywordService.getTopKeywords(window, 5));
+        if (keywords.size() < 5) {
+            for (String keyword : searchAutocomplete.popularKeywords("", 5)) {
+                if (keywords.size() == 5) {
+                    break;
+                }
+                if (!keywords.contains(keyword)) {
+                    keywords.add(keyword);
+                }
+            }
+        }
+        return keywords;
     }
 
-    // 검색창에 최신검색어, 인기검색어 나오게
+    // 검색창에 최신검색어, 인기검색어 나오게 (최근 기록은 5건만 조회)
+    @Transactional(readOnly = true)
     public SearchSuggestionsDTO getSearchSuggestions(String userId){
-        List<SearchHistoryResponseDTO> recent = getUserSearchHistory(userId)
-                .stream()
-                .limit(5) // 최대 5개
-                .collect(Collectors.toList());
+        List<SearchHistoryResponseDTO> recent = userId == null || userId.isBlank()
+                ? List.of()
+                : toResponses(userId, searchHistoryRepository.findPageByUserId(userId, null, null, PageRequest.of(0, 5)));
 
         List<String> popular = getPopularKeywords();  // 상위 5개
         return new SearchSuggestionsDTO(recent,popular);
     }
 
+    // 검색창 입력 중 자동완성 (최근 검색어 우선, 나머지는 인기 검색어로 채움)
+    public SearchAutocompleteDTO autocomplete(String userId, String prefix, int size) {
+        int limit = Math.min(Math.max(size, 1), SearchAutocomplete.MAX_SUGGESTIONS);
+        List<String> recent = searchAutocomplete.recentKeywords(userId, prefix, Math.min(limit, 5));
+
+        // 최근 검색어와 겹칠 수 있으므로 limit 만큼 받아서 중복 제외 후 남은 자리만 채움
+        List<String> popular = new ArrayList<>();
+        for (String keyword : searchAutocomplete.popularKeywords(prefix, limit)) {
+            if (recent.size() + popular.size() == limit) {
+                break;
+            }
+            if (!recent.contains(keyword)) {
+                popular.add(keyword);
+            }
+        }
+        return new SearchAutocompleteDTO(prefix, recent, popular);
+    }
+
     // 최근 검색어 삭제
     @Transactional
     public void deleteSearchHistory(Integer searchId) {
-        searchHistoryRepository.deleteById(searchId);
+        searchHistoryRepository.findById(searchId).ifPresent(searchHistory -> {
+            searchHistoryRepository.delete(searchHistory);
+            if (searchHistory.getUser() != null) {
+                searchAutocomplete.forgetRecent(searchHistory.getUser().getUserId());
+            }
+        });
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.minute.video.service;
+
+import com.minute.common.batch.BufferedBatchWriter;
+import com.minute.video.event.SearchRecordedEvent;
+import com.minute.video.event.UserActivityEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색 기록 비동기 저장기
+ * - 검색 기록 API는 이벤트를 큐에 넣기만 하고 바로 응답
+ * - 전용 쓰기 스레드가 JDBC 배치 INSERT 로 search_history 에 저장하고,
+ *   저장된 검색만 인기 검색어 횟수(PopularSearchCounter)에 더함
+ *   (존재하지 않는 사용자의 검색은 외래키 위반으로 버려지므로 인기 검색어에도 집계되지 않음)
+ */
+@Component
+public class SearchHistoryWriter extends BufferedBatchWriter<SearchHistoryWriter.SearchEvent> {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO search_history (user_id, keyword, searched_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PopularSearchCounter popularSearchCounter;
+
+    public SearchHistoryWriter(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               PopularSearchCounter popularSearchCounter,
+                               @Value("${search-history.writer.capacity:10000}") int capacity,
+                               @Value("${search-history.writer.batch-size:200}") int batchSize,
+                               @Value("${search-history.writer.max-wait-ms:200}") long maxWaitMillis,
+                               @Value("${search-history.writer.spill-file:./data/search-history-spill.log}") String spillFile) {
+        super("search-history", capacity, batchSize, maxWaitMillis, spillFile);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.popularSearchCounter = popularSearchCounter;
+    }
+
+    /** 검색 이벤트 등록 (요청 스레드에서 호출, 블로킹 없음) */
+    public void record(String userId, String keyword) {
+        submit(new SearchEvent(userId, keyword, LocalDateTime.now()));
+    }
+
+    @Override
+    protected void writeBatch(List<SearchEvent> batch) {
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (SearchEvent e : batch) {
+            args.add(new Object[]{e.userId(), e.keyword(), Timestamp.valueOf(e.searchedAt())});
+        }
+        // 일부 행이 실패하면 배치 전체를 롤백해야 한 건씩 재시도할 때 중복 저장되지 않음
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, args));
+    }
+
+    /** 저장이 끝난 검색만 인기 검색어 집계 + 자동완성/급상승 검색어/추천 피드 갱신 이벤트 발행 */
+    @Override
+    protected void afterBatchWritten(List<SearchEvent> batch) {
+        Set<String> userIds = new LinkedHashSet<>();
+        for (SearchEvent e : batch) {
+            popularSearchCounter.increment(e.keyword());
+            eventPublisher.publishEvent(new SearchRecordedEvent(e.userId(), e.keyword(), e.searchedAt()));
+            userIds.add(e.userId());
+        }
+        userIds.forEach(userId ->
+                eventPublisher.publishEvent(new UserActivityEvent(userId, UserActivityEvent.ActivityType.SEARCH)));
+    }
+
+    @Override
+    protected String serialize(SearchEvent event) {
+        // 키워드는 공백을 정리해서 받지만, 혹시 모를 구분자 충돌을 피하려고 마지막 필드로 둠
+        return event.userId() + '\t' + event.searchedAt() + '\t' + event.keyword();
+    }
+
+    @Override
+    protected SearchEvent deserialize(String line) {
+        String[] parts = line.split("\t", 3);
+        return new SearchEvent(parts[0], parts[2], LocalDateTime.parse(parts[1]));
+    }
+
+    public record SearchEvent(String userId, String keyword, LocalDateTime searchedAt) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.minute.video.service;
+
+import com.minute.common.time.IsoDurations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 숏츠로 인정할 영상 길이 범위 (youtube.shorts.min-seconds ~ max-seconds, 양 끝 포함)
+ * - 길이를 알 수 없거나 0초(라이브/예정 영상)는 제외
+ */
+@Component
+public class ShortsDurationPolicy {
+
+    @Value("${youtube.shorts.min-seconds:1}")
+    private long minSeconds;
+
+    @Value("${youtube.shorts.max-seconds:60}")
+    private long maxSeconds;
+
+    /** contentDetails.duration(ISO 8601) 이 숏츠 길이 범위 안인지 */
+    public boolean accepts(CharSequence isoDuration) {
+        long seconds = IsoDurations.toSeconds(isoDuration);
+        return seconds > 0 && seconds >= minSeconds && seconds <= maxSeconds;
+    }
+}
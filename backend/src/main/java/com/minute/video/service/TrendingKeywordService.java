@@ -0,0 +1,170 @@
+package com.minute.video.service;
+
+import com.minute.common.trend.BucketedCounter;
+import com.minute.video.event.SearchRecordedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 기간별 급상승(인기) 검색어 집계
+ * - 저장된 검색(SearchRecordedEvent)을 10분 단위 버킷에 누적 (popular_search 정렬 없음)
+ * - 1시간/24시간/7일 윈도우별 상위 TOP_K 를 주기적으로 계산해 두고 요청 시 그대로 반환
+ * - 최근 버킷에서 지난 스냅샷 이후 늘어난 만큼만 search_keyword_trend 에 주기적으로 더하고(종료 시에도 한 번),
+ *   시작 시 최근 7일치를 다시 읽어 복구
+ *   (값을 덮어쓰면 여러 인스턴스가 같은 행을 서로 덮어쓰므로, 인스턴스별 증가분을 누적)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingKeywordService {
+
+    private static final long BUCKET_MILLIS = Duration.ofMinutes(10).toMillis();
+    private static final long RETENTION_MILLIS = KeywordTrendWindow.WEEK.getDuration().toMillis() + BUCKET_MILLIS;
+    public static final int TOP_K = 10;
+
+    private static final String RESTORE_SQL =
+            "SELECT bucket_start, keyword, search_count FROM search_keyword_trend WHERE bucket_start >= ?";
+    private static final String SNAPSHOT_SQL = """
+            INSERT INTO search_keyword_trend (bucket_start, keyword, search_count) VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE search_count = search_count + VALUES(search_count)
+            """;
+    private static final String PURGE_SQL = "DELETE FROM search_keyword_trend WHERE bucket_start < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BucketedCounter<String> keywordCounter = new BucketedCounter<>(BUCKET_MILLIS, RETENTION_MILLIS);
+
+    // 윈도우별 상위 검색어 (refresh 때마다 통째로 교체)
+    private volatile Map<KeywordTrendWindow, List<String>> topKeywords = new EnumMap<>(KeywordTrendWindow.class);
+
+    // 다음 스냅샷에서 다시 쓸 가장 오래된 시각 (그 이전 버킷은 더 늘지 않으므로 이미 저장된 값 그대로)
+    private long snapshotFrom = System.currentTimeMillis() - BUCKET_MILLIS;
+
+    // 버킷 시작 시각 → 키워드별로 DB 에 이미 반영된 횟수 (복구로 읽은 값 포함, snapshot 에서만 갱신)
+    private final NavigableMap<Long, Map<String, Long>> writtenCounts = new TreeMap<>();
+
+    @EventListener
+    public void onSearchRecorded(SearchRecordedEvent event) {
+        keywordCounter.increment(event.keyword(), toMillis(event.searchedAt()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        LocalDateTime from = toDateTime(System.currentTimeMillis() - RETENTION_MILLIS);
+        Map<Long, Map<String, Long>> restored = new HashMap<>();
+        try {
+            jdbcTemplate.query(RESTORE_SQL, rs -> {
+                String keyword = rs.getString("keyword");
+                long bucketStart = toMillis(rs.getTimestamp("bucket_start").toLocalDateTime());
+                restored.computeIfAbsent(bucketStart, b -> new HashMap<>())
+                        .merge(keyword, rs.getLong("search_count"), Long::sum);
+            }, Timestamp.valueOf(from));
+            // 읽어 온 값은 이미 DB 에 있으므로 반영된 횟수로도 기록해서 다음 스냅샷에서 다시 더하지 않음
+            // (스냅샷이 둘 중 하나만 보지 않도록 같은 락 안에서 함께 반영)
+            synchronized (this) {
+                restored.forEach((bucketStart, counts) -> counts.forEach((keyword, count) -> {
+                    keywordCounter.add(keyword, bucketStart, count);
+                    writtenCounts.computeIfAbsent(bucketStart, b -> new HashMap<>()).merge(keyword, count, Long::sum);
+                }));
+            }
+            refresh();
+            log.info("=== TrendingKeywordService: 최근 7일 검색어 스냅샷으로 집계 복구 완료 ===");
+        } catch (Exception e) {
+            log.warn("급상승 검색어 복구 실패 (이후 검색 이벤트로만 집계): {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelay = 30_000, fixedDelayString = "${trending.keyword.refresh-ms:30000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        keywordCounter.evictExpired(now);
+
+        Map<KeywordTrendWindow, List<String>> next = new EnumMap<>(KeywordTrendWindow.class);
+        for (KeywordTrendWindow window : KeywordTrendWindow.values()) {
+            if (window.getDuration() == null) {
+                continue;
+            }
+            next.put(window, keywordCounter.topK(window.getDuration().toMillis(), TOP_K, now).stream()
+                    .map(BucketedCounter.Ranked::key)
+                    .toList());
+        }
+        topKeywords = next;
+    }
+
+    /** 최근 버킷의 증가분을 DB 에 더하고 보관 기간이 지난 스냅샷 삭제 */
+    @Scheduled(initialDelay = 60_000, fixedDelayString = "${trending.keyword.snapshot-ms:60000}")
+    public synchronized void snapshot() {
+        long now = System.currentTimeMillis();
+        Map<Long, Map<String, Long>> current = keywordCounter.snapshotSince(snapshotFrom);
+        List<Object[]> args = new ArrayList<>();
+        current.forEach((bucketStart, counts) -> {
+            Timestamp bucket = Timestamp.valueOf(toDateTime(bucketStart));
+            Map<String, Long> written = writtenCounts.getOrDefault(bucketStart, Collections.emptyMap());
+            counts.forEach((keyword, count) -> {
+                long delta = count - written.getOrDefault(keyword, 0L);
+                if (delta > 0) {
+                    args.add(new Object[]{bucket, keyword, delta});
+                }
+            });
+        });
+
+        try {
+            if (!args.isEmpty()) {
+                // 일부만 더해진 채 실패하면 다음 주기에 같은 증가분을 다시 더하게 되므로 한 트랜잭션으로 씀
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(SNAPSHOT_SQL, args));
+            }
+            current.forEach((bucketStart, counts) ->
+                    writtenCounts.computeIfAbsent(bucketStart, b -> new HashMap<>()).putAll(counts));
+            jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(toDateTime(now - RETENTION_MILLIS)));
+            // 저장이 조금 늦게 끝난 검색이 이전 버킷에 더해질 수 있으므로 한 버킷 앞부터 다시 확인
+            snapshotFrom = now - BUCKET_MILLIS;
+            writtenCounts.headMap(snapshotFrom / BUCKET_MILLIS * BUCKET_MILLIS, false).clear();
+            log.debug("급상승 검색어 스냅샷 저장: {}행", args.size());
+        } catch (Exception e) {
+            // snapshotFrom 을 그대로 두고 다음 주기에 같은 범위의 증가분을 다시 저장
+            log.warn("급상승 검색어 스냅샷 저장 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        log.info("=== TrendingKeywordService: 종료 전 검색어 스냅샷 저장 ===");
+        snapshot();
+    }
+
+    /** 기간별 상위 검색어 (최대 limit개, 내림차순 / ALL 은 빈 목록 → 누적 인기 검색어 사용) */
+    public List<String> getTopKeywords(KeywordTrendWindow window, int limit) {
+        List<String> keywords = topKeywords.getOrDefault(window, Collections.emptyList());
+        return keywords.size() <= limit ? keywords : keywords.subList(0, limit);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,96 @@
+package com.minute.video.service;
+
+import com.minute.common.trend.BucketedCounter;
+import com.minute.video.event.VideoWatchedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시청 기반 인기(트렌딩) 영상 집계
+ * - 시청 이벤트를 1시간 단위 버킷에 누적 (watch_history 전체 GROUP BY 없음)
+ * - 24시간/7일/30일 윈도우별 상위 TOP_K 를 주기적으로 계산해 두고 요청 시 그대로 반환
+ * - 애플리케이션 시작 시 최근 30일 시청 기록을 시간 단위로 한 번 집계해 버킷을 채움
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingVideoService {
+
+    private static final long BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+    private static final int TOP_K = 50;
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String WARM_UP_SQL = """
+            SELECT video_id, DATE_FORMAT(watched_at, '%Y-%m-%d %H:00:00') AS hour_start, COUNT(*) AS cnt
+            FROM watch_history
+            WHERE watched_at >= ?
+            GROUP BY video_id, hour_start
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final BucketedCounter<String> watchCounter = new BucketedCounter<>(
+            BUCKET_MILLIS, TrendingWindow.MONTH.getDuration().toMillis() + BUCKET_MILLIS);
+
+    // 윈도우별 상위 영상 ID (refresh 때마다 통째로 교체)
+    private volatile Map<TrendingWindow, List<String>> topVideoIds = new EnumMap<>(TrendingWindow.class);
+
+    @EventListener
+    public void onVideoWatched(VideoWatchedEvent event) {
+        watchCounter.increment(event.videoId(), toMillis(event.watchedAt()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime from = LocalDateTime.now().minus(TrendingWindow.MONTH.getDuration());
+        try {
+            jdbcTemplate.query(WARM_UP_SQL, rs -> {
+                LocalDateTime hourStart = LocalDateTime.parse(rs.getString("hour_start"), HOUR_FORMAT);
+                watchCounter.add(rs.getString("video_id"), toMillis(hourStart), rs.getLong("cnt"));
+            }, Timestamp.valueOf(from));
+            refresh();
+            log.info("=== TrendingVideoService: 최근 30일 시청 기록으로 트렌딩 집계 초기화 완료 ===");
+        } catch (Exception e) {
+            log.warn("트렌딩 집계 초기화 실패 (이후 시청 이벤트로만 집계): {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelay = 60_000, fixedDelayString = "${trending.video.refresh-ms:60000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        watchCounter.evictExpired(now);
+
+        Map<TrendingWindow, List<String>> next = new EnumMap<>(TrendingWindow.class);
+        for (TrendingWindow window : TrendingWindow.values()) {
+            next.put(window, watchCounter.topK(window.getDuration().toMillis(), TOP_K, now).stream()
+                    .map(BucketedCounter.Ranked::key)
+                    .toList());
+        }
+        topVideoIds = next;
+    }
+
+    /** 윈도우별 시청수 상위 영상 ID (최대 limit개, 내림차순) */
+    public List<String> getTopVideoIds(TrendingWindow window, int limit) {
+        List<String> ids = topVideoIds.getOrDefault(window, Collections.emptyList());
+        return ids.size() <= limit ? ids : ids.subList(0, limit);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
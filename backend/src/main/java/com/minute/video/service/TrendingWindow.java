@@ -0,0 +1,35 @@
+package com.minute.video.service;
+
+import com.minute.common.exception.InvalidRequestParameterException;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/** 인기(트렌딩) 집계 기간 */
+public enum TrendingWindow {
+    DAY(Duration.ofHours(24)),
+    WEEK(Duration.ofDays(7)),
+    MONTH(Duration.ofDays(30));
+
+    private final Duration duration;
+
+    TrendingWindow(Duration duration) {
+        this.duration = duration;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /** 쿼리 파라미터(day/week/month) → enum, 값이 없으면 기본값 / 잘못된 값이면 InvalidRequestParameterException */
+    public static TrendingWindow from(String value, TrendingWindow defaultWindow) {
+        if (value == null || value.isBlank()) {
+            return defaultWindow;
+        }
+        try {
+            return TrendingWindow.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestParameterException("지원하지 않는 기간입니다: " + value + " (day, week, month)");
+        }
+    }
+}
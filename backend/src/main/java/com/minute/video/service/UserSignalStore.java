@@ -0,0 +1,182 @@
+package com.minute.video.service;
+
+import com.minute.bookmark.repository.BookmarkRepository;
+import com.minute.video.repository.VideoDislikeRepository;
+import com.minute.video.repository.VideoLikesRepository;
+import com.minute.video.repository.WatchHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자별 행동 신호 캐시 (좋아요/싫어요/북마크한 영상 ID, 영상별 시청 횟수)
+ * - 추천 계산 때마다 이력 목록을 다시 읽지 않도록, 최근 조회한 사용자만 max-users 개까지 LRU 로 보관
+ * - 좋아요/싫어요/북마크/시청 기록을 쓰는 서비스가 쓸 때마다 record()/clear() 로 증감을 알려 줌
+ *   · 트랜잭션 안에서 호출하면 커밋 후에 반영하고, 롤백되면 버림
+ *   · 트랜잭션 밖에서 호출하면(이미 저장된 쓰기) 해당 사용자 항목을 버리고 다음 조회 때 다시 읽음
+ * - 조회(DB 로딩) 도중 같은 사용자의 쓰기가 끝났거나 커밋 전인 쓰기가 있으면, 읽은 값이 그 쓰기를
+ *   포함하는지 알 수 없으므로 결과를 캐시에 넣지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSignalStore {
+
+    public enum Kind { LIKE, DISLIKE, BOOKMARK, WATCH }
+
+    /** 한 사용자의 신호 스냅샷 (불변) */
+    public record Signals(VideoIdCounts liked, VideoIdCounts disliked,
+                          VideoIdCounts bookmarked, VideoIdCounts watched) {
+
+        public static final Signals EMPTY =
+                new Signals(VideoIdCounts.EMPTY, VideoIdCounts.EMPTY, VideoIdCounts.EMPTY, VideoIdCounts.EMPTY);
+
+        public VideoIdCounts get(Kind kind) {
+            return switch (kind) {
+                case LIKE -> liked;
+                case DISLIKE -> disliked;
+                case BOOKMARK -> bookmarked;
+                case WATCH -> watched;
+            };
+        }
+
+        Signals with(Kind kind, VideoIdCounts counts) {
+            return switch (kind) {
+                case LIKE -> new Signals(counts, disliked, bookmarked, watched);
+                case DISLIKE -> new Signals(liked, counts, bookmarked, watched);
+                case BOOKMARK -> new Signals(liked, disliked, counts, watched);
+                case WATCH -> new Signals(liked, disliked, bookmarked, counts);
+            };
+        }
+    }
+
+    private final VideoLikesRepository videoLikesRepository;
+    private final VideoDislikeRepository videoDislikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final WatchHistoryRepository watchHistoryRepository;
+
+    @Value("${user-signals.max-users:10000}")
+    private int maxUsers;
+
+    // 아래 상태는 모두 this 로 동기화 (임계 구역에서는 DB 접근 없이 맵 연산만 수행)
+    private final LinkedHashMap<String, Signals> cache = new LinkedHashMap<>(256, 0.75f, true);
+    // 사용자별 커밋 전 쓰기 수
+    private final Map<String, Integer> pendingWrites = new HashMap<>();
+    // 진행 중인 조회가 있을 때만 기록: 사용자별 마지막 쓰기 완료 순번
+    private final Map<String, Long> completedAt = new HashMap<>();
+    private long sequence;
+    private int loadsInFlight;
+
+    /** 사용자 신호 조회 (캐시에 없으면 DB 에서 읽음) */
+    public Signals get(String userId) {
+        long startedAt;
+        synchronized (this) {
+            Signals cached = cache.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            startedAt = sequence;
+            loadsInFlight++;
+        }
+
+        Signals loaded = null;
+        try {
+            loaded = load(userId);
+            return loaded;
+        } finally {
+            synchronized (this) {
+                if (loaded != null && !pendingWrites.containsKey(userId)
+                        && completedAt.getOrDefault(userId, Long.MIN_VALUE) <= startedAt) {
+                    cache.put(userId, loaded);
+                    evictOverflow();
+                }
+                if (--loadsInFlight == 0) {
+                    completedAt.clear();
+                }
+            }
+        }
+    }
+
+    /** 영상 신호 증감 (좋아요 +1/-1, 북마크 폴더 수, 시청 횟수 등) */
+    public void record(String userId, Kind kind, String videoId, int delta) {
+        apply(userId, signals -> signals.with(kind, signals.get(kind).adjust(videoId, delta)));
+    }
+
+    /** 영상 신호 제거 (시청 기록 삭제 등) */
+    public void clear(String userId, Kind kind, String videoId) {
+        apply(userId, signals -> signals.with(kind, signals.get(kind).without(videoId)));
+    }
+
+    /** 사용자 항목 폐기 (폴더 삭제처럼 한 번에 여러 신호가 바뀌는 경우) */
+    public void invalidate(String userId) {
+        apply(userId, null);
+    }
+
+    private void apply(String userId, UnaryOperator<Signals> mutation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (this) {
+                complete(userId, null);
+            }
+            return;
+        }
+
+        synchronized (this) {
+            pendingWrites.merge(userId, 1, Integer::sum);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (UserSignalStore.this) {
+                    pendingWrites.computeIfPresent(userId, (key, count) -> count > 1 ? count - 1 : null);
+                    if (status == STATUS_COMMITTED) {
+                        complete(userId, mutation);
+                    }
+                }
+            }
+        });
+    }
+
+    /** 쓰기 완료 처리 (mutation 이 null 이면 항목 폐기), this 로 동기화된 상태에서 호출 */
+    private void complete(String userId, UnaryOperator<Signals> mutation) {
+        if (loadsInFlight > 0) {
+            completedAt.put(userId, ++sequence);
+        }
+        Signals cached = cache.get(userId);
+        if (cached == null) {
+            return;
+        }
+        if (mutation == null) {
+            cache.remove(userId);
+        } else {
+            cache.put(userId, mutation.apply(cached));
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<String> eldest = cache.keySet().iterator();
+        while (cache.size() > Math.max(1, maxUsers) && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private Signals load(String userId) {
+        Map<String, Integer> watchCounts = new HashMap<>();
+        for (WatchHistoryRepository.VideoWatchCount row : watchHistoryRepository.countByVideoForUser(userId)) {
+            watchCounts.put(row.getVideoId(), (int) Math.min(Integer.MAX_VALUE, row.getWatchCount()));
+        }
+        return new Signals(
+                VideoIdCounts.of(videoLikesRepository.findVideoIdsByUserId(userId)),
+                VideoIdCounts.of(videoDislikeRepository.findVideoIdsByUserId(userId)),
+                // 같은 영상을 여러 폴더에 북마크하면 폴더 수만큼 횟수
+                VideoIdCounts.of(bookmarkRepository.findVideoIdsByUserId(userId)),
+                VideoIdCounts.of(watchCounts));
+    }
+}
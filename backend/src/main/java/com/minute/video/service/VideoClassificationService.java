@@ -0,0 +1,100 @@
+package com.minute.video.service;
+
+import com.minute.video.entity.Video;
+import com.minute.video.entity.VideoCategory;
+import com.minute.video.event.VideoCatalogChangedEvent;
+import com.minute.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 영상 분류 결과(여행 관련 여부, 카테고리별 노출 여부)를 엔티티에 저장
+ * - 수집 시점에 한 번 분류해 두고, 조회 API 는 저장된 플래그로만 필터링합니다.
+ * - 필터 규칙이 바뀌면 규칙 지문이 다른 영상만 골라 배치로 재분류합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class VideoClassificationService {
+
+    private final VideoFilterService videoFilterService;
+    private final VideoRepository videoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 현재 규칙으로 영상과 연결된 카테고리 매핑의 플래그를 갱신 (저장은 호출자 트랜잭션에서)
+     * @return 플래그 값이 바뀌었으면 true
+     */
+    public boolean classify(Video video) {
+        FilterRuleSet.Classification c = videoFilterService.classify(video);
+        boolean travel = c.positiveHits(VideoFilterService.TRAVEL_RULE) > 0;
+        boolean changed = video.isTravelRelated() != travel;
+        video.setTravelRelated(travel);
+
+        for (VideoCategory vc : video.getVideoCategories()) {
+            boolean visible = travel && vc.getCategory() != null
+                    && c.isAllowed(vc.getCategory().getCategoryName());
+            changed |= vc.isVisible() != visible;
+            vc.setVisible(visible);
+        }
+        video.setClassifiedRules(videoFilterService.getRulesFingerprint());
+        return changed;
+    }
+
+    /** 현재 분류 규칙 지문 */
+    public long rulesFingerprint() {
+        return videoFilterService.getRulesFingerprint();
+    }
+
+    /** 채널명이 광고 채널 규칙에 걸리면 true */
+    public boolean isAdChannel(String channelName) {
+        return videoFilterService.isAdChannel(channelName);
+    }
+
+    /** 엔티티 없이 제목/설명만으로 분류 (JDBC 일괄 저장 경로에서 사용) */
+    public TextFlags classifyText(String title, String description) {
+        FilterRuleSet.Classification c = videoFilterService.classify(title, description);
+        return new TextFlags(c.positiveHits(VideoFilterService.TRAVEL_RULE) > 0, c,
+                videoFilterService.getRulesFingerprint());
+    }
+
+    public record TextFlags(boolean travelRelated, FilterRuleSet.Classification classification, long rulesFingerprint) {
+
+        /** 해당 카테고리 목록에 노출 가능한지 (여행 관련 + 카테고리 규칙 통과) */
+        public boolean visibleIn(String categoryName) {
+            return travelRelated && categoryName != null && classification.isAllowed(categoryName);
+        }
+    }
+
+    /**
+     * 규칙 지문이 다른 영상을 afterVideoId 다음부터 batchSize 개 재분류
+     * @return 마지막으로 처리한 videoId(더 이상 없으면 null)와 처리/변경 건수
+     */
+    @Transactional
+    public BatchResult reclassifyBatch(String afterVideoId, int batchSize) {
+        long fingerprint = videoFilterService.getRulesFingerprint();
+        List<Video> videos = videoRepository.findUnclassified(
+                fingerprint, afterVideoId, PageRequest.of(0, batchSize));
+        if (videos.isEmpty()) {
+            return new BatchResult(null, 0, 0);
+        }
+
+        int changed = 0;
+        for (Video video : videos) {
+            if (classify(video)) {
+                changed++;
+            }
+        }
+        if (changed > 0) {
+            eventPublisher.publishEvent(new VideoCatalogChangedEvent("reclassify", changed));
+        }
+        return new BatchResult(videos.get(videos.size() - 1).getVideoId(), videos.size(), changed);
+    }
+
+    public record BatchResult(String lastVideoId, int processed, int changed) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.minute.video.service;
+
+import com.minute.common.exception.InvalidRequestParameterException;
+import com.minute.video.entity.Video;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 영상 목록 키셋 커서 (정렬 키, videoId)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 전달되어 내부 구조를 노출하지 않습니다.
+ * - 다음 페이지는 "정렬 키가 더 작거나, 같으면 videoId 가 더 작은" 행부터 조회합니다.
+ * - likes/views 정렬은 스냅샷에 고정하지 않는 best-effort 페이지네이션입니다.
+ *   페이지 사이에 좋아요/조회수가 바뀐 영상은 커서 경계를 넘나들어 빠지거나 두 번 나올 수 있습니다.
+ *   (latest 는 정렬 키가 바뀌지 않아 빠짐/중복이 없음)
+ */
+public record VideoCursor(VideoSort sort, Long key, String videoId) {
+
+    private static final char SEPARATOR = '|';
+
+    /** 페이지의 마지막 영상으로 다음 페이지 커서 생성 */
+    public static VideoCursor after(VideoSort sort, Video last) {
+        Long key = switch (sort) {
+            case LIKES -> last.getLikes();
+            case VIEWS -> last.getViews();
+            case LATEST -> null;
+            case RELEVANCE -> throw new IllegalArgumentException("관련도 커서는 검색 점수로 직접 생성합니다.");
+        };
+        return new VideoCursor(sort, key, last.getVideoId());
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + (key == null ? "" : key) + SEPARATOR + videoId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (없으면 null = 첫 페이지)
+     * @throws InvalidRequestParameterException 형식이 잘못되었거나 다른 정렬의 커서인 경우
+     */
+    public static VideoCursor decode(String cursor, VideoSort expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int second = raw.indexOf(SEPARATOR, first + 1);
+            VideoSort sort = VideoSort.valueOf(raw.substring(0, first));
+            String keyPart = raw.substring(first + 1, second);
+            String videoId = raw.substring(second + 1);
+            if (sort != expectedSort || videoId.isEmpty()) {
+                throw new IllegalArgumentException("정렬 기준이 다른 커서입니다.");
+            }
+            Long key = keyPart.isEmpty() ? null : Long.parseLong(keyPart);
+            if (sort != VideoSort.LATEST && key == null) {
+                throw new IllegalArgumentException("정렬 키가 없는 커서입니다.");
+            }
+            return new VideoCursor(sort, key, videoId);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestParameterException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
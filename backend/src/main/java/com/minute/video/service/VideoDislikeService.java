@@ -21,6 +21,7 @@ public class VideoDislikeService {
     private final VideoRepository videoRepository;
     private final UserRepository userRepository;
     private final VideoLikesRepository likesRepository;
+    private final UserSignalStore userSignalStore;
 
     @Transactional
     public void toggleDislike(String userId, String videoId) {
@@ -38,6 +39,7 @@ public class VideoDislikeService {
         if (alreadyDisliked) {
             // ── “이미 dislike가 있으면” → 단순히 삭제
             dislikeRepository.deleteByUserUserIdAndVideoVideoId(userId, videoId);
+            userSignalStore.clear(userId, UserSignalStore.Kind.DISLIKE, videoId);
 
         } else {
             // ── “새롭게 dislike 등록 전”에,
@@ -47,6 +49,7 @@ public class VideoDislikeService {
                 // 좋아요 수 감소(선택)
                 Video v = videoRepository.getReferenceById(videoId);
                 v.decreaseLikes();
+                userSignalStore.clear(userId, UserSignalStore.Kind.LIKE, videoId);
             }
 
             // ── 그 후에 디스라이크 저장
@@ -60,6 +63,7 @@ public class VideoDislikeService {
                             .createdAt(java.time.LocalDateTime.now())
                             .build()
             );
+            userSignalStore.record(userId, UserSignalStore.Kind.DISLIKE, videoId, 1);
         }
     }
 
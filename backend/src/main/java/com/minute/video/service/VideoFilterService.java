@@ -1,114 +1,152 @@
 package com.minute.video.service;
 
 import com.minute.video.entity.Video;
+import com.minute.video.entity.VideoFilterRule;
+import com.minute.video.entity.VideoFilterRule.Polarity;
+import com.minute.video.repository.VideoFilterRuleRepository;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
-
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 영상 키워드 필터
+ * - 카테고리별 규칙 + 공통 규칙(여행 관련 여부, 광고 채널)을 하나의 Aho-Corasick 오토마톤으로 컴파일해
+ *   제목/설명을 한 번만 훑어 판별합니다.
+ * - 규칙은 video_filter_rule 테이블에서 읽고 주기적으로 다시 읽어 바뀐 경우에만 교체합니다.
+ *   테이블 규칙은 아래 기본 규칙 위에 규칙 이름 단위로 덮어쓰므로, 테이블에 없는 규칙
+ *   (공통 규칙 #여행, #광고채널 포함)은 기본 규칙이 그대로 적용됩니다.
+ */
 @Service
+@RequiredArgsConstructor
+@Slf4j
 public class VideoFilterService {
-    /**
-     * 카테고리 이름(소문자) → 해당 카테고리 전용 필터 키워드 규칙
-     */
-    private final Map<String, FilterRule> ruleMap = new HashMap<>();
+
+    /** 여행 관련 콘텐츠 판별 규칙 이름 (카테고리 이름과 겹치지 않도록 # 접두사) */
+    public static final String TRAVEL_RULE = "#여행";
+    /** 광고 채널 판별 규칙 이름 (채널명에 positive 키워드가 있으면 광고 채널) */
+    public static final String AD_CHANNEL_RULE = "#광고채널";
+
+    private static final List<String> COMMON_NEGATIVE = List.of("리뷰", "후기", "제품", "용품", "광고", "ads", "템", "꿀템");
+
+    private final VideoFilterRuleRepository videoFilterRuleRepository;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile FilterRuleSet ruleSet;
 
     /**
-     * 빈이 초기화될 때 (애플리케이션 시작 시) 카테고리별 키워드 규칙을 한 번만 세팅합니다.
+     * 빈이 초기화될 때 (애플리케이션 시작 시) 기본 규칙으로 먼저 세팅한 뒤 테이블 규칙을 읽어 옵니다.
      */
     @PostConstruct
     public void init() {
-        // 키로 모두 소문자를 사용하도록 변경
-        ruleMap.put("캠핑".toLowerCase(Locale.ROOT), new FilterRule(
-                /* positive: “캠핑” 관련 핵심 키워드 */
-                List.of("캠핑", "캠프", "야영", "글램핑", "오토캠핑", "캠핑장", "캠핑요리", "차박", "백패킹"),
-                /* negative: “후기/리뷰/템/광고/ads” 등 단어가 있으면 걸러버림 */
-                List.of("리뷰", "후기", "제품", "용품", "광고", "ads", "템", "꿀템")
-        ));
-
-        ruleMap.put("힐링".toLowerCase(Locale.ROOT), new FilterRule(
-                List.of("힐링", "휴식", "명상", "치유", "산책", "숲속", "자연", "요가", "풍경", "감성", "명소"),
-                List.of("리뷰", "후기", "제품", "용품", "광고", "ads", "템", "꿀템")
-        ));
-
-        ruleMap.put("산".toLowerCase(Locale.ROOT), new FilterRule(
-                List.of("산", "등산", "트레킹", "하이킹", "백패킹", "클라이밍", "등반", "정상", "등산코스"),
-                List.of("리뷰", "후기", "제품", "광고", "ads","부산")
-        ));
-
-        ruleMap.put("테마파크".toLowerCase(Locale.ROOT), new FilterRule(
-                List.of("테마파크", "놀이공원", "롤러코스터", "어트랙션", "디즈니", "에버랜드", "어뮤즈먼트"),
-                List.of("리뷰", "후기", "티켓", "광고", "ads")
-        ));
-
-        // 필요하다면 다른 카테고리도 같은 형식으로 추가
-        // ruleMap.put("여행".toLowerCase(Locale.ROOT), new FilterRule(...));
+        ruleSet = FilterRuleSet.compile(versionSequence.incrementAndGet(), defaultRules());
+        reload();
+    }
+
+    /** 규칙 테이블을 다시 읽어, 내용이 바뀌었을 때만 오토마톤을 재생성 */
+    @Scheduled(initialDelayString = "${video.filter.reload-ms:60000}", fixedDelayString = "${video.filter.reload-ms:60000}")
+    public void reload() {
+        Map<String, Map<Polarity, List<String>>> rules;
+        try {
+            rules = loadRules();
+        } catch (Exception e) {
+            log.warn("필터 규칙 로드 실패 (기존 규칙 유지): {}", e.getMessage());
+            return;
+        }
+        if (FilterRuleSet.normalize(rules).equals(ruleSet.getDefinition())) {
+            return;
+        }
+        ruleSet = FilterRuleSet.compile(versionSequence.incrementAndGet(), rules);
+        log.info("영상 필터 규칙 갱신: {}개 규칙 (version={})", rules.size(), ruleSet.getVersion());
+    }
+
+    /** 현재 적용 중인 규칙 버전 (규칙이 바뀔 때마다 증가) */
+    public long getRulesVersion() {
+        return ruleSet.getVersion();
+    }
+
+    /** 현재 규칙 내용의 지문 (재시작과 무관하게 규칙이 같으면 같은 값, 분류 결과 저장용) */
+    public long getRulesFingerprint() {
+        return ruleSet.getFingerprint();
+    }
+
+    /** 제목/설명을 한 번 훑어 모든 규칙에 대한 매칭 결과를 반환 */
+    public FilterRuleSet.Classification classify(String title, String description) {
+        return ruleSet.classify(title, description);
+    }
+
+    public FilterRuleSet.Classification classify(Video video) {
+        return classify(video.getVideoTitle(), video.getVideoDescription());
     }
 
     /**
      * 주어진 Video가 해당 카테고리에 노출 가능한 콘텐츠인지(true/false) 판별
+     * - 카테고리가 없거나 규칙이 없는 카테고리는 허용
+     * - negative 키워드가 하나라도 있으면 false, 아니면 positive 키워드가 있어야 true
      */
     public boolean isAllowed(Video video, String categoryName) {
         if (categoryName == null) {
-            // 카테고리가 지정되지 않았다면 기본적으로 허용
-            return true;
-        }
-
-        // 카테고리명을 소문자로 변환하여 키로 사용
-        String key = categoryName.toLowerCase(Locale.ROOT);
-
-        // 맵에서 규칙을 찾고, 없으면 기본 허용(true) 반환
-        FilterRule rule = ruleMap.get(key);
-        if (rule == null) {
             return true;
         }
+        return classify(video).isAllowed(categoryName);
+    }
 
-        String title = video.getVideoTitle() != null
-                ? video.getVideoTitle().toLowerCase(Locale.ROOT)
-                : "";
-        String desc = video.getVideoDescription() != null
-                ? video.getVideoDescription().toLowerCase(Locale.ROOT)
-                : "";
-
-        // 1) negative 키워드 검사: 하나라도 포함되어 있으면 false
-        for (String neg : rule.getNegativeKeywords()) {
-            if (title.contains(neg) || desc.contains(neg)) {
-                return false;
-            }
-        }
-
-        // 2) positive 키워드 검사: 하나라도 포함되어 있으면 true
-        for (String pos : rule.getPositiveKeywords()) {
-            if (title.contains(pos) || desc.contains(pos)) {
-                return true;
-            }
-        }
-
-        // 3) 위 두 조건에 해당하지 않으면 false
-        return false;
+    /** 제목/설명 중에 여행 관련 키워드가 하나라도 있으면 true */
+    public boolean isTravelRelated(String title, String description) {
+        return classify(title, description).positiveHits(TRAVEL_RULE) > 0;
     }
 
-    /**
-     * FilterRule: 특정 카테고리에서 허용/차단할 키워드 목록을 저장하는 내부 클래스
-     */
-    private static class FilterRule {
-        private final List<String> positiveKeywords;
-        private final List<String> negativeKeywords;
+    public boolean isTravelRelated(Video video) {
+        return isTravelRelated(video.getVideoTitle(), video.getVideoDescription());
+    }
 
-        public FilterRule(List<String> positiveKeywords, List<String> negativeKeywords) {
-            this.positiveKeywords = positiveKeywords;
-            this.negativeKeywords = negativeKeywords;
-        }
+    /** 채널명이 광고 채널 규칙에 걸리면 true */
+    public boolean isAdChannel(String channelName) {
+        return channelName != null && ruleSet.classify(channelName).positiveHits(AD_CHANNEL_RULE) > 0;
+    }
 
-        public List<String> getPositiveKeywords() {
-            return positiveKeywords;
+    /** 기본 규칙 + 테이블 규칙 (같은 이름의 규칙은 테이블 쪽이 통째로 대체) */
+    private Map<String, Map<Polarity, List<String>>> loadRules() {
+        Map<String, Map<Polarity, List<String>>> tableRules = new LinkedHashMap<>();
+        for (VideoFilterRule rule : videoFilterRuleRepository.findByEnabledTrue()) {
+            tableRules.computeIfAbsent(rule.getRuleName(), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(rule.getPolarity(), p -> new ArrayList<>())
+                    .add(rule.getKeyword());
         }
+        Map<String, Map<Polarity, List<String>>> rules = defaultRules();
+        rules.putAll(tableRules);
+        return rules;
+    }
 
-        public List<String> getNegativeKeywords() {
-            return negativeKeywords;
-        }
+    /** 테이블에 같은 이름의 규칙이 없을 때 사용하는 기본 규칙 */
+    static Map<String, Map<Polarity, List<String>>> defaultRules() {
+        Map<String, Map<Polarity, List<String>>> rules = new LinkedHashMap<>();
+        rules.put("캠핑", Map.of(
+                /* positive: “캠핑” 관련 핵심 키워드 */
+                Polarity.POSITIVE, List.of("캠핑", "캠프", "야영", "글램핑", "오토캠핑", "캠핑장", "캠핑요리", "차박", "백패킹"),
+                /* negative: “후기/리뷰/템/광고/ads” 등 단어가 있으면 걸러버림 */
+                Polarity.NEGATIVE, COMMON_NEGATIVE));
+        rules.put("힐링", Map.of(
+                Polarity.POSITIVE, List.of("힐링", "휴식", "명상", "치유", "산책", "숲속", "자연", "요가", "풍경", "감성", "명소"),
+                Polarity.NEGATIVE, COMMON_NEGATIVE));
+        rules.put("산", Map.of(
+                Polarity.POSITIVE, List.of("산", "등산", "트레킹", "하이킹", "백패킹", "클라이밍", "등반", "정상", "등산코스"),
+                Polarity.NEGATIVE, List.of("리뷰", "후기", "제품", "광고", "ads", "부산")));
+        rules.put("테마파크", Map.of(
+                Polarity.POSITIVE, List.of("테마파크", "놀이공원", "롤러코스터", "어트랙션", "디즈니", "에버랜드", "어뮤즈먼트"),
+                Polarity.NEGATIVE, List.of("리뷰", "후기", "티켓", "광고", "ads")));
+        // 공통 규칙: 여행 관련 여부 / 광고 채널
+        rules.put(TRAVEL_RULE, Map.of(
+                Polarity.POSITIVE, List.of("여행", "가볼만", "트레킹", "관광", "바캉스", "맛집", "투어")));
+        rules.put(AD_CHANNEL_RULE, Map.of(
+                Polarity.POSITIVE, List.of("광고", "ads")));
+        return rules;
     }
 }
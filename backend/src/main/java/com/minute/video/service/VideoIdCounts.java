@@ -0,0 +1,137 @@
+package com.minute.video.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * videoId → 횟수 불변 맵 (정렬된 String[] + int[])
+ * - 사용자 신호 캐시용: 엔트리당 객체 하나씩 만드는 HashMap 대신 배열 두 개로만 보관
+ * - 조회는 이진 탐색, 변경은 복사본 생성 (쓰기는 사용자 행동 1건당 1번이라 드묾)
+ * - 좋아요/싫어요처럼 집합인 신호는 횟수 1 로 보관
+ */
+public final class VideoIdCounts {
+
+    public static final VideoIdCounts EMPTY = new VideoIdCounts(new String[0], new int[0]);
+
+    private final String[] ids;
+    private final int[] counts;
+
+    private VideoIdCounts(String[] ids, int[] counts) {
+        this.ids = ids;
+        this.counts = counts;
+    }
+
+    /** ID 목록으로 생성 (같은 ID 가 여러 번 있으면 그 수만큼 횟수) */
+    public static VideoIdCounts of(Collection<String> videoIds) {
+        if (videoIds.isEmpty()) {
+            return EMPTY;
+        }
+        String[] sorted = videoIds.toArray(new String[0]);
+        Arrays.sort(sorted);
+
+        String[] ids = new String[sorted.length];
+        int[] counts = new int[sorted.length];
+        int size = 0;
+        for (String videoId : sorted) {
+            if (size > 0 && ids[size - 1].equals(videoId)) {
+                counts[size - 1]++;
+            } else {
+                ids[size] = videoId;
+                counts[size] = 1;
+                size++;
+            }
+        }
+        return new VideoIdCounts(Arrays.copyOf(ids, size), Arrays.copyOf(counts, size));
+    }
+
+    /** videoId → 횟수 맵으로 생성 (0 이하는 제외) */
+    public static VideoIdCounts of(Map<String, Integer> countsById) {
+        String[] sorted = countsById.keySet().toArray(new String[0]);
+        Arrays.sort(sorted);
+
+        String[] ids = new String[sorted.length];
+        int[] counts = new int[sorted.length];
+        int size = 0;
+        for (String videoId : sorted) {
+            int count = countsById.get(videoId);
+            if (count > 0) {
+                ids[size] = videoId;
+                counts[size] = count;
+                size++;
+            }
+        }
+        return size == 0 ? EMPTY : new VideoIdCounts(Arrays.copyOf(ids, size), Arrays.copyOf(counts, size));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int count(String videoId) {
+        int index = Arrays.binarySearch(ids, videoId);
+        return index >= 0 ? counts[index] : 0;
+    }
+
+    public boolean contains(String videoId) {
+        return Arrays.binarySearch(ids, videoId) >= 0;
+    }
+
+    /** 횟수를 delta 만큼 바꾼 복사본 (0 이하가 되면 제거) */
+    public VideoIdCounts adjust(String videoId, int delta) {
+        int index = Arrays.binarySearch(ids, videoId);
+        if (index >= 0) {
+            int updated = counts[index] + delta;
+            if (updated > 0) {
+                int[] newCounts = counts.clone();
+                newCounts[index] = updated;
+                return new VideoIdCounts(ids, newCounts);
+            }
+            String[] newIds = new String[ids.length - 1];
+            int[] newCounts = new int[ids.length - 1];
+            System.arraycopy(ids, 0, newIds, 0, index);
+            System.arraycopy(ids, index + 1, newIds, index, ids.length - index - 1);
+            System.arraycopy(counts, 0, newCounts, 0, index);
+            System.arraycopy(counts, index + 1, newCounts, index, counts.length - index - 1);
+            return new VideoIdCounts(newIds, newCounts);
+        }
+        if (delta <= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        String[] newIds = new String[ids.length + 1];
+        int[] newCounts = new int[ids.length + 1];
+        System.arraycopy(ids, 0, newIds, 0, insertAt);
+        System.arraycopy(counts, 0, newCounts, 0, insertAt);
+        newIds[insertAt] = videoId;
+        newCounts[insertAt] = delta;
+        System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+        System.arraycopy(counts, insertAt, newCounts, insertAt + 1, counts.length - insertAt);
+        return new VideoIdCounts(newIds, newCounts);
+    }
+
+    /** 해당 ID 를 뺀 복사본 */
+    public VideoIdCounts without(String videoId) {
+        int count = count(videoId);
+        return count == 0 ? this : adjust(videoId, -count);
+    }
+
+    /** 점수 계산처럼 조회가 많은 곳에서 쓰는 해시 Set 복사본 */
+    public Set<String> toSet() {
+        Set<String> set = new HashSet<>(ids.length * 2);
+        set.addAll(Arrays.asList(ids));
+        return set;
+    }
+
+    /** 점수 계산처럼 조회가 많은 곳에서 쓰는 해시 Map 복사본 */
+    public Map<String, Integer> toCountMap() {
+        Map<String, Integer> map = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            map.put(ids[i], counts[i]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,246 @@
+package com.minute.video.service;
+
+import com.minute.video.dto.YoutubeSearchResponse;
+import com.minute.video.entity.Category;
+import com.minute.video.entity.Video;
+import com.minute.video.entity.VideoCategory;
+import com.minute.video.event.VideoCatalogChangedEvent;
+import com.minute.video.event.VideoTextChangedEvent;
+import com.minute.video.repository.CategoryRepository;
+import com.minute.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * YouTube API 수집 결과 일괄 저장
+ * - 배치 전체의 기존 영상을 findAllById 한 번으로 읽어 와서 신규/수정/변경 없음/카테고리 연결을 메모리에서 계산
+ * - 본문 해시와 분류 규칙 지문이 그대로인 영상은 쓰지 않고 건너뜀
+ * - 실제 쓰기는 JDBC 배치 INSERT ... ON DUPLICATE KEY UPDATE 두 번(video, video_category)으로 끝냄
+ * - 본문이 저장된 영상은 VideoTextChangedEvent 로 알려 검색 색인이 커밋 후 해당 영상만 다시 색인
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VideoIngestService {
+
+    // views/likes 는 다른 경로(조회수 누적기, 좋아요)가 관리하므로 신규일 때만 0으로 넣고 갱신하지 않음
+    // region/city 는 빈 값이면 기존 값을 유지 (카테고리 수집이 동시에 들어온 지역 수집 결과를 지우지 않도록)
+    private static final String UPSERT_VIDEO_SQL = """
+            INSERT INTO video (video_id, video_title, video_description, video_url, thumbnail_url, region, city,
+                               travel_related, classified_rules, content_hash, views, likes)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0)
+            ON DUPLICATE KEY UPDATE
+                video_title = VALUES(video_title),
+                video_description = VALUES(video_description),
+                video_url = VALUES(video_url),
+                thumbnail_url = VALUES(thumbnail_url),
+                region = IF(VALUES(region) = '', region, VALUES(region)),
+                city = IF(VALUES(city) = '', city, VALUES(city)),
+                travel_related = VALUES(travel_related),
+                classified_rules = VALUES(classified_rules),
+                content_hash = VALUES(content_hash)
+            """;
+
+    private static final String UPSERT_LINK_SQL = """
+            INSERT INTO video_category (video_id, category_id, visible) VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE visible = VALUES(visible)
+            """;
+
+    private final VideoRepository videoRepository;
+    private final CategoryRepository categoryRepository;
+    private final VideoClassificationService videoClassificationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**────────────────────────────────────────────────────────────────────────
+     *  Youtube API로부터 받은 영상을 카테고리에 연결해 저장하거나, 수정
+     *  (기존 영상의 region, city 는 유지)
+     *
+     *  @param videoList    YouTube API 응답 items 리스트
+     *  @param categoryName 카테고리 이름(예: "캠핑", "힐링" 등)
+     *────────────────────────────────────────────────────────────────────────*/
+    @Transactional
+    public IngestResult saveVideosFromApi(List<YoutubeSearchResponse.Item> videoList, String categoryName) {
+        Category category = categoryRepository.findByCategoryName(categoryName)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리: " + categoryName));
+
+        List<IngestRow> rows = new ArrayList<>(videoList.size());
+        for (YoutubeSearchResponse.Item item : videoList) {
+            IngestRow row = toRow(item, null, null);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return ingest(rows, videoList.size() - rows.size(), category, "category:" + categoryName);
+    }
+
+    /**
+     * Region, City 단위로 YouTube Shorts 결과를 받아와서
+     * Video.region, Video.city 칼럼에 세팅한 뒤 저장
+     *
+     * @param videoList  YouTube API에서 받아온 item 리스트
+     * @param region     ex) "경기도", "강원도" 등
+     * @param city       ex) "가평", "강릉" 등
+     */
+    @Transactional
+    public IngestResult saveVideosByRegionAndCity(List<YoutubeSearchResponse.Item> videoList, String region, String city) {
+        List<IngestRow> rows = new ArrayList<>(videoList.size());
+        for (YoutubeSearchResponse.Item item : videoList) {
+            YoutubeSearchResponse.Snippet snippet = item.snippet();
+            if (snippet == null) {
+                continue;
+            }
+            String title = snippet.title();
+            String description = snippet.description();
+            String channelName = snippet.channelTitle();
+
+            // 제목에 여행 관련 키워드가 없거나 광고 채널이면 건너뛰기
+            if (title == null || !videoClassificationService.classifyText(title, null).travelRelated()) {
+                continue;
+            }
+            if (videoClassificationService.isAdChannel(channelName)) {
+                continue;
+            }
+            if (title.length() < 5 && (description == null || description.length() < 10)) {
+                continue;
+            }
+
+            IngestRow row = toRow(item, region, city);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return ingest(rows, videoList.size() - rows.size(), null, "region:" + region + "/" + city);
+    }
+
+    /**
+     * 공통 일괄 저장
+     * @param category null 이 아니면 모든 행을 이 카테고리에 연결하고, 기존 영상의 region/city 는 유지
+     */
+    private IngestResult ingest(List<IngestRow> input, int skipped, Category category, String source) {
+        // 같은 배치 안의 중복 videoId 는 마지막 항목 기준
+        Map<String, IngestRow> rows = new LinkedHashMap<>();
+        input.forEach(row -> rows.put(row.videoId(), row));
+
+        Map<String, Video> existing = videoRepository.findAllById(rows.keySet()).stream()
+                .collect(Collectors.toMap(Video::getVideoId, Function.identity()));
+
+        List<Object[]> videoArgs = new ArrayList<>();
+        List<Object[]> linkArgs = new ArrayList<>();
+        List<VideoTextChangedEvent.Text> texts = new ArrayList<>();
+        int inserted = 0, updated = 0, unchanged = 0, linked = 0;
+
+        for (IngestRow incoming : rows.values()) {
+            Video current = existing.get(incoming.videoId());
+            IngestRow row = category != null && current != null
+                    ? incoming.withLocation(current.getRegion(), current.getCity())
+                    : incoming;
+            long hash = row.contentHash();
+
+            boolean contentChanged = current == null
+                    || !Objects.equals(current.getContentHash(), hash)
+                    || !Objects.equals(current.getClassifiedRules(), videoClassificationService.rulesFingerprint());
+            boolean needsLink = category != null && (current == null || current.getVideoCategories().stream()
+                    .noneMatch(vc -> vc.getId().getCategoryId() == category.getCategoryId()));
+
+            if (!contentChanged && !needsLink) {
+                unchanged++;
+                continue;
+            }
+
+            VideoClassificationService.TextFlags flags =
+                    videoClassificationService.classifyText(row.title(), row.description());
+            if (contentChanged) {
+                videoArgs.add(new Object[]{row.videoId(), row.title(), row.description(), row.videoUrl(),
+                        row.thumbnailUrl(), row.region(), row.city(),
+                        flags.travelRelated(), flags.rulesFingerprint(), hash});
+                texts.add(new VideoTextChangedEvent.Text(row.videoId(), row.title(), row.description(),
+                        row.region(), row.city()));
+                if (current == null) {
+                    inserted++;
+                } else {
+                    updated++;
+                    // 본문이 바뀌면 기존 카테고리 연결의 노출 여부도 다시 계산
+                    for (VideoCategory vc : current.getVideoCategories()) {
+                        linkArgs.add(new Object[]{row.videoId(), vc.getId().getCategoryId(),
+                                flags.visibleIn(vc.getCategory().getCategoryName())});
+                    }
+                }
+            } else {
+                unchanged++;
+            }
+            if (needsLink) {
+                linkArgs.add(new Object[]{row.videoId(), category.getCategoryId(),
+                        flags.visibleIn(category.getCategoryName())});
+                linked++;
+            }
+        }
+
+        // video 를 먼저 써야 video_category 외래키가 맞음
+        if (!videoArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_VIDEO_SQL, videoArgs);
+        }
+        if (!linkArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_LINK_SQL, linkArgs);
+        }
+
+        IngestResult result = new IngestResult(input.size() + skipped, inserted, updated, unchanged, skipped, linked);
+        if (result.hasChanges()) {
+            eventPublisher.publishEvent(new VideoCatalogChangedEvent(source, inserted + updated + linked));
+        }
+        if (!texts.isEmpty()) {
+            eventPublisher.publishEvent(new VideoTextChangedEvent(texts));
+        }
+        log.info("영상 수집 저장 [{}]: 신규 {}, 수정 {}, 변경 없음 {}, 건너뜀 {}, 카테고리 연결 {}",
+                source, inserted, updated, unchanged, skipped, linked);
+        return result;
+    }
+
+    /** API item → 저장 행 (id/snippet 이 없으면 null) */
+    private static IngestRow toRow(YoutubeSearchResponse.Item item, String region, String city) {
+        YoutubeSearchResponse.Snippet snippet = item.snippet();
+        String videoId = item.videoId();
+        if (videoId == null || snippet == null || snippet.title() == null) {
+            return null;
+        }
+        return new IngestRow(videoId, snippet.title(), snippet.description(),
+                "https://www.youtube.com/watch?v=" + videoId, snippet.defaultThumbnailUrl(),
+                region != null ? region : "", city != null ? city : "");
+    }
+
+    /** 저장할 영상 한 행 */
+    record IngestRow(String videoId, String title, String description, String videoUrl,
+                     String thumbnailUrl, String region, String city) {
+
+        IngestRow withLocation(String region, String city) {
+            return new IngestRow(videoId, title, description, videoUrl, thumbnailUrl, region, city);
+        }
+
+        /** 저장되는 본문 컬럼 전체의 64비트 FNV-1a 해시 */
+        long contentHash() {
+            long hash = 0xcbf29ce484222325L;
+            for (String field : new String[]{title, description, videoUrl, thumbnailUrl, region, city}) {
+                String value = field == null ? "\u0000null" : field;
+                for (int i = 0; i < value.length(); i++) {
+                    hash ^= value.charAt(i);
+                    hash *= 0x100000001b3L;
+                }
+                hash ^= 0x1f;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
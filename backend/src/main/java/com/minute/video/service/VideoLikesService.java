@@ -5,10 +5,12 @@ import com.minute.user.repository.UserRepository;
 import com.minute.video.entity.Video;
 import com.minute.video.entity.VideoLikes;
 import com.minute.video.dto.VideoLikesResponseDTO;
+import com.minute.video.event.UserActivityEvent;
 import com.minute.video.repository.VideoLikesRepository;
 import com.minute.video.repository.VideoRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,8 @@ public class VideoLikesService {
     private final VideoLikesRepository videoLikesRepository;
     private final UserRepository userRepository;
     private final VideoRepository videoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSignalStore userSignalStore;
 
     /**
      * 좋아요 저장
@@ -55,6 +59,9 @@ public class VideoLikesService {
 
         // 좋아요 수 증가
         video.increaseLikes();
+        userSignalStore.record(userId, UserSignalStore.Kind.LIKE, videoId, 1);
+
+        eventPublisher.publishEvent(new UserActivityEvent(userId, UserActivityEvent.ActivityType.LIKE));
     }
 
     /**
@@ -81,6 +88,9 @@ public class VideoLikesService {
         // 좋아요 수 감소
         Video video = videoRepository.getReferenceById(videoId); // 🔁 삭제 후라도 참조 가능
         video.decreaseLikes();
+        userSignalStore.record(userId, UserSignalStore.Kind.LIKE, videoId, -deletedCount);
+
+        eventPublisher.publishEvent(new UserActivityEvent(userId, UserActivityEvent.ActivityType.LIKE));
     }
 
     /**
@@ -0,0 +1,331 @@
+package com.minute.video.service;
+
+import com.minute.common.text.BigramTokenizer;
+import com.minute.video.event.VideoTextChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 영상 제목/설명/지역/도시 인메모리 역색인 (BigramTokenizer 바이그램)
+ * - 기동 시 video 테이블에서 한 번 빌드하고, 이후에는 수집 커밋마다 바뀐 영상만 갱신 (VideoTextChangedEvent)
+ * - 검색어의 바이그램을 모두 가진 영상만 후보로 삼고, 필드 가중치 × IDF 합으로 관련도 점수 계산
+ * - 가장 짧은 포스팅 목록만 훑고 나머지는 이진 탐색하므로, 검색 비용은 카탈로그 크기가 아니라
+ *   검색어 중 가장 드문 바이그램을 가진 영상 수에 비례
+ * - 빌드 전이거나 한 글자 검색어처럼 바이그램으로 답할 수 없는 경우는 canSearch() 가 false → 호출 쪽에서 DB 검색으로 대체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VideoSearchIndex {
+
+    private static final String LOAD_SQL =
+            "SELECT video_id, video_title, video_description, region, city FROM video";
+
+    // 필드 가중치 (같은 바이그램이 여러 번 나오면 그만큼 더함)
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    // 설명은 앞부분만 색인 (뒤쪽은 해시태그/링크가 길게 붙는 경우가 많아 색인 크기만 키움)
+    static final int MAX_DESCRIPTION_CHARS = 500;
+    // 관련도 점수는 소수 셋째 자리까지 정수로 보관 (키셋 커서에 그대로 담기 위함)
+    private static final double SCORE_SCALE = 1000.0;
+
+    /** 점수 내림차순, 같으면 videoId 내림차순 (키셋 커서 순서와 같음) */
+    private static final Comparator<Hit> RANKING = Comparator.comparingLong(Hit::score).reversed()
+            .thenComparing(Hit::videoId, Comparator.reverseOrder());
+
+    /** 검색 결과 한 건 (score 가 클수록 관련도 높음) */
+    public record Hit(String videoId, long score) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 빌드 중 들어온 변경은 모아 두었다가 새 색인에 적용
+    private final Object buildLock = new Object();
+    private final List<VideoTextChangedEvent.Text> pendingDuringBuild = new ArrayList<>();
+    private boolean building;
+
+    private volatile Segment segment;
+
+    /** video 테이블 전체로 색인 빌드 (기존 색인은 빌드가 끝난 뒤 통째로 교체) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        synchronized (buildLock) {
+            building = true;
+            pendingDuringBuild.clear();
+        }
+
+        long started = System.currentTimeMillis();
+        Segment fresh = new Segment();
+        try {
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                fresh.upsert(rs.getString("video_id"), rs.getString("video_title"),
+                        rs.getString("video_description"), rs.getString("region"), rs.getString("city"));
+            });
+        } catch (Exception e) {
+            synchronized (buildLock) {
+                // 기존 색인이 있으면 빌드 중 쌓인 변경만 반영해서 계속 사용
+                Segment current = segment;
+                if (current != null) {
+                    pendingDuringBuild.forEach(current::upsert);
+                }
+                pendingDuringBuild.clear();
+                building = false;
+            }
+            log.warn("영상 검색 색인 빌드 실패 (검색은 DB 조회로 대체): {}", e.getMessage());
+            return;
+        }
+
+        synchronized (buildLock) {
+            pendingDuringBuild.forEach(fresh::upsert);
+            pendingDuringBuild.clear();
+            segment = fresh;
+            building = false;
+        }
+        log.info("=== VideoSearchIndex: 영상 {}개, 토큰 {}개 색인 완료 ({}ms) ===",
+                fresh.documentCount(), fresh.tokenCount(), System.currentTimeMillis() - started);
+    }
+
+    /** 수집 트랜잭션 커밋 이후 바뀐 영상만 다시 색인 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoTextChanged(VideoTextChangedEvent event) {
+        Segment current;
+        synchronized (buildLock) {
+            if (building) {
+                pendingDuringBuild.addAll(event.videos());
+                return;
+            }
+            current = segment;
+        }
+        if (current != null) {
+            event.videos().forEach(current::upsert);
+        }
+    }
+
+    /** 색인으로 답할 수 있는 검색어인지 (빌드 완료 + 모든 토큰이 바이그램) */
+    public boolean canSearch(String query) {
+        if (segment == null) {
+            return false;
+        }
+        Set<String> tokens = queryTokens(query);
+        if (tokens.isEmpty()) {
+            return false;
+        }
+        for (String token : tokens) {
+            if (token.length() < 2) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 관련도 순 검색 (canSearch 가 true 인 검색어만)
+     * @param afterScore   이전 페이지 마지막 결과의 점수 (null 이면 첫 페이지)
+     * @param afterVideoId 이전 페이지 마지막 결과의 videoId
+     */
+    public List<Hit> search(String query, Long afterScore, String afterVideoId, int limit) {
+        Segment current = segment;
+        if (current == null) {
+            throw new IllegalStateException("검색 색인이 아직 준비되지 않았습니다.");
+        }
+        return current.search(new ArrayList<>(queryTokens(query)), afterScore, afterVideoId, limit);
+    }
+
+    private static Set<String> queryTokens(String query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        BigramTokenizer.tokenize(query, tokens::add);
+        return tokens;
+    }
+
+    /** 색인 본체 (읽기는 동시에, 쓰기는 배타적으로) */
+    static final class Segment {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Integer> docIds = new HashMap<>();
+        private final List<String> videoIds = new ArrayList<>();
+        // 문서별로 들어가 있는 포스팅 목록 (재색인 시 이전 토큰 제거용)
+        private final List<Postings[]> docPostings = new ArrayList<>();
+        private final Map<String, Postings> postings = new HashMap<>();
+
+        void upsert(VideoTextChangedEvent.Text text) {
+            upsert(text.videoId(), text.title(), text.description(), text.region(), text.city());
+        }
+
+        void upsert(String videoId, String title, String description, String region, String city) {
+            Map<String, Integer> weights = new HashMap<>();
+            BigramTokenizer.tokenize(title, token -> weights.merge(token, TITLE_WEIGHT, Integer::sum));
+            BigramTokenizer.tokenize(region, token -> weights.merge(token, LOCATION_WEIGHT, Integer::sum));
+            BigramTokenizer.tokenize(city, token -> weights.merge(token, LOCATION_WEIGHT, Integer::sum));
+            if (description != null) {
+                String head = description.length() > MAX_DESCRIPTION_CHARS
+                        ? description.substring(0, MAX_DESCRIPTION_CHARS) : description;
+                BigramTokenizer.tokenize(head, token -> weights.merge(token, DESCRIPTION_WEIGHT, Integer::sum));
+            }
+
+            lock.writeLock().lock();
+            try {
+                Integer docId = docIds.get(videoId);
+                if (docId == null) {
+                    docId = videoIds.size();
+                    docIds.put(videoId, docId);
+                    videoIds.add(videoId);
+                    docPostings.add(null);
+                } else {
+                    for (Postings previous : docPostings.get(docId)) {
+                        previous.remove(docId);
+                        if (previous.size == 0) {
+                            postings.remove(previous.token);
+                        }
+                    }
+                }
+
+                Postings[] added = new Postings[weights.size()];
+                int i = 0;
+                for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                    Postings list = postings.computeIfAbsent(entry.getKey(), Postings::new);
+                    list.put(docId, entry.getValue());
+                    added[i++] = list;
+                }
+                docPostings.set(docId, added);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Hit> search(List<String> tokens, Long afterScore, String afterVideoId, int limit) {
+            if (tokens.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+            lock.readLock().lock();
+            try {
+                Postings[] lists = new Postings[tokens.size()];
+                for (int i = 0; i < lists.length; i++) {
+                    lists[i] = postings.get(tokens.get(i));
+                    if (lists[i] == null) {
+                        return List.of();
+                    }
+                }
+                Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+                double documents = videoIds.size();
+                double[] idf = new double[lists.length];
+                for (int i = 0; i < lists.length; i++) {
+                    idf[i] = Math.log(1 + documents / lists[i].size);
+                }
+
+                // 상위 limit 개만 유지 (머리에 가장 낮은 순위)
+                PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+                Postings shortest = lists[0];
+                int[] from = new int[lists.length];
+                candidates:
+                for (int i = 0; i < shortest.size; i++) {
+                    int docId = shortest.docs[i];
+                    double score = shortest.weights[i] * idf[0];
+                    for (int k = 1; k < lists.length; k++) {
+                        int pos = Arrays.binarySearch(lists[k].docs, from[k], lists[k].size, docId);
+                        if (pos < 0) {
+                            from[k] = -pos - 1;
+                            continue candidates;
+                        }
+                        from[k] = pos + 1;
+                        score += lists[k].weights[pos] * idf[k];
+                    }
+
+                    Hit hit = new Hit(videoIds.get(docId), Math.round(score * SCORE_SCALE));
+                    if (afterScore != null && (hit.score() > afterScore
+                            || (hit.score() == afterScore && hit.videoId().compareTo(afterVideoId) >= 0))) {
+                        continue;
+                    }
+                    top.add(hit);
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+
+                List<Hit> ranked = new ArrayList<>(top);
+                ranked.sort(RANKING);
+                return ranked;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int documentCount() {
+            lock.readLock().lock();
+            try {
+                return videoIds.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int tokenCount() {
+            lock.readLock().lock();
+            try {
+                return postings.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /** 바이그램 하나의 포스팅 목록 (docId 오름차순 정렬, 같은 위치에 가중치) */
+    static final class Postings {
+
+        final String token;
+        int[] docs = new int[2];
+        int[] weights = new int[2];
+        int size;
+
+        Postings(String token) {
+            this.token = token;
+        }
+
+        void put(int docId, int weight) {
+            // 빌드 때는 docId 가 증가하는 순서로 들어오므로 대부분 끝에 추가
+            int pos = size == 0 || docs[size - 1] < docId ? -size - 1 : Arrays.binarySearch(docs, 0, size, docId);
+            if (pos >= 0) {
+                weights[pos] = weight;
+                return;
+            }
+            int insertAt = -pos - 1;
+            if (size == docs.length) {
+                int capacity = size + (size >> 1) + 1;
+                docs = Arrays.copyOf(docs, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+            docs[insertAt] = docId;
+            weights[insertAt] = weight;
+            size++;
+        }
+
+        void remove(int docId) {
+            int pos = Arrays.binarySearch(docs, 0, size, docId);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(docs, pos + 1, docs, pos, size - pos - 1);
+            System.arraycopy(weights, pos + 1, weights, pos, size - pos - 1);
+            size--;
+        }
+    }
+}
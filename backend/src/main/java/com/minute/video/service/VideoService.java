@@ -1,19 +1,19 @@
 package com.minute.video.service;
 
-import com.minute.bookmark.repository.BookmarkRepository;
-import com.minute.user.repository.UserRepository;
+import com.minute.common.exception.InvalidRequestParameterException;
 import com.minute.video.entity.*;
+import com.minute.video.dto.VideoPageResponseDTO;
 import com.minute.video.dto.VideoResponseDTO;
+import com.minute.video.dto.YoutubeSearchResponse;
 import com.minute.video.mapper.VideoResponseMapper;
 import com.minute.video.repository.*;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -26,51 +26,26 @@ public class VideoService {
     // 의존성 주입
     // ─────────────────────────────────────────────────────────────────────────
     private final VideoRepository videoRepository;
-    private final WatchHistoryRepository watchHistoryRepository;
-    private final VideoLikesRepository videoLikesRepository;
     private final SearchHistoryRepository searchHistoryRepository;
     private final VideoResponseMapper videoResponseMapper;
-    private final BookmarkRepository bookmarkRepository;
+    private final UserSignalStore userSignalStore;
     private final YoutubeApiService youtubeApiService;
-    private final CategoryRepository categoryRepository;
-    private final UserRepository userRepository;
     private final VideoFilterService videoFilterService;
+    private final RecommendationFeedStore recommendationFeedStore;
+    private final RecommendationScorer recommendationScorer;
+    private final ViewCountAccumulator viewCountAccumulator;
+    private final WatchHistoryWriter watchHistoryWriter;
+    private final TrendingVideoService trendingVideoService;
+    private final AnonymousFeedCache anonymousFeedCache;
+    private final VideoSearchIndex videoSearchIndex;
 
     private static final int RECOMMEND_SIZE = 30;
+    // 목록 API 한 번에 반환하는 최대 영상 수 (응답 크기/쿼리 비용 상한)
+    public static final int MAX_PAGE_SIZE = 100;
+    // 추천 점수에 반영할 최근 검색 기록 수
+    private static final int RECENT_SEARCH_KEYWORDS = 50;
 
 
-    // ─────────────────────────────────────────────────────────────────────────
-    // 1) 필터링 로직: “여행 관련 여부”
-    // ─────────────────────────────────────────────────────────────────────────
-
-    /**
-     * 제목/설명 중에 “여행” 또는 “가볼만” 등의 키워드가 하나라도 있으면
-     * 여행 관련 콘텐츠로 판단해서 true를 리턴합니다.
-     */
-    private boolean isTravelRelated(Video video) {
-        // 키워드 매칭을 위해 미리 꺼내서 안전하게 보관해 두는 용도
-        String title = video.getVideoTitle() != null ? video.getVideoTitle() : "";
-        String desc  = video.getVideoDescription() != null ? video.getVideoDescription() : "";
-
-        // 허용 키워드 리스트
-        // “여행” 관련된 콘텐츠만 보여주기 위해, 제목·설명에 포함될 허용 키워드를 하드코딩한 리스트로 관리
-        List<String> allowed = List.of("여행", "가볼만", "트레킹", "관광", "바캉스", "맛집", "투어");
-
-        // 제목이나 설명에 allowed 리스트 중 하나라도 포함되어 있으면 true
-        for (String kw : allowed) {
-            if (title.contains(kw) || desc.contains(kw)) {
-                return true;
-            }
-        }
-        return false;
-
-        // allowed 리스트에 "여행", "가볼만", "트레킹" 등 검사할 키워드들을 넣어두고
-        // for (String kw : allowed) 로 하나씩 꺼내서
-        // title.contains(kw) || desc.contains(kw) 조건을 검사해요.
-        // 제목이나 설명에 그 키워드가 하나라도 포함되어 있으면 즉시 true를 반환
-        // 반복이 끝날 때까지 한 번도 포함되지 않으면 false를 반환합니다.
-    }
-
     /**
      * 1) 비로그인: 전체 영상 조회
      * 2) 로그인: 추천 영상 조회
@@ -83,56 +58,53 @@ public class VideoService {
         }
     }
 
-    /** 전체 영상 조회 (최신순 50개) */
+    /** 전체 영상 조회 (최신순 50개, 비로그인 공통 스냅샷) */
     public List<VideoResponseDTO> getAllVideos() {
-        return videoRepository
-                .findTop50ByOrderByVideoIdDesc() // DB에서 videoId 기준으로 내림차순 정렬(가장 최근 등록된 순)한 최신 50개 Video 엔티티를 가져옴
-                .stream() // 가져온 리스트를 Java Stream 으로 변환해 이어지는 연산을 체이닝할 수 있게 해 줌
-                // ← 이 부분에서 isTravelRelated 체크
-                .filter(video -> isTravelRelated(video)) // 여행 관련 콘텐츠 여부를 판별하는 isTravelRelated() 메서드를 호출
-                .map(videoResponseMapper::toDtoWithStats) // 필터를 통과한 Video 엔티티를 DTO로 변환
-                // toDtoWithStats(video)는 조회수·좋아요 수 등 통계 정보도 포함해서 VideoResponseDTO를 만듬
-                .collect(Collectors.toList());  // List<VideoResponseDTO> 형태로 결과를 모아 반환
+        return anonymousFeedCache.get(AnonymousFeedCache.Feed.LATEST, this::loadLatestVideos);
+    }
+
+    private List<VideoResponseDTO> loadLatestVideos() {
+        // 수집 시 여행 관련으로 분류해 둔 영상 중 videoId 내림차순(가장 최근 등록된 순) 50개
+        List<Video> videos = videoRepository.findTop50ByTravelRelatedTrueOrderByVideoIdDesc();
+        // Video 엔티티를 DTO로 변환 (좋아요 수는 한 번의 쿼리로 일괄 조회)
+        return videoResponseMapper.toDtosWithStats(videos);
     }
 
     /**
      * 로그인 사용자를 위한 추천 영상 목록
-     * 1) 이미 본 영상, 좋아요/북마크/검색 이력 기반 점수 계산
-     *    + 시청 카테고리 기반 보정 (+1점)
-     * 2) 상위 RECOMMEND_SIZE개 선택
-     * 3) 부족 시 조회수 상위로 채움
+     * - 미리 계산된 추천 피드가 있으면 ID 목록만 읽어 영상 정보를 채워 반환
+     * - 피드가 없는 사용자(콜드 유저)는 즉시 계산한 뒤 피드로 저장
      */
     public List<VideoResponseDTO> getRecommendedVideos(String userId) {
-        // 1) 이미 본 영상 ID 목록
-        List<String> watchedVideoIds = watchHistoryRepository
-                .findByUserUserIdOrderByWatchedAtDesc(userId)
-                .stream()
-                .map(history -> history.getVideo().getVideoId())
-                .toList();
-
-        // 2) 좋아요한 영상 ID 목록
-        List<String> likedVideoIds = videoLikesRepository
-                .findByUserUserId(userId)
-                .stream()
-                .map(like -> like.getVideo().getVideoId())
-                .distinct()
-                .toList();
-
-        // 3) 최근 검색 키워드 목록
-        List<String> keywords = searchHistoryRepository
-                .findByUserUserIdOrderBySearchedAtDesc(userId)
-                .stream()
-                .map(SearchHistory::getKeyword)
-                .toList();
+        Optional<RecommendationFeed> feed = recommendationFeedStore.find(userId);
+        if (feed.isPresent()) {
+            return hydrateFeed(feed.get());
+        }
 
-        // 4) 북마크한 영상 ID 목록
-        List<String> bookmarkedVideoIds = bookmarkRepository.findVideoIdsByUserId(userId);
+        List<ScoredVideo> recommended = scoreRecommendations(userId);
+        recommendationFeedStore.put(userId, toFeed(recommended));
+        Map<String, Integer> scores = new HashMap<>();
+        recommended.forEach(sv -> scores.put(sv.video().getVideoId(), sv.score()));
+        return videoResponseMapper.toDtosWithStats(
+                recommended.stream().map(ScoredVideo::video).toList(), scores);
+    }
 
+    /** 추천 피드 재계산 (스케줄러/이벤트에서 호출) */
+    public void refreshRecommendationFeed(String userId) {
+        recommendationFeedStore.put(userId, toFeed(scoreRecommendations(userId)));
+    }
 
-        // 시청 이력으로 "개별 영상(또는 영상별 키워드) 시청 횟수" 집계
-        Map<String,Integer> watchedVideoCount    = buildWatchedVideoCount(userId);
+    /**
+     * 추천 점수 계산
+     * 1) 이미 본 영상, 좋아요/북마크/검색 이력 기반 점수 계산
+     *    + 재생 횟수 기반 보정
+     * 2) 상위 RECOMMEND_SIZE개 선택
+     * 3) 부족 시 조회수 상위로 채움
+     */
+    private List<ScoredVideo> scoreRecommendations(String userId) {
+        RecommendationScorer.UserSignals signals = loadUserSignals(userId);
 
-        // 5) 추천 후보 영상: 조회수 상위 50, 좋아요 상위 50 중복 제거 후 최대 200개
+        // 추천 후보 영상: 조회수 상위 50, 좋아요 상위 50 중복 제거 후 최대 200개
         List<Video> topByViews = videoRepository.findTop50ByOrderByViewsDesc();
         List<Video> topByLikes = videoRepository.findTop50ByOrderByLikesDesc();
         List<Video> candidates = Stream.concat(topByViews.stream(), topByLikes.stream())
@@ -140,174 +112,207 @@ public class VideoService {
                 .limit(200)
                 .collect(Collectors.toList());
 
-        // 6) 점수 계산 및 로그
-        Map<String, Integer> scoreMap = new HashMap<>();
+        // 이미 본 영상은 제외하고 점수 계산
+        List<ScoredVideo> scoredList = new ArrayList<>(candidates.size());
         for (Video video : candidates) {
-            if (watchedVideoIds.contains(video.getVideoId())) continue;
-            int score = calculateScore(
-                    video,
-                    likedVideoIds,
-                    bookmarkedVideoIds,
-                    keywords,
-                    watchedVideoCount
-            );
-            scoreMap.put(video.getVideoId(), score);
-            log.info("[추천점수] {} ({}) → {}점",
+            if (signals.hasWatched(video.getVideoId())) continue;
+            int score = recommendationScorer.score(video, signals);
+            scoredList.add(new ScoredVideo(video, score));
+            log.debug("[추천점수] {} ({}) → {}점",
                     video.getVideoTitle(), video.getVideoId(), score);
         }
 
-        // 7) 점수 기준으로 정렬
-        List<Video> scoredList = candidates.stream()
-                .filter((Video v) -> !watchedVideoIds.contains(v.getVideoId()))
-                .sorted(Comparator.comparingInt(
-                        (Video v) -> scoreMap.getOrDefault(v.getVideoId(), 0)
-                ).reversed())
-                .collect(Collectors.toList());
-
-        // 8) 상위 RECOMMEND_SIZE개 선택
-        List<Video> topRecommended = scoredList.stream()
-                .limit(RECOMMEND_SIZE)
-                .collect(Collectors.toList());
+        // 점수 기준으로 정렬 후 상위 RECOMMEND_SIZE개 선택
+        scoredList.sort(Comparator.comparingInt(ScoredVideo::score).reversed());
+        List<ScoredVideo> topRecommended = new ArrayList<>(
+                scoredList.subList(0, Math.min(RECOMMEND_SIZE, scoredList.size())));
 
-        // 9) 부족 시 조회수 상위로 채워넣기
+        // 부족 시 조회수 상위로 채워넣기
         if (topRecommended.size() < RECOMMEND_SIZE) {
             Set<String> excludeIds = topRecommended.stream()
-                    .map(Video::getVideoId)
+                    .map(sv -> sv.video().getVideoId())
                     .collect(Collectors.toSet());
-            excludeIds.addAll(watchedVideoIds);
             int remaining = RECOMMEND_SIZE - topRecommended.size();
-            List<Video> filler = videoRepository.findTop50ByOrderByViewsDesc().stream()
-                    .filter(v -> !excludeIds.contains(v.getVideoId()))
+            videoRepository.findTop50ByOrderByViewsDesc().stream()
+                    .filter(v -> !excludeIds.contains(v.getVideoId()) && !signals.hasWatched(v.getVideoId()))
                     .limit(remaining)
-                    .collect(Collectors.toList());
-            topRecommended.addAll(filler);
+                    .forEach(v -> topRecommended.add(new ScoredVideo(v, 0)));
         }
+        return topRecommended;
+    }
 
-        // 10) DTO로 변환하여 반환 (점수 포함)
-        return topRecommended.stream()
-                .map(video -> {
-                    int score = scoreMap.getOrDefault(video.getVideoId(), 0);
-                    return videoResponseMapper.toDtoWithStats(video, score);
-                })
-                .collect(Collectors.toList());
+    /**
+     * 점수 계산에 쓰이는 사용자 신호를 해시 기반 구조로 한 번에 구성
+     * - 시청 횟수/좋아요/북마크 → UserSignalStore 스냅샷 (쓰기 때마다 갱신되므로 이력 목록을 다시 읽지 않음)
+     * - 최근 검색어(최대 RECENT_SEARCH_KEYWORDS 개) → 미리 소문자 변환한 KeywordMatcher
+     */
+    private RecommendationScorer.UserSignals loadUserSignals(String userId) {
+        UserSignalStore.Signals stored = userSignalStore.get(userId);
+
+        List<String> keywords = searchHistoryRepository
+                .findRecentKeywords(userId, PageRequest.of(0, RECENT_SEARCH_KEYWORDS));
+
+        return new RecommendationScorer.UserSignals(
+                stored.liked().toSet(),
+                stored.bookmarked().toSet(),
+                RecommendationScorer.KeywordMatcher.compile(keywords),
+                stored.watched().toCountMap()
+        );
     }
 
-    /** 개별 영상 점수 계산 (태그 매칭 제거, 대신 시청 카테고리 기반 +1점) */
-    private int calculateScore(
-            Video video,
-            List<String> likedVideoIds,
-            List<String> bookmarkedVideoIds,
-            List<String> keywords,
-            Map<String,Integer> watchedVideoCount
-    ) {
-        int score = 0;
-
-        // 좋아요한 영상 +5
-        if (likedVideoIds.contains(video.getVideoId())) {
-            score += 5;
+    /** 저장된 피드(ID 목록)를 한 번의 조회로 영상 정보와 합쳐 DTO로 변환 (순위 유지) */
+    private List<VideoResponseDTO> hydrateFeed(RecommendationFeed feed) {
+        Map<String, Video> videoMap = findAllAsMap(Arrays.asList(feed.videoIds()));
+
+        List<Video> videos = new ArrayList<>(feed.size());
+        Map<String, Integer> scores = new HashMap<>();
+        for (int i = 0; i < feed.size(); i++) {
+            Video video = videoMap.get(feed.videoIds()[i]);
+            if (video != null) { // 피드 계산 이후 삭제된 영상은 건너뜀
+                videos.add(video);
+                scores.put(video.getVideoId(), feed.scores()[i]);
+            }
         }
+        return videoResponseMapper.toDtosWithStats(videos, scores);
+    }
 
-        // 북마크한 영상 +4
-        if (bookmarkedVideoIds.contains(video.getVideoId())) {
-            score += 4;
+    /** ID 목록 순서를 유지하며 영상 일괄 조회 (삭제된 영상은 제외) */
+    private List<Video> findAllInOrder(List<String> videoIds) {
+        if (videoIds.isEmpty()) {
+            return Collections.emptyList();
         }
+        Map<String, Video> videoMap = findAllAsMap(videoIds);
+        return videoIds.stream()
+                .map(videoMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-        // 제목에 검색 키워드 포함 +2
-        if (keywords != null) {
-            String lowerTitle = video.getVideoTitle().toLowerCase();
-            for (String kw : keywords) {
-                if (lowerTitle.contains(kw.toLowerCase())) {
-                    score += 2;
-                    break;
-                }
-            }
-        }
+    private Map<String, Video> findAllAsMap(List<String> videoIds) {
+        return videoRepository.findAllById(videoIds).stream()
+                .collect(Collectors.toMap(Video::getVideoId, v -> v));
+    }
 
-        // 4) 재생 횟수 기반 보정 (예: 1~2회 +1, 3~5회 +2, 6회 이상 +3)
-        int playCount = watchedVideoCount.getOrDefault(video.getVideoId(), 0);
-        if (playCount > 0) {
-            if (playCount <= 2) {
-                score += 1;
-            } else if (playCount <= 5) {
-                score += 2;
-            } else {
-                score += 3;
-            }
+    private RecommendationFeed toFeed(List<ScoredVideo> recommended) {
+        String[] ids = new String[recommended.size()];
+        int[] scores = new int[recommended.size()];
+        for (int i = 0; i < recommended.size(); i++) {
+            ids[i] = recommended.get(i).video().getVideoId();
+            scores[i] = recommended.get(i).score();
         }
+        return new RecommendationFeed(ids, scores, System.currentTimeMillis());
+    }
 
-        return score;
+    private record ScoredVideo(Video video, int score) {
     }
 
     /**
-     * 사용자가 시청한 각 영상의 재생 횟수를
-     * videoId → 재생 횟수 맵으로 반환
+     * 카테고리별 영상 조회 (최신순 첫 페이지)
+     * - 카테고리 규칙/여행 여부는 수집 시 분류해 둔 visible 플래그로만 거름 (요청마다 재판별하지 않음)
      */
-    private Map<String, Integer> buildWatchedVideoCount(String userId) {
+    public List<VideoResponseDTO> getVideoByCategory(String categoryName, int size) {
+        return getVideoPage(VideoSort.LATEST, categoryName, null, null, null, size).getItems();
+    }
 
-        // 1) 시청 이력 전체 조회
-        List<WatchHistory> histories = watchHistoryRepository
-                .findByUserUserIdOrderByWatchedAtDesc(userId);
+    /** 태그별 영상 조회 (태그 기능이 남아있다면 유지, 아니라면 삭제) */
+    public List<VideoResponseDTO> getVideosByTag(String tagName) {
+        return getVideoPage(VideoSort.LATEST, null, tagName, null, null, MAX_PAGE_SIZE).getItems();
+    }
 
-        // 2) videoId별로 카운팅
-        Map<String, Integer> countMap = new HashMap<>();
-        for (WatchHistory h : histories) {
-            String vid = h.getVideo().getVideoId();
-            countMap.put(vid, countMap.getOrDefault(vid, 0) + 1);
+    /** 키워드 검색 (검색 색인 관련도 순 첫 페이지, 색인으로 답할 수 없으면 제목 기준 최신순) */
+    public List<VideoResponseDTO> searchByKeyword(String keyword) {
+        if (videoSearchIndex.canSearch(keyword)) {
+            return searchPage(keyword, null, MAX_PAGE_SIZE).getItems();
         }
-        return countMap;
-
+        return videoResponseMapper.toDtosWithStats(
+                videoRepository.findByTitleContaining(keyword, null, PageRequest.of(0, MAX_PAGE_SIZE)));
     }
 
-    /** 카테고리별 영상 조회 */
-    public List<VideoResponseDTO> getVideoByCategory(String categoryName) {
-        List<Video> all = videoRepository.findByCategoryName(categoryName);
+    /**
+     * 영상 목록 키셋 페이지 조회
+     * - category / tag / keyword 중 먼저 있는 조건으로 필터링 (필터가 있으면 최신순 고정)
+     * - keyword 만 있으면 검색 색인의 관련도 순 (색인으로 답할 수 없는 검색어는 DB 검색, 최신순)
+     * - 필터가 없으면 여행 관련으로 분류된 영상 전체를 sort(최신/좋아요/조회수) 기준으로 (세 정렬 모두 같은 집합)
+     * - size+1 개를 읽어 다음 페이지 존재 여부를 판단하고, 마지막 행으로 다음 커서를 만듦
+     */
+    public VideoPageResponseDTO getVideoPage(VideoSort sort, String category, String tag, String keyword,
+                                             String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        if (!hasText(category) && !hasText(tag) && hasText(keyword) && videoSearchIndex.canSearch(keyword)) {
+            return searchPage(keyword, cursor, pageSize);
+        }
 
-        return all.stream()
-                .filter(video -> videoFilterService.isAllowed(video, categoryName))
-                .filter(this::isTravelRelated)
-                .map(videoResponseMapper::toDtoWithStats)
-                .collect(Collectors.toList());
+        boolean filtered = hasText(category) || hasText(tag) || hasText(keyword);
+        VideoSort effectiveSort = filtered ? VideoSort.LATEST : sort;
+        VideoCursor after = VideoCursor.decode(cursor, effectiveSort);
+        String afterVideoId = after != null ? after.videoId() : null;
+        Long afterKey = after != null ? after.key() : null;
+
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Video> fetched;
+        if (hasText(category)) {
+            fetched = videoRepository.findVisibleByCategoryName(category, afterVideoId, limit);
+        } else if (hasText(tag)) {
+            fetched = videoRepository.findByTagName(tag, afterVideoId, limit);
+        } else if (hasText(keyword)) {
+            fetched = videoRepository.searchByTitleOrRegionOrCity(keyword, afterVideoId, limit);
+        } else {
+            fetched = switch (effectiveSort) {
+                case LATEST -> videoRepository.findLatestPage(afterVideoId, limit);
+                case LIKES -> videoRepository.findLikesPage(afterKey, afterVideoId, limit);
+                case VIEWS -> videoRepository.findViewsPage(afterKey, afterVideoId, limit);
+                case RELEVANCE -> throw new InvalidRequestParameterException("관련도 정렬은 키워드 검색에서만 사용할 수 있습니다.");
+            };
+        }
+
+        boolean hasNext = fetched.size() > pageSize;
+        List<Video> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+        String nextCursor = hasNext
+                ? VideoCursor.after(effectiveSort, page.get(page.size() - 1)).encode()
+                : null;
+        return new VideoPageResponseDTO(videoResponseMapper.toDtosWithStats(page), nextCursor, hasNext);
     }
 
-    /** 태그별 영상 조회 (태그 기능이 남아있다면 유지, 아니라면 삭제) */
-    public List<VideoResponseDTO> getVideosByTag(String tagName) {
-        return videoRepository.findByTagName(tagName).stream()
-                .map(videoResponseMapper::toDtoWithStats)
-                .collect(Collectors.toList());
+    /**
+     * 키워드 검색 페이지 (검색 색인 관련도 순)
+     * - 색인에서 size+1 개의 ID 만 받아 영상은 IN 조회 한 번으로 채움
+     * - 커서는 (관련도 점수, videoId)
+     */
+    private VideoPageResponseDTO searchPage(String keyword, String cursor, int pageSize) {
+        VideoCursor after = VideoCursor.decode(cursor, VideoSort.RELEVANCE);
+        List<VideoSearchIndex.Hit> hits = videoSearchIndex.search(keyword,
+                after != null ? after.key() : null, after != null ? after.videoId() : null, pageSize + 1);
+
+        boolean hasNext = hits.size() > pageSize;
+        List<VideoSearchIndex.Hit> page = hasNext ? hits.subList(0, pageSize) : hits;
+        String nextCursor = null;
+        if (hasNext) {
+            VideoSearchIndex.Hit last = page.get(page.size() - 1);
+            nextCursor = new VideoCursor(VideoSort.RELEVANCE, last.score(), last.videoId()).encode();
+        }
+        List<Video> videos = findAllInOrder(page.stream().map(VideoSearchIndex.Hit::videoId).toList());
+        return new VideoPageResponseDTO(videoResponseMapper.toDtosWithStats(videos), nextCursor, hasNext);
     }
 
-    /** 키워드 검색 (제목 기준) */
-    public List<VideoResponseDTO> searchByKeyword(String keyword) {
-        return videoRepository.findByVideoTitleContainingIgnoreCase(keyword)
-                .stream()
-                .map(videoResponseMapper::toDtoWithStats)
-                .collect(Collectors.toList());
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
     }
 
     /**
      * 영상 상세 조회(조회수 증가 + watch history 저장)
+     * - 조회수와 시청 기록은 모두 메모리에 넣고 바로 응답 (DB 반영은 백그라운드)
      */
-    @Transactional
     public VideoResponseDTO getVideoDetailAndIncrement(String videoId, String userId) {
         Video video = videoRepository.findById(videoId)
                 .orElseThrow(() -> new EntityNotFoundException("video not found: " + videoId));
 
-        // 조회수 증가
-        Long oldViews = video.getViews();
-        long newViews = (oldViews == null ? 0L : oldViews) + 1;
-        video.setViews(newViews);
-        videoRepository.save(video);
+        // 조회수 증가: 행을 직접 수정하지 않고 메모리에 누적 후 주기적으로 일괄 반영
+        viewCountAccumulator.increment(videoId);
 
-        // WatchHistory 저장 (로그인 사용자만)
+        // WatchHistory 저장 (로그인 사용자만, 존재하지 않는 사용자는 쓰기 단계에서 버려짐)
         if (userId != null && !userId.isBlank()) {
-            userRepository.findUserByUserId(userId).ifPresent(user -> {
-                WatchHistory history = WatchHistory.builder()
-                        .user(user)
-                        .video(video)
-                        .watchedAt(LocalDateTime.now())
-                        .build();
-                watchHistoryRepository.save(history);
-            });
+            watchHistoryWriter.record(userId, videoId);
         }
 
         return videoResponseMapper.toDtoWithStats(video);
@@ -322,6 +327,10 @@ public class VideoService {
 
     /** 좋아요 기준 인기 영상 조회 (fallback: 조회수, 최신순) */
     public List<VideoResponseDTO> getPopularByLikeCount() {
+        return anonymousFeedCache.get(AnonymousFeedCache.Feed.POPULAR_BY_LIKES, this::loadPopularByLikeCount);
+    }
+
+    private List<VideoResponseDTO> loadPopularByLikeCount() {
         List<Video> videos = videoRepository.findTop50ByOrderByLikesDesc();
         if (videos.isEmpty()) {
             videos = videoRepository.findTop50ByOrderByViewsDesc();
@@ -329,192 +338,92 @@ public class VideoService {
         if (videos.isEmpty()) {
             videos = videoRepository.findTop50ByOrderByVideoIdDesc();
         }
-        return videos.stream()
-                .map(videoResponseMapper::toDtoWithStats)
-                .collect(Collectors.toList());
+        return videoResponseMapper.toDtosWithStats(videos);
     }
 
-    /** 조회수 기준 인기 영상 조회 (fallback: 최신순) */
-    public List<VideoResponseDTO> getPopularByWatchCount() {
-        List<Video> videos = watchHistoryRepository.findMostWatchedVideos();
+    /** 시청수 기준 인기 영상 조회 (윈도우별 트렌딩, fallback: 조회수 → 최신순) */
+    public List<VideoResponseDTO> getPopularByWatchCount(TrendingWindow window) {
+        List<Video> videos = findAllInOrder(trendingVideoService.getTopVideoIds(window, 50));
         if (videos.isEmpty()) {
             videos = videoRepository.findTop50ByOrderByViewsDesc();
         }
         if (videos.isEmpty()) {
             videos = videoRepository.findTop50ByOrderByVideoIdDesc();
         }
-        return videos.stream()
-                .map(videoResponseMapper::toDtoWithStats)
-                .collect(Collectors.toList());
+        return videoResponseMapper.toDtosWithStats(videos);
     }
 
 
 
-    /**────────────────────────────────────────────────────────────────────────
-     *  Youtube API로부터 받은 영상을 DB에 저장하거나, 수정
-     *  (태그 기능 제거하였으므로, 단순히 Video만 저장/수정)
-     *
-     *  @param videoList    YouTube API 응답 items 리스트
-     *  @param categoryName 카테고리 이름(예: "캠핑", "힐링" 등)
-     *────────────────────────────────────────────────────────────────────────*/
-    @Transactional
-    public void saveVideosFromApi(List<Map<String, Object>> videoList, String categoryName) {
-        Category category = categoryRepository.findByCategoryName(categoryName)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리: " + categoryName));
-
-        for (Map<String, Object> videoMap : videoList) {
-            Map<String, Object> idMap = (Map<String, Object>) videoMap.get("id");
-            Map<String, Object> snippetMap = (Map<String, Object>) videoMap.get("snippet");
-            if (idMap == null || snippetMap == null) continue;
-
-            String videoId = (String) idMap.get("videoId");
-            if (videoId == null) continue;
-
-            String title = (String) snippetMap.get("title");
-            String description = (String) snippetMap.get("description");
-            String videoUrl = "https://www.youtube.com/watch?v=" + videoId;
-
-            String thumbnailUrl = "";
-            Map<String, Object> thumbs = (Map<String, Object>) snippetMap.get("thumbnails");
-            if (thumbs != null && thumbs.get("default") != null) {
-                thumbnailUrl = (String) ((Map<String, Object>) thumbs.get("default")).get("url");
-            }
-
-            // 1) Video 엔티티 조회 후 수정 or 신규 생성
-            Video video = videoRepository.findById(videoId).orElse(null);
-            if (video == null) {
-                // 신규 생성
-                video = Video.builder()
-                        .videoId(videoId)
-                        .videoTitle(title)
-                        .videoDescription(description)
-                        .videoUrl(videoUrl)
-                        .thumbnailUrl(thumbnailUrl)
-                        .region("")   // 필요 시 region, city를 파라미터로 받아서 설정
-                        .city("")
-                        .build();
-                videoRepository.save(video);
-            } else {
-                // 기존 영속 객체를 setter로 수정
-                video.setVideoTitle(title);
-                video.setVideoDescription(description);
-                video.setVideoUrl(videoUrl);
-                video.setThumbnailUrl(thumbnailUrl);
-                // region, city, views, likes 등은 필요 시 setter로 갱신
-                videoRepository.save(video);
-            }
-
-            // 2) 카테고리 매핑 (이미 매핑된 것이 없으면 새로 추가)
-            VideoCategory.VideoCategoryId vcId =
-                    new VideoCategory.VideoCategoryId(videoId, category.getCategoryId());
-            boolean linkExists = video.getVideoCategories() != null &&
-                    video.getVideoCategories().stream()
-                            .anyMatch(vcat -> vcat.getId().equals(vcId));
-            if (!linkExists) {
-                VideoCategory vcat = VideoCategory.builder()
-                        .id(vcId)
-                        .video(video)
-                        .category(category)
-                        .build();
-                video.getVideoCategories().add(vcat);
-                videoRepository.save(video);
-            }
-        }
-    }
-
     /** 필요 시: 지역별 조회, etc. */
-    /** region만 있는 경우, limit개수만큼 조회 */
+    /** region만 있는 경우, limit개수만큼 조회 (최대 MAX_PAGE_SIZE) */
     public List<Video> getVideosByRegion(String region, int limit) {
-        return videoRepository.findByRegion(region, PageRequest.of(0, limit));
+        return videoRepository.findByRegion(region, cappedPage(limit));
     }
 
-    /** region + city가 있는 경우, limit개수만큼 조회 */
+    /** region + city가 있는 경우, limit개수만큼 조회 (최대 MAX_PAGE_SIZE) */
     public List<Video> getVideosByRegionAndCity(String region, String city, int limit) {
-        return videoRepository.findByRegionAndCity(region, city, PageRequest.of(0, limit));
+        return videoRepository.findByRegionAndCity(region, city, cappedPage(limit));
     }
 
-    /** 아무 파라미터도 없을 때, 전체 영상 중 limit개 조회 */
+    /** 아무 파라미터도 없을 때, 전체 영상 중 limit개 조회 (최대 MAX_PAGE_SIZE) */
     public List<Video> getAllVideos(int limit) {
-        return videoRepository.findAll(PageRequest.of(0, limit)).getContent();
+        return videoRepository.findAll(cappedPage(limit)).getContent();
+    }
+
+    private static PageRequest cappedPage(int limit) {
+        return PageRequest.of(0, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
     }
 
     public List<VideoResponseDTO> searchByTitleOrRegionOrCity(String keyword) {
-        return videoRepository.searchByTitleOrRegionOrCity(keyword).stream()
-                .map(videoResponseMapper::toDtoWithStats)
-                .collect(Collectors.toList());
+        return getVideoPage(VideoSort.LATEST, null, null, keyword, null, MAX_PAGE_SIZE).getItems();
     }
 
-    public List<VideoResponseDTO> searchMixedVideos(String keyword, int apiCount) {
+    /**
+     * DB 제목 검색 + YouTube API 검색 병합
+     * - DB 검색은 호출 스레드에서 끝내고, API 결과는 기다리지 않고 Mono 로 이어서 병합
+     * - API 가 실패하거나 서킷 브레이커가 열려 있으면 DB 결과만 반환
+     */
+    public Mono<List<VideoResponseDTO>> searchMixedVideos(String keyword, int apiCount) {
         // 1) DB에서 제목 검색
         List<VideoResponseDTO> dbList = searchByKeyword(keyword);
 
         // 2) YouTube API에서 검색
-        List<Map<String, Object>> apiList = youtubeApiService.searchVideosByKeyword(keyword, apiCount);
-
-        // 2-a) “여행과 관련 없는” 영상 걸러내기
-        List<Map<String, Object>> filteredApiList = apiList.stream()
-                .filter(map -> {
-                    Map<String, Object> snippet = (Map<String, Object>) map.get("snippet");
-                    if (snippet == null) return false;
-
-                    String title = (String) snippet.get("title");
-                    String description = (String) snippet.get("description");
-                    String channelTitle = (String) snippet.get("channelTitle");
-
-                    // 예시: 제목/설명에 “여행” 또는 “가볼만” 키워드가 없으면 제외
-                    boolean hasTravelKeyword = false;
-                    if (title != null && (title.contains("여행") || title.contains("가볼만"))) {
-                        hasTravelKeyword = true;
-                    } else if (description != null && (description.contains("여행") || description.contains("가볼만"))) {
-                        hasTravelKeyword = true;
-                    }
-                    if (!hasTravelKeyword) {
-                        return false;
-                    }
-
-                    // 채널명에 “광고”나 “ads”가 들어가 있으면 제외
-                    if (channelTitle != null) {
-                        String lower = channelTitle.toLowerCase();
-                        if (lower.contains("광고") || lower.contains("ads")) {
-                            return false;
-                        }
-                    }
-                    return true;
+        return youtubeApiService.searchVideosByKeyword(keyword, apiCount)
+                .onErrorResume(e -> {
+                    log.warn("통합 검색 중 YouTube API 실패, DB 결과만 반환 (keyword={}): {}", keyword, e.getMessage());
+                    return Mono.just(Collections.emptyList());
                 })
-                .collect(Collectors.toList());
+                .map(apiList -> mergeMixed(dbList, apiList));
+    }
 
-        // 2-b) DTO 변환
-        List<VideoResponseDTO> apiDtoList = filteredApiList.stream()
-                .map(apiMap -> {
-                    Map<String, Object> idMap = (Map<String, Object>) apiMap.get("id");
-                    Map<String, Object> snippet = (Map<String, Object>) apiMap.get("snippet");
-                    if (idMap == null || snippet == null) return null;
-
-                    String vid = (String) idMap.get("videoId");
-                    String t = (String) snippet.get("title");
-                    String d = (String) snippet.get("description");
-                    String ch = (String) snippet.get("channelTitle");
-                    String url = (vid != null) ? "https://www.youtube.com/watch?v=" + vid : null;
-
-                    String thumb = "";
-                    if (snippet.get("thumbnails") != null) {
-                        Map<String, Object> thumbs = (Map<String, Object>) snippet.get("thumbnails");
-                        if (thumbs.get("default") != null) {
-                            thumb = (String) ((Map<String, Object>) thumbs.get("default")).get("url");
-                        }
-                    }
-
-                    return VideoResponseDTO.builder()
-                            .videoId(vid)
-                            .videoTitle(t)
-                            .videoDescription(d)
-                            .videoUrl(url)
-                            .thumbnailUrl(thumb)
-                            .channelName(ch)
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    private List<VideoResponseDTO> mergeMixed(List<VideoResponseDTO> dbList, List<YoutubeSearchResponse.Item> apiList) {
+        // 2-a) “여행과 관련 없는” 영상 걸러내고 DTO 변환
+        List<VideoResponseDTO> apiDtoList = new ArrayList<>(apiList.size());
+        for (YoutubeSearchResponse.Item item : apiList) {
+            YoutubeSearchResponse.Snippet snippet = item.snippet();
+            String vid = item.videoId();
+            if (vid == null || snippet == null) continue;
+
+            // 제목/설명에 여행 관련 키워드가 없으면 제외
+            if (!videoFilterService.isTravelRelated(snippet.title(), snippet.description())) {
+                continue;
+            }
+            // 채널명이 광고 채널 규칙에 걸리면 제외
+            if (videoFilterService.isAdChannel(snippet.channelTitle())) {
+                continue;
+            }
+
+            // 2-b) DTO 변환
+            apiDtoList.add(VideoResponseDTO.builder()
+                    .videoId(vid)
+                    .videoTitle(snippet.title())
+                    .videoDescription(snippet.description())
+                    .videoUrl("https://www.youtube.com/watch?v=" + vid)
+                    .thumbnailUrl(snippet.defaultThumbnailUrl())
+                    .channelName(snippet.channelTitle())
+                    .build());
+        }
 
         // 3) 두 리스트 병합하면서 중복 제거
         Map<String, VideoResponseDTO> merged = new LinkedHashMap<>();
@@ -526,82 +435,4 @@ public class VideoService {
         }
         return new ArrayList<>(merged.values());
     }
-
-    /**
-     * Region, City 단위로 YouTube Shorts 결과를 받아와서
-     * Video.region, Video.city 칼럼에 세팅한 뒤 저장하는 메서드
-     *
-     * @param videoList  YouTube API에서 받아온 item(Map) 리스트
-     * @param region     ex) "경기도", "강원도" 등
-     * @param city       ex) "가평", "강릉" 등
-     */
-    @Transactional
-    public void saveVideosByRegionAndCity(List<Map<String, Object>> videoList, String region, String city) {
-        for (Map<String, Object> videoMap : videoList) {
-            Map<String, Object> snippet = (Map<String, Object>) videoMap.get("snippet");
-            if (snippet == null) {
-                continue;
-            }
-
-            String title       = (String) snippet.get("title");
-            String description = (String) snippet.get("description");
-            String channelName = (String) snippet.get("channelTitle");
-
-            // 예시: 제목/설명에 “여행” 또는 “가볼만” 키워드가 포함되지 않으면 건너뛰기
-            if (title == null || !(title.contains("여행") || title.contains("가볼만"))) {
-                continue;
-            }
-            if (channelName != null) {
-                String lower = channelName.toLowerCase();
-                if (lower.contains("광고") || lower.contains("ads")) {
-                    continue;
-                }
-            }
-            if (title.length() < 5 && (description == null || description.length() < 10)) {
-                continue;
-            }
-
-            Map<String, Object> idMap = (Map<String, Object>) videoMap.get("id");
-            if (idMap == null) {
-                continue;
-            }
-            String videoId = (String) idMap.get("videoId");
-            if (videoId == null) {
-                continue;
-            }
-
-            String videoUrl = "https://www.youtube.com/watch?v=" + videoId;
-
-            // 썸네일 URL 추출
-            String thumbnailUrl = "";
-            Map<String, Object> thumbs = (Map<String, Object>) snippet.get("thumbnails");
-            if (thumbs != null && thumbs.get("default") != null) {
-                thumbnailUrl = (String) ((Map<String, Object>) thumbs.get("default")).get("url");
-            }
-
-            // ── 1) 기존 Video 조회 또는 신규 생성
-            Video video = videoRepository.findById(videoId).orElse(null);
-            if (video == null) {
-                video = Video.builder()
-                        .videoId(videoId)
-                        .videoTitle(title)
-                        .videoDescription(description)
-                        .videoUrl(videoUrl)
-                        .thumbnailUrl(thumbnailUrl)
-                        .region(region)
-                        .city(city)
-                        .build();
-                videoRepository.save(video);
-            } else {
-                // 기존에 있던 영상이면 region, city, 제목, 설명, 썸네일 등만 업데이트
-                video.setVideoTitle(title);
-                video.setVideoDescription(description);
-                video.setVideoUrl(videoUrl);
-                video.setThumbnailUrl(thumbnailUrl);
-                video.setRegion(region);
-                video.setCity(city);
-                videoRepository.save(video);
-            }
-        }
-    }
 }
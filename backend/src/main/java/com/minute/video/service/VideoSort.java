@@ -0,0 +1,28 @@
+package com.minute.video.service;
+
+import com.minute.common.exception.InvalidRequestParameterException;
+
+import java.util.Locale;
+
+/** 영상 목록 정렬 기준 (키셋 페이지네이션 커서의 정렬 키) */
+public enum VideoSort {
+    LATEST, LIKES, VIEWS,
+    /** 키워드 검색 관련도 (검색 색인 점수, 쿼리 파라미터로는 받지 않음) */
+    RELEVANCE;
+
+    /** 쿼리 파라미터(latest/likes/views) → enum, 값이 없으면 기본값 / 잘못된 값이면 InvalidRequestParameterException */
+    public static VideoSort from(String value, VideoSort defaultSort) {
+        if (value == null || value.isBlank()) {
+            return defaultSort;
+        }
+        try {
+            VideoSort sort = VideoSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            if (sort == RELEVANCE) {
+                throw new IllegalArgumentException(value);
+            }
+            return sort;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestParameterException("지원하지 않는 정렬입니다: " + value + " (latest, likes, views)");
+        }
+    }
+}
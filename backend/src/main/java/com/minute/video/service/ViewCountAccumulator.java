@@ -0,0 +1,103 @@
+package com.minute.video.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 영상 조회수 쓰기 지연(write-behind) 누적기
+ * - 조회 요청마다 video 행을 잠그고 수정하는 대신, videoId별 LongAdder 에 메모리로 누적
+ * - 주기적으로 누적된 증가분만 "views = views + ?" 배치 UPDATE 로 반영 (종료 시에도 한 번 더 반영)
+ * - 조회 시에는 DB 값 + 아직 반영되지 않은 증가분을 합쳐서 보여줍니다.
+ * - 한 주기 동안 조회가 없던 영상의 항목은 지워서 누적 맵이 조회된 적 있는 모든 영상으로 커지지 않게 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountAccumulator {
+
+    private static final String FLUSH_SQL = "UPDATE video SET views = views + ? WHERE video_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // videoId → 아직 DB에 반영되지 않은 조회수 증가분
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /** 조회수 1 증가 (메모리 누적) */
+    public void increment(String videoId) {
+        add(videoId, 1L);
+    }
+
+    /** 아직 DB에 반영되지 않은 조회수 증가분 */
+    public long pendingCount(String videoId) {
+        LongAdder adder = pending.get(videoId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /** DB 조회수 + 미반영 증가분 */
+    public long currentViews(String videoId, Long persistedViews) {
+        return (persistedViews == null ? 0L : persistedViews) + pendingCount(videoId);
+    }
+
+    @Scheduled(fixedDelayString = "${video.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<String> videoIds = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+            // sumThenReset 은 셀 단위로 원자적으로 0으로 바꾸므로 동시에 들어온 증가분은 다음 반영 때 포함됩니다.
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                videoIds.add(entry.getKey());
+                batchArgs.add(new Object[]{delta, entry.getKey()});
+            } else {
+                evictIdle(entry.getKey());
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            log.debug("조회수 반영 완료: {}개 영상", batchArgs.size());
+        } catch (Exception e) {
+            // 반영 실패 시 증가분을 되돌려 두고 다음 주기에 다시 시도
+            for (int i = 0; i < videoIds.size(); i++) {
+                add(videoIds.get(i), (Long) batchArgs.get(i)[0]);
+            }
+            log.warn("조회수 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지난 반영 이후 조회가 없던 항목 제거
+     * - increment 도 같은 키의 compute 안에서 더하므로, 0 확인과 제거 사이에 증가분이 끼어들어 유실되지 않음
+     */
+    private void evictIdle(String videoId) {
+        pending.compute(videoId, (k, adder) -> adder == null || adder.sum() == 0 ? null : adder);
+    }
+
+    /** 증가분 누적 (제거와 같은 키 단위로 직렬화되도록 compute 사용) */
+    private void add(String videoId, long delta) {
+        pending.compute(videoId, (k, adder) -> {
+            LongAdder target = adder != null ? adder : new LongAdder();
+            target.add(delta);
+            return target;
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("=== ViewCountAccumulator: 종료 전 조회수 반영 ===");
+        flush();
+    }
+}
@@ -4,15 +4,17 @@ import com.minute.user.entity.User;
 import com.minute.user.repository.UserRepository;
 import com.minute.video.entity.Video;
 import com.minute.video.entity.WatchHistory;
+import com.minute.video.dto.HistoryPageResponseDTO;
 import com.minute.video.dto.WatchHistoryRequestDTO;
 import com.minute.video.dto.WatchHistoryResponseDTO;
 import com.minute.video.mapper.VideoMapper;
 import com.minute.video.repository.VideoRepository;
 import com.minute.video.repository.WatchHistoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,29 +27,26 @@ public class WatchHistoryService {
     private final UserRepository userRepository;
     private final VideoRepository videoRepository;
     private final VideoMapper videoMapper;
+    private final WatchHistoryWriter watchHistoryWriter;
+    private final UserSignalStore userSignalStore;
 
-    // 시청기록저장
-    public void saveWatchHistory(String userId,WatchHistoryRequestDTO watchHistoryRequestDTO) {
-
-        // User 객체 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with ID: " +userId));
+    public static final int MAX_PAGE_SIZE = 100;
 
-        // Video 객체 조회
-        Video video = videoRepository.findById(watchHistoryRequestDTO.getVideoId())
-                .orElseThrow(() -> new RuntimeException("Video not found with ID: " + watchHistoryRequestDTO.getVideoId()));
+    // 시청기록저장 (존재 여부만 확인하고 실제 저장은 WatchHistoryWriter 가 배치로 처리)
+    public void saveWatchHistory(String userId,WatchHistoryRequestDTO watchHistoryRequestDTO) {
 
-        LocalDateTime now = LocalDateTime.now();
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found with ID: " +userId);
+        }
+        if (!videoRepository.existsById(watchHistoryRequestDTO.getVideoId())) {
+            throw new RuntimeException("Video not found with ID: " + watchHistoryRequestDTO.getVideoId());
+        }
 
-        WatchHistory watchHistory = WatchHistory.builder()
-                .user(user)
-                .video(video)
-                .watchedAt(now)
-                .build();
-        watchHistoryRepository.save(watchHistory);
+        watchHistoryWriter.record(userId, watchHistoryRequestDTO.getVideoId());
     }
 
     // 시청 기록 삭제
+    @Transactional
     public void deleteWatchHistory(String userId, String videoId) {
         // User 객체 조회
         User user = userRepository.findById(userId)
@@ -63,21 +62,43 @@ public class WatchHistoryService {
             throw new RuntimeException("Watch history not found for user and video");
         }
         watchHistoryRepository.deleteAll(watchHistories);
+        userSignalStore.clear(userId, UserSignalStore.Kind.WATCH, videoId);
     }
 
-    // 특정 사용자의 시청 기록 조회
+    // 특정 사용자의 시청 기록 조회 (최근 MAX_PAGE_SIZE 건 / 이후는 getWatchHistoryPage 로)
+    @Transactional(readOnly = true)
     public List<WatchHistoryResponseDTO> getUserWatchHistory(String userId){
-        // User 객체 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found with ID: " + userId);
+        }
+        return getWatchHistoryPage(userId, null, MAX_PAGE_SIZE).getItems();
+    }
+
+    // 시청 기록 키셋 페이지 (최신순, 영상 정보는 같은 쿼리에서 조인, 커서는 마지막 기록의 (시청 시각, watchId))
+    @Transactional(readOnly = true)
+    public HistoryPageResponseDTO<WatchHistoryResponseDTO> getWatchHistoryPage(String userId, String cursor, int size) {
+        HistoryCursor after = HistoryCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<WatchHistoryRepository.WatchHistoryRow> rows = watchHistoryRepository.findPageByUserId(userId,
+                after != null ? after.at() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, pageSize + 1));
 
-        return watchHistoryRepository.findByUserUserIdOrderByWatchedAtDesc(userId).stream()
-                .map(watchHistory -> new WatchHistoryResponseDTO(
-                        watchHistory.getVideo().getVideoId(),
-                        watchHistory.getVideo().getVideoTitle(),
-                        watchHistory.getVideo().getVideoUrl(),
-                        watchHistory.getVideo().getThumbnailUrl(),
-                        watchHistory.getWatchedAt()))
+        boolean hasNext = rows.size() > pageSize;
+        List<WatchHistoryRepository.WatchHistoryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            WatchHistoryRepository.WatchHistoryRow last = page.get(page.size() - 1);
+            nextCursor = new HistoryCursor(last.getWatchedAt(), last.getWatchId()).encode();
+        }
+        List<WatchHistoryResponseDTO> items = page.stream()
+                .map(row -> new WatchHistoryResponseDTO(
+                        row.getVideoId(),
+                        row.getVideoTitle(),
+                        row.getVideoUrl(),
+                        row.getThumbnailUrl(),
+                        row.getWatchedAt()))
                 .collect(Collectors.toList());
+        return new HistoryPageResponseDTO<>(items, nextCursor, hasNext);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package com.minute.video.service;
+
+import com.minute.common.batch.BufferedBatchWriter;
+import com.minute.video.event.UserActivityEvent;
+import com.minute.video.event.VideoWatchedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 시청 기록 비동기 저장기
+ * - 영상 상세 조회/시청 기록 API는 이벤트를 큐에 넣기만 하고 바로 응답
+ * - 전용 쓰기 스레드가 JDBC 배치 INSERT 로 watch_history 에 저장
+ *   (IDENTITY 키 전략이라 Hibernate 배치 INSERT 가 동작하지 않으므로 JdbcTemplate 사용)
+ */
+@Component
+public class WatchHistoryWriter extends BufferedBatchWriter<WatchHistoryWriter.WatchEvent> {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO watch_history (user_id, video_id, watched_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSignalStore userSignalStore;
+
+    public WatchHistoryWriter(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              UserSignalStore userSignalStore,
+                              @Value("${watch-history.writer.capacity:10000}") int capacity,
+                              @Value("${watch-history.writer.batch-size:200}") int batchSize,
+                              @Value("${watch-history.writer.max-wait-ms:200}") long maxWaitMillis,
+                              @Value("${watch-history.writer.spill-file:./data/watch-history-spill.log}") String spillFile) {
+        super("watch-history", capacity, batchSize, maxWaitMillis, spillFile);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.userSignalStore = userSignalStore;
+    }
+
+    /** 시청 이벤트 등록 (트렌딩 집계 등에는 DB 반영을 기다리지 않고 바로 알림) */
+    public void record(String userId, String videoId) {
+        LocalDateTime now = LocalDateTime.now();
+        submit(new WatchEvent(userId, videoId, now));
+        eventPublisher.publishEvent(new VideoWatchedEvent(userId, videoId, now));
+    }
+
+    @Override
+    protected void writeBatch(List<WatchEvent> batch) {
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (WatchEvent e : batch) {
+            args.add(new Object[]{e.userId(), e.videoId(), Timestamp.valueOf(e.watchedAt())});
+        }
+        // INSERT 와 같은 트랜잭션에서 시청 횟수 증감을 등록해서 커밋 후에 UserSignalStore 에 반영
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, args);
+            for (WatchEvent e : batch) {
+                userSignalStore.record(e.userId(), UserSignalStore.Kind.WATCH, e.videoId(), 1);
+            }
+        });
+    }
+
+    /** 저장이 끝난 시청 기록의 사용자별로 추천 피드 갱신 이벤트 발행 */
+    @Override
+    protected void afterBatchWritten(List<WatchEvent> batch) {
+        Set<String> userIds = new LinkedHashSet<>();
+        batch.forEach(e -> userIds.add(e.userId()));
+        userIds.forEach(userId ->
+                eventPublisher.publishEvent(new UserActivityEvent(userId, UserActivityEvent.ActivityType.WATCH)));
+    }
+
+    @Override
+    protected String serialize(WatchEvent event) {
+        return event.userId() + '\t' + event.videoId() + '\t' + event.watchedAt();
+    }
+
+    @Override
+    protected WatchEvent deserialize(String line) {
+        String[] parts = line.split("\t", 3);
+        return new WatchEvent(parts[0], parts[1], LocalDateTime.parse(parts[2]));
+    }
+
+    public record WatchEvent(String userId, String videoId, LocalDateTime watchedAt) {
+    }
+}
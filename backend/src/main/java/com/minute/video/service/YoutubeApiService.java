@@ -1,223 +1,294 @@
 package com.minute.video.service;
 
+import com.minute.common.ratelimit.DailyQuota;
+import com.minute.common.ratelimit.TokenBucket;
+import com.minute.common.resilience.CircuitBreaker;
+import com.minute.video.dto.YoutubeSearchResponse;
+import com.minute.video.dto.YoutubeVideoListResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.stereotype.Component;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * YouTube Data API 호출 (논블로킹, YoutubeClientConfig 의 공용 WebClient 사용)
+ * - 모든 호출은 공용 서킷 브레이커를 거치며, 열려 있으면 업스트림을 부르지 않고 바로 실패
+ * - 토큰 버킷 속도에 맞춰 늦춰서 보내고, 실제로 보내는 시점에(재시도 포함) 일일 쿼터에서 API 단위 비용을 차감
+ * - 사용자 요청과 스케줄 수집은 토큰 버킷을 따로 써서, 수집이 몰려도 사용자 요청이 그 뒤에 줄 서지 않음
+ * - 사용자 요청용 검색은 YoutubeResponseCache 를 거쳐서, 같은 검색이 동시에 들어와도 업스트림 호출은 한 번
+ */
 @Service
 @RequiredArgsConstructor
 public class YoutubeApiService {
 
+    // YouTube Data API 호출당 쿼터 비용
+    static final int SEARCH_UNITS = 100;
+    static final int VIDEOS_UNITS = 1;
+
     @Value("${youtube.api.key}")
     private String apiKey;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 속도 제한으로 기다릴 수 있는 최대 시간 (넘으면 기다리지 않고 바로 실패)
+    @Value("${youtube.client.rate.max-wait-ms:1000}")
+    private long rateMaxWaitMs;
+
+    @Value("${youtube.client.rate.ingest-max-wait-ms:30000}")
+    private long ingestRateMaxWaitMs;
+
+    private final WebClient youtubeWebClient;
+    private final CircuitBreaker youtubeCircuitBreaker;
+    private final TokenBucket youtubeRateLimiter;
+    private final TokenBucket youtubeIngestRateLimiter;
+    private final DailyQuota youtubeDailyQuota;
+    private final YoutubeResponseCache responseCache;
+    private final ShortsDurationPolicy shortsDurationPolicy;
+
+    /**
+     * 증분 검색 결과 (notModified 이면 items 는 비어 있고 etag/newestPublishedAt 은 요청 값 그대로)
+     * - nextPageToken 이 있으면 같은 조건의 결과가 더 남아 있음
+     */
+    public record SearchPage(boolean notModified, List<YoutubeSearchResponse.Item> items,
+                             String etag, Instant newestPublishedAt, int received, String nextPageToken) {
+    }
 
     /**
-     * 1) 키워드 기반 검색 후, 60초 이하 영상(Shorts)만 반환
+     * 1) 키워드 기반 검색 후, 숏츠 길이 범위 안의 영상(Shorts)만 반환
      *    - 캠핑, 힐링, 산, 테마파크 같은 “카테고리” 단위로 쓰려면 이 메서드를 사용하세요.
      */
-    public List<Map<String, Object>> searchVideosByKeyword(String keyword, int maxResults) {
-        // ① YouTube Search API 호출 (type=video, part=snippet)
-        String url = UriComponentsBuilder.fromHttpUrl("https://www.googleapis.com/youtube/v3/search")
-                .queryParam("key", apiKey)
-                .queryParam("part", "snippet")
-                .queryParam("type", "video")
-                .queryParam("maxResults", maxResults)
-                .queryParam("q", keyword)
-                .queryParam("regionCode", "KR")
-                // ↓ 여행 & 이벤트 카테고리만
-                .queryParam("videoCategoryId", "17")
-                // ↓ 폭력·음란물 콘텐츠 제외 (moderate 권장, 필요 시 strict)
-                .queryParam("safeSearch", "moderate")
-                .build()
-                .toUriString();
-
-        Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-        if (response == null || !response.containsKey("items")) {
-            return Collections.emptyList();
-        }
-        List<Map<String, Object>> items = (List<Map<String, Object>>) response.get("items");
-        if (items.isEmpty()) {
-            return Collections.emptyList();
-        }
+    public Mono<List<YoutubeSearchResponse.Item>> searchVideosByKeyword(String keyword, int maxResults) {
+        return cachedSearch(keyword, maxResults);
+    }
 
-        // ② 얻은 videoId들만 모아서 contentDetails 조회
-        List<String> videoIds = items.stream()
-                .map(item -> {
-                    Map<String, Object> idMap = (Map<String, Object>) item.get("id");
-                    return idMap != null ? (String) idMap.get("videoId") : null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    /**
+     * 2) 지역 기반 검색 후, 숏츠 길이 범위 안의 영상(Shorts)만 반환
+     *    - “검색 쿼리”가 regionKeyword + " 여행" 형태가 되며, 숏츠 길이 범위 안인 결과만 필터합니다.
+     *    - 예) searchShortsByRegion("부산", 15) ⇒ “부산 여행” 키워드 검색
+     */
+    public Mono<List<YoutubeSearchResponse.Item>> searchShortsByRegion(String regionKeyword, int maxResults) {
+        return cachedSearch(regionQuery(regionKeyword), maxResults);
+    }
 
-        if (videoIds.isEmpty()) {
-            return Collections.emptyList();
-        }
+    /** 지역 검색에 쓰는 실제 검색어 */
+    public static String regionQuery(String regionKeyword) {
+        return regionKeyword + " 여행";
+    }
 
-        String ids = String.join(",", videoIds);
-        String detailUrl = UriComponentsBuilder.fromHttpUrl("https://www.googleapis.com/youtube/v3/videos")
-                .queryParam("key", apiKey)
-                .queryParam("part", "contentDetails")
-                .queryParam("id", ids)
-                .build()
-                .toUriString();
-
-        Map<String, Object> detailResp = restTemplate.getForObject(detailUrl, Map.class);
-        if (detailResp == null || !detailResp.containsKey("items")) {
-            return Collections.emptyList();
-        }
-        List<Map<String, Object>> details = (List<Map<String, Object>>) detailResp.get("items");
-
-        // ③ 60초 이하인 videoId들만 필터링
-        Set<String> shortsIds = details.stream()
-                .filter(item -> {
-                    Map<String, Object> contentDetails = (Map<String, Object>) item.get("contentDetails");
-                    String duration = contentDetails != null ? (String) contentDetails.get("duration") : null;
-                    int seconds = parseDurationToSeconds(duration);
-                    return seconds > 0 && seconds <= 60;
-                })
-                .map(item -> (String) item.get("id"))
-                .collect(Collectors.toSet());
-
-        // ④ 최종적으로 “shortsIds”에 포함된 항목만 반환
-        return items.stream()
-                .filter(item -> {
-                    Map<String, Object> idMap = (Map<String, Object>) item.get("id");
-                    String videoId = idMap != null ? (String) idMap.get("videoId") : null;
-                    return videoId != null && shortsIds.contains(videoId);
-                })
-                .collect(Collectors.toList());
+    /** 사용자 요청용 검색: 같은 (검색어, 개수) 는 YoutubeResponseCache 에서 응답 */
+    private Mono<List<YoutubeSearchResponse.Item>> cachedSearch(String query, int maxResults) {
+        String key = "shorts:" + maxResults + ":" + normalizeQuery(query);
+        return responseCache.get(key, () -> search(query, null, null, null, maxResults, true).map(SearchPage::items));
+    }
+
+    /** 대소문자/연속 공백 차이는 같은 검색어로 취급 */
+    static String normalizeQuery(String query) {
+        return query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
     }
 
     /**
-     * 2) 지역 기반 검색 후, 60초 이하(Shorts)만 반환
-     *    - “검색 쿼리”가 regionKeyword + " 여행" 형태가 되며, 60초 이하인 결과만 필터합니다.
-     *    - 예) searchShortsByRegion("부산", 15) ⇒ “부산 여행” 키워드 검색
+     * 3) 증분 검색 (캐시를 거치지 않음, 스케줄 수집용)
+     *    - publishedAfter 이후 영상만 검색하고, 같은 요청이면 If-None-Match 로 보내 304 를 받음
+     *    - 304 이면 contentDetails 조회도 하지 않음
+     *    - publishedAfter 가 있으면 최신순(order=date)으로 받아서 새 영상이 먼저 오도록 함
+     *
+     * @param publishedAfter null 이면 전체 검색
+     * @param etag           이전 응답의 ETag (publishedAfter 가 같을 때만 의미 있음)
      */
-    public List<Map<String, Object>> searchShortsByRegion(String regionKeyword, int maxResults) {
-        String query = regionKeyword + " 여행";
-        // ① YouTube Search API (type=video, part=snippet)
-        String url = UriComponentsBuilder.fromHttpUrl("https://www.googleapis.com/youtube/v3/search")
-                .queryParam("key", apiKey)
-                .queryParam("part", "snippet")
-                .queryParam("type", "video")
-                .queryParam("maxResults", maxResults)
-                .queryParam("q", query)
-                .queryParam("regionCode", "KR")
-                .queryParam("videoCategoryId", "17")
-                .queryParam("safeSearch", "moderate")
-                .build()
-                .toUriString();
-
-        Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-        if (response == null || !response.containsKey("items")) {
-            return Collections.emptyList();
-        }
-        List<Map<String, Object>> items = (List<Map<String, Object>>) response.get("items");
-        if (items.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // ② 얻은 videoId들만 모아서 contentDetails 조회
-        List<String> videoIds = items.stream()
-                .map(item -> {
-                    Map<String, Object> idMap = (Map<String, Object>) item.get("id");
-                    return idMap != null ? (String) idMap.get("videoId") : null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    public Mono<SearchPage> searchShortsSince(String query, Instant publishedAfter, String etag, int maxResults) {
+        return searchShortsSince(query, publishedAfter, etag, null, maxResults);
+    }
 
-        if (videoIds.isEmpty()) {
-            return Collections.emptyList();
-        }
+    /**
+     * 증분 검색의 다음 페이지 조회 (pageToken 은 이전 페이지의 nextPageToken, null 이면 첫 페이지)
+     * - 다음 페이지는 검색 1회로 쿼터가 따로 차감됨
+     */
+    public Mono<SearchPage> searchShortsSince(String query, Instant publishedAfter, String etag,
+                                              String pageToken, int maxResults) {
+        return search(query, publishedAfter, etag, pageToken, maxResults, false);
+    }
 
-        String ids = String.join(",", videoIds);
-        String detailUrl = UriComponentsBuilder.fromHttpUrl("https://www.googleapis.com/youtube/v3/videos")
-                .queryParam("key", apiKey)
-                .queryParam("part", "contentDetails")
-                .queryParam("id", ids)
-                .build()
-                .toUriString();
-
-        Map<String, Object> detailResp = restTemplate.getForObject(detailUrl, Map.class);
-        if (detailResp == null || !detailResp.containsKey("items")) {
-            return Collections.emptyList();
-        }
-        List<Map<String, Object>> details = (List<Map<String, Object>>) detailResp.get("items");
-
-        // ③ 60초 이하 비디오 ID만 모으기
-        Set<String> shortsIds = details.stream()
-                .filter(item -> {
-                    Map<String, Object> contentDetails = (Map<String, Object>) item.get("contentDetails");
-                    String duration = contentDetails != null ? (String) contentDetails.get("duration") : null;
-                    int seconds = parseDurationToSeconds(duration);
-                    return seconds > 0 && seconds <= 60;
+    /** @param interactive 사용자 요청이면 true (속도 제한 버킷/대기 상한을 수집용과 따로 씀) */
+    private Mono<SearchPage> search(String query, Instant publishedAfter, String etag,
+                                    String pageToken, int maxResults, boolean interactive) {
+        // ① YouTube Search API 호출 (type=video, part=snippet)
+        Mono<SearchPage> search = youtubeWebClient.get()
+                .uri(builder -> {
+                    UriBuilder uri = builder.path("/search")
+                            .queryParam("key", "{key}")
+                            .queryParam("part", "snippet")
+                            .queryParam("type", "video")
+                            .queryParam("maxResults", maxResults)
+                            .queryParam("q", "{q}")
+                            .queryParam("regionCode", "KR")
+                            // ↓ 여행 & 이벤트 카테고리만
+                            .queryParam("videoCategoryId", "17")
+                            // ↓ 폭력·음란물 콘텐츠 제외 (moderate 권장, 필요 시 strict)
+                            .queryParam("safeSearch", "moderate");
+                    if (pageToken != null) {
+                        uri.queryParam("pageToken", pageToken);
+                    }
+                    if (publishedAfter == null) {
+                        return uri.build(apiKey, query);
+                    }
+                    return uri.queryParam("publishedAfter", "{publishedAfter}")
+                            .queryParam("order", "date")
+                            .build(apiKey, query, DateTimeFormatter.ISO_INSTANT.format(publishedAfter));
                 })
-                .map(item -> (String) item.get("id"))
-                .collect(Collectors.toSet());
-
-        // ④ 최종적으로 “shortsIds”에 포함된 것만 반환
-        return items.stream()
-                .filter(item -> {
-                    Map<String, Object> idMap = (Map<String, Object>) item.get("id");
-                    String videoId = idMap != null ? (String) idMap.get("videoId") : null;
-                    return videoId != null && shortsIds.contains(videoId);
+                .headers(headers -> {
+                    if (etag != null) {
+                        headers.setIfNoneMatch(etag);
+                    }
                 })
-                .collect(Collectors.toList());
+                .exchangeToMono(response -> {
+                    if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        return Mono.just(new SearchPage(true, Collections.emptyList(), etag, publishedAfter, 0, null));
+                    }
+                    if (response.statusCode().isError()) {
+                        return response.createError();
+                    }
+                    String newEtag = response.headers().asHttpHeaders().getETag();
+                    return response.bodyToMono(YoutubeSearchResponse.class)
+                            .map(body -> new SearchPage(false, body.itemsOrEmpty(), newEtag,
+                                    newestPublishedAt(body.itemsOrEmpty(), publishedAfter), body.itemsOrEmpty().size(),
+                                    body.nextPageToken()))
+                            .defaultIfEmpty(new SearchPage(false, Collections.emptyList(), newEtag, publishedAfter, 0, null));
+                });
+
+        return guarded(search, SEARCH_UNITS, interactive).flatMap(page -> page.notModified() || page.items().isEmpty()
+                ? Mono.just(page)
+                : filterShorts(page.items(), interactive).map(shorts ->
+                        new SearchPage(false, shorts, page.etag(), page.newestPublishedAt(), page.received(),
+                                page.nextPageToken())));
     }
 
-    /** ISO8601 형식(PnDTnHnMnS)을 초 단위로 변환 */
-    private static int parseDurationToSeconds(String iso) {
-        if (iso == null) return 0;
-        int minutes = 0, seconds = 0;
-        java.util.regex.Matcher m = java.util.regex.Pattern
-                .compile("PT(?:(\\d+)M)?(?:(\\d+)S)?")
-                .matcher(iso);
-        if (m.matches()) {
-            minutes = m.group(1) != null ? Integer.parseInt(m.group(1)) : 0;
-            seconds = m.group(2) != null ? Integer.parseInt(m.group(2)) : 0;
+    /** 숏츠 필터와 관계없이 받은 영상 중 가장 최근 publishedAt 까지는 확인한 것으로 봄 */
+    private static Instant newestPublishedAt(List<YoutubeSearchResponse.Item> items, Instant publishedAfter) {
+        Instant newest = publishedAfter;
+        for (YoutubeSearchResponse.Item item : items) {
+            Instant publishedAt = item.snippet() != null ? item.snippet().publishedInstant() : null;
+            if (publishedAt != null && (newest == null || publishedAt.isAfter(newest))) {
+                newest = publishedAt;
+            }
         }
-        return minutes * 60 + seconds;
+        return newest;
     }
 
-
-    @Component
-    @RequiredArgsConstructor
-    public static class ScheduledVideoFetcher {
-        private final YoutubeApiService youtubeApiService;
-        private final VideoService videoService;
-
-        /**
-         * 6시간마다 “캠핑, 힐링, 산, 테마파크” 네 가지 키워드를 순회하며 DB 저장
-         */
-        @Scheduled(fixedDelay = 1000 * 60 * 60 * 6)
-        public void fetchAllCategoryShorts() {
-            List<String> categories = Arrays.asList("캠핑", "힐링", "산", "테마파크");
-            for (String category : categories) {
-                // 키워드 기반 검색 → 60초 이하만 필터
-                List<Map<String, Object>> results = youtubeApiService.searchVideosByKeyword(category, 15);
-                // VideoService.saveVideosFromApi(…, category)로 저장 (category field 에 세팅)
-                videoService.saveVideosFromApi(results, category);
+    /** 검색 결과 중 ShortsDurationPolicy 범위 안의 영상(Shorts)만 남김 (videos API 로 contentDetails 조회) */
+    private Mono<List<YoutubeSearchResponse.Item>> filterShorts(List<YoutubeSearchResponse.Item> items,
+                                                                 boolean interactive) {
+        // ② 얻은 videoId들만 모아서 contentDetails 조회
+        StringJoiner ids = new StringJoiner(",");
+        for (YoutubeSearchResponse.Item item : items) {
+            if (item.videoId() != null) {
+                ids.add(item.videoId());
             }
         }
+        if (ids.length() == 0) {
+            return Mono.just(Collections.emptyList());
+        }
+
+        Mono<YoutubeVideoListResponse> details = youtubeWebClient.get()
+                .uri(builder -> builder.path("/videos")
+                        .queryParam("key", "{key}")
+                        .queryParam("part", "contentDetails")
+                        .queryParam("id", "{ids}")
+                        .build(apiKey, ids.toString()))
+                .retrieve()
+                .bodyToMono(YoutubeVideoListResponse.class);
 
-        /**
-         * 6시간마다 지역 기반 숏츠(예: “서울 여행” / “부산 여행”)를 저장하고 싶으면
-         * 아래와 같이 추가로 메서드를 만들어도 됩니다.
-         * (예시: 매일 오전 3시에 “서울 여행” 키워드로 업데이트)
-         */
-        @Scheduled(cron = "0 0 3 * * *")
-        public void fetchSeoulShorts() {
-            List<Map<String, Object>> seoulResults = youtubeApiService.searchShortsByRegion("서울", 15);
-            videoService.saveVideosFromApi(seoulResults, "서울");  // category 대신 “서울”로 저장
+        return guarded(details, VIDEOS_UNITS, interactive)
+                .map(response -> {
+                    // ③ 숏츠 길이 범위(기본 60초 이하)인 videoId들만 필터링
+                    Set<String> shortsIds = new HashSet<>();
+                    for (YoutubeVideoListResponse.Item detail : response.itemsOrEmpty()) {
+                        if (shortsDurationPolicy.accepts(detail.duration())) {
+                            shortsIds.add(detail.id());
+                        }
+                    }
+
+                    // ④ 최종적으로 “shortsIds”에 포함된 항목만 반환
+                    List<YoutubeSearchResponse.Item> shorts = new ArrayList<>(shortsIds.size());
+                    for (YoutubeSearchResponse.Item item : items) {
+                        if (item.videoId() != null && shortsIds.contains(item.videoId())) {
+                            shorts.add(item);
+                        }
+                    }
+                    return shorts;
+                })
+                .defaultIfEmpty(Collections.emptyList());
+    }
+
+    /**
+     * 4) 영상 ID 목록의 snippet(제목/설명/채널/썸네일) 조회
+     *    - videos.list 는 한 번에 최대 50개 ID 까지 받으므로 호출 쪽에서 나눠서 요청
+     *    - 응답에 없는 ID(삭제/비공개 영상)는 결과 Map 에 들어가지 않음
+     */
+    public Mono<Map<String, YoutubeSearchResponse.Snippet>> fetchSnippets(Collection<String> videoIds) {
+        if (videoIds.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
         }
+        Mono<YoutubeVideoListResponse> details = youtubeWebClient.get()
+                .uri(builder -> builder.path("/videos")
+                        .queryParam("key", "{key}")
+                        .queryParam("part", "snippet")
+                        .queryParam("id", "{ids}")
+                        .build(apiKey, String.join(",", videoIds)))
+                .retrieve()
+                .bodyToMono(YoutubeVideoListResponse.class);
+
+        return guarded(details, VIDEOS_UNITS, true)
+                .map(response -> {
+                    Map<String, YoutubeSearchResponse.Snippet> snippets = new HashMap<>();
+                    for (YoutubeVideoListResponse.Item item : response.itemsOrEmpty()) {
+                        if (item.id() != null && item.snippet() != null) {
+                            snippets.put(item.id(), item.snippet());
+                        }
+                    }
+                    return snippets;
+                })
+                .defaultIfEmpty(Collections.emptyMap());
+    }
+
+    /**
+     * 호출 한 번(구독마다, 재시도 포함)에 쿼터/속도 제한/서킷 브레이커 적용
+     * - 일일 쿼터가 이미 모자라면 기다리지 않고 바로 실패 (브레이커 실패로는 세지 않음)
+     * - 토큰 버킷에서 1개를 예약하고, 모자라면 그만큼 지연시킨 뒤 호출 (스레드를 막지 않음)
+     *   기다릴 시간이 상한을 넘으면 예약하지 않고 바로 실패 (사용자 요청은 짧게, 수집은 길게)
+     * - 쿼터 차감과 브레이커 확인은 지연이 끝나 실제로 보내는 시점에 함 (대기 중 취소/타임아웃되면 차감하지 않음)
+     * - 서킷 브레이커가 열려 있으면 (차감한 쿼터를 되돌리고) 호출하지 않고 실패, 호출 결과(성공/실패)를 브레이커에 반영
+     */
+    private <T> Mono<T> guarded(Mono<T> call, int units, boolean interactive) {
+        return Mono.defer(() -> {
+            if (youtubeDailyQuota.remaining() < units) {
+                return Mono.error(new DailyQuota.ExhaustedException(youtubeDailyQuota.getName(), units));
+            }
+            TokenBucket limiter = interactive ? youtubeRateLimiter : youtubeIngestRateLimiter;
+            long maxWaitMs = interactive ? rateMaxWaitMs : ingestRateMaxWaitMs;
+            long waitNanos = limiter.tryReserve(1, TimeUnit.MILLISECONDS.toNanos(maxWaitMs));
+            if (waitNanos < 0) {
+                return Mono.error(new TokenBucket.RateLimitedException(interactive ? "youtube" : "youtube-ingest", maxWaitMs));
+            }
+            Mono<T> issue = Mono.defer(() -> {
+                if (!youtubeDailyQuota.tryConsume(units)) {
+                    return Mono.error(new DailyQuota.ExhaustedException(youtubeDailyQuota.getName(), units));
+                }
+                if (!youtubeCircuitBreaker.tryAcquire()) {
+                    youtubeDailyQuota.release(units);
+                    return Mono.error(new CircuitBreaker.OpenException(youtubeCircuitBreaker.getName()));
+                }
+                return call
+                        .doOnSuccess(result -> youtubeCircuitBreaker.onSuccess())
+                        .doOnError(e -> youtubeCircuitBreaker.onFailure());
+            });
+            return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then(issue) : issue;
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,228 @@
+package com.minute.video.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minute.video.dto.YoutubeSearchResponse;
+import com.minute.video.entity.YoutubeResponseCacheEntry;
+import com.minute.video.repository.YoutubeResponseCacheRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 유튜브 검색 응답 2단계 캐시 (사용자 요청 경로 전용, 스케줄 수집은 거치지 않음)
+ * - 1차: 메모리 LRU (max-entries 개), 2차: youtube_response_cache 테이블 (재시작 후에도 유지)
+ * - fresh-ms 이내면 그대로, stale-ms 까지는 오래된 값을 바로 돌려주고 백그라운드에서 갱신 (stale-while-revalidate)
+ * - 같은 키를 동시에 불러오면 업스트림 호출은 한 번만 하고, 업스트림이 실패하면 남아 있는 값을 돌려줌
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class YoutubeResponseCache {
+
+    private static final TypeReference<List<YoutubeSearchResponse.Item>> ITEMS = new TypeReference<>() {};
+
+    // cache_key 컬럼 길이, 더 긴 키는 메모리에만 보관
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private record Entry(long fetchedAt, byte[] payload) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final YoutubeResponseCacheRepository repository;
+
+    @Value("${youtube.cache.max-entries:500}")
+    private int maxEntries;
+
+    // 이 시간 안에는 업스트림을 호출하지 않음 (기본 30분)
+    @Value("${youtube.cache.fresh-ms:1800000}")
+    private long freshMs;
+
+    // fresh 이후 이 시간까지는 오래된 값을 먼저 돌려주고 갱신 (기본 24시간)
+    @Value("${youtube.cache.stale-ms:86400000}")
+    private long staleMs;
+
+    // 테스트에서 시간을 돌리기 위한 시계
+    LongSupplier clock = System::currentTimeMillis;
+
+    private Map<String, Entry> memory;
+    // 키별 진행 중인 업스트림 호출 (같은 키의 동시 요청/백그라운드 갱신이 함께 기다림)
+    private final Map<String, CompletableFuture<List<YoutubeSearchResponse.Item>>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        int capacity = Math.max(1, maxEntries);
+        memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 items 를 돌려주고, 없거나 너무 오래됐으면 loader 로 불러와 저장
+     * - 메모리 적중은 호출 스레드에서 바로 응답, 2차 저장소(JPA) 조회/저장은 boundedElastic 에서 실행
+     */
+    public Mono<List<YoutubeSearchResponse.Item>> get(String key, Supplier<Mono<List<YoutubeSearchResponse.Item>>> loader) {
+        return Mono.defer(() -> {
+            Entry cached = memoryGet(key);
+            if (cached != null) {
+                return respond(key, cached, loader);
+            }
+            return Mono.fromCallable(() -> Optional.ofNullable(storedGet(key)))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(stored -> respond(key, stored.orElse(null), loader));
+        });
+    }
+
+    private Mono<List<YoutubeSearchResponse.Item>> respond(String key, Entry entry,
+                                                          Supplier<Mono<List<YoutubeSearchResponse.Item>>> loader) {
+        if (entry != null) {
+            long age = clock.getAsLong() - entry.fetchedAt();
+            if (age < freshMs) {
+                return Mono.just(decode(key, entry));
+            }
+            if (age < freshMs + staleMs) {
+                // 결과를 기다리지 않음 (실패는 load 에서 로그)
+                load(key, loader);
+                return Mono.just(decode(key, entry));
+            }
+        }
+        // 응답을 기다리던 쪽이 취소해도 공유 중인 업스트림 호출은 끝까지 진행 (다른 요청/캐시 저장용)
+        return Mono.fromFuture(load(key, loader), true)
+                .onErrorResume(e -> {
+                    if (entry == null) {
+                        return Mono.error(e);
+                    }
+                    log.warn("유튜브 응답 갱신 실패, 만료된 캐시로 응답 ({}): {}", key, e.getMessage());
+                    return Mono.just(decode(key, entry));
+                });
+    }
+
+    /** 메모리 캐시 비우기 (2차 저장소는 유지) */
+    public void clearMemory() {
+        synchronized (memory) {
+            memory.clear();
+        }
+    }
+
+    /** 하루에 한 번, 더 이상 stale 로도 쓸 수 없는 2차 저장소 항목 삭제 */
+    @Scheduled(cron = "${youtube.cache.purge-cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        try {
+            int deleted = repository.deleteOlderThan(Instant.ofEpochMilli(clock.getAsLong() - freshMs - staleMs));
+            if (deleted > 0) {
+                log.info("만료된 유튜브 응답 캐시 {}건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("유튜브 응답 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private Entry memoryGet(String key) {
+        synchronized (memory) {
+            return memory.get(key);
+        }
+    }
+
+    private Entry storedGet(String key) {
+        if (key.length() > MAX_KEY_LENGTH) {
+            return null;
+        }
+        try {
+            return repository.findById(key)
+                    .map(stored -> {
+                        Entry loaded = new Entry(stored.getFetchedAt().toEpochMilli(),
+                                stored.getPayload().getBytes(StandardCharsets.UTF_8));
+                        putMemory(key, loaded);
+                        return loaded;
+                    })
+                    .orElse(null);
+        } catch (Exception e) {
+            // 2차 저장소 장애는 캐시 미스로 취급
+            log.warn("유튜브 응답 캐시 조회 실패 ({}): {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /** 같은 키로 이미 진행 중인 호출이 있으면 그 결과를 함께 기다리고, 없으면 새로 호출 */
+    private CompletableFuture<List<YoutubeSearchResponse.Item>> load(
+            String key, Supplier<Mono<List<YoutubeSearchResponse.Item>>> loader) {
+        CompletableFuture<List<YoutubeSearchResponse.Item>> mine = new CompletableFuture<>();
+        CompletableFuture<List<YoutubeSearchResponse.Item>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return running;
+        }
+        mine.whenComplete((items, e) -> inFlight.remove(key, mine));
+        try {
+            loader.get()
+                    .publishOn(Schedulers.boundedElastic())
+                    .doOnNext(items -> store(key, items))
+                    .subscribe(mine::complete, e -> {
+                        log.warn("유튜브 응답 불러오기 실패 ({}): {}", key, e.getMessage());
+                        mine.completeExceptionally(e);
+                    }, () -> mine.complete(List.of()));
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+        }
+        return mine;
+    }
+
+    private void store(String key, List<YoutubeSearchResponse.Item> items) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(items);
+        } catch (IOException e) {
+            log.warn("유튜브 응답 직렬화 실패 ({}): {}", key, e.getMessage());
+            return;
+        }
+        long now = clock.getAsLong();
+        putMemory(key, new Entry(now, payload));
+        if (key.length() > MAX_KEY_LENGTH) {
+            return;
+        }
+        try {
+            repository.save(new YoutubeResponseCacheEntry(key,
+                    new String(payload, StandardCharsets.UTF_8), Instant.ofEpochMilli(now)));
+        } catch (Exception e) {
+            log.warn("유튜브 응답 캐시 저장 실패 ({}): {}", key, e.getMessage());
+        }
+    }
+
+    private void putMemory(String key, Entry entry) {
+        synchronized (memory) {
+            memory.put(key, entry);
+        }
+    }
+
+    /** 매번 새로 역직렬화하므로 호출자가 목록을 수정해도 캐시에는 영향 없음 */
+    private List<YoutubeSearchResponse.Item> decode(String key, Entry entry) {
+        try {
+            return objectMapper.readValue(entry.payload(), ITEMS);
+        } catch (IOException e) {
+            log.warn("유튜브 응답 역직렬화 실패 ({}): {}", key, e.getMessage());
+            synchronized (memory) {
+                memory.remove(key);
+            }
+            return List.of();
+        }
+    }
+}
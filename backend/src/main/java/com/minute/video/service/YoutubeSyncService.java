@@ -0,0 +1,141 @@
+package com.minute.video.service;
+
+import com.minute.video.dto.YoutubeSearchResponse;
+import com.minute.video.entity.YoutubeSyncCheckpoint;
+import com.minute.video.repository.YoutubeSyncCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 검색 쿼리별 체크포인트를 이용한 유튜브 증분 동기화
+ * - 이전 실행에서 본 가장 최근 publishedAt 이후만 검색하고, 같은 요청이면 ETag 로 304 를 받아 바로 끝냄
+ * - 증분 검색은 nextPageToken 을 따라 max-pages 까지 이어서 받음 (최신순이라 뒤 페이지가 체크포인트 직후 구간)
+ * - 새 영상만 sink(저장)로 넘기고, 저장이 끝난 뒤에 체크포인트를 앞으로 옮김 (저장 실패 시 다음 실행에서 다시 받음)
+ * - 페이지 제한에 걸려 끝까지 못 읽었으면 다음 페이지 토큰을 체크포인트에 남겨 다음 실행에서 이어 읽고,
+ *   구간을 끝까지 읽은 뒤에만 lastPublishedAt 을 옮김 (건너뛴 구간이 생기지 않도록)
+ * - full-resync-ms 마다 한 번은 publishedAfter 없이 전체를 다시 받아 순위/본문 변경을 반영
+ *   (관련도순 한 페이지라 lastPublishedAt 은 옮기지 않고, 이어 읽을 구간이 남아 있으면 그 뒤로 미룸)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class YoutubeSyncService {
+
+    private final YoutubeApiService youtubeApiService;
+    private final YoutubeSyncCheckpointRepository checkpointRepository;
+
+    // 전체 재동기화 주기 (기본 7일)
+    @Value("${youtube.ingest.full-resync-ms:604800000}")
+    private long fullResyncMs;
+
+    // 증분 검색 한 번에 따라갈 최대 페이지 수 (페이지마다 search.list 쿼터 100 차감)
+    @Value("${youtube.ingest.max-pages:5}")
+    private int maxPages;
+
+    /**
+     * @param queryKey 체크포인트 키 (수집 작업 이름)
+     * @param query    실제 검색어
+     * @param sink     새로 받은 숏츠 목록 저장
+     */
+    public IngestResult sync(String queryKey, String query, int maxResults,
+                             Function<List<YoutubeSearchResponse.Item>, IngestResult> sink) {
+        LocalDateTime now = LocalDateTime.now();
+        YoutubeSyncCheckpoint checkpoint = checkpointRepository.findById(queryKey)
+                .orElseGet(() -> YoutubeSyncCheckpoint.builder().queryKey(queryKey).build());
+
+        // 이어 읽을 구간이 있으면 전체 재동기화보다 먼저 끝냄
+        String resumeToken = checkpoint.getResumePageToken();
+        boolean resuming = resumeToken != null;
+        boolean full = !resuming && (checkpoint.getLastFullSyncAt() == null
+                || Duration.between(checkpoint.getLastFullSyncAt(), now).toMillis() >= fullResyncMs);
+        Instant publishedAfter = full ? null : checkpoint.getLastPublishedAt();
+        // 이어 읽는 페이지는 첫 요청과 다르므로 ETag 를 보내지 않음
+        String etag = full || resuming ? null : checkpoint.getEtag();
+
+        // 스케줄 수집 작업 스레드에서만 호출되므로 결과를 기다려도 됨
+        YoutubeApiService.SearchPage first;
+        try {
+            first = youtubeApiService.searchShortsSince(query, publishedAfter, etag, resumeToken, maxResults).block();
+        } catch (WebClientResponseException.BadRequest e) {
+            // 만료/무효가 된 페이지 토큰이면 계속 같은 토큰으로 실패하지 않도록 버리고, 다음 실행에서 구간 처음부터 다시 읽음
+            if (resuming) {
+                checkpoint.setResumePageToken(null);
+                checkpointRepository.save(checkpoint);
+                log.warn("유튜브 동기화 이어 읽기 실패, 구간을 처음부터 다시 읽습니다: {}", queryKey);
+            }
+            throw e;
+        }
+
+        checkpoint.setLastRunAt(now);
+        if (first.notModified()) {
+            checkpointRepository.save(checkpoint);
+            log.debug("유튜브 동기화 변경 없음(304): {}", queryKey);
+            return IngestResult.EMPTY;
+        }
+
+        List<YoutubeSearchResponse.Item> items = new ArrayList<>(first.items());
+        Instant newest = first.newestPublishedAt();
+        int received = first.received();
+        int pages = 1;
+        String nextPageToken = full ? null : first.nextPageToken();
+        while (nextPageToken != null && pages < maxPages) {
+            YoutubeApiService.SearchPage page = youtubeApiService
+                    .searchShortsSince(query, publishedAfter, null, nextPageToken, maxResults)
+                    .block();
+            items.addAll(page.items());
+            newest = later(newest, page.newestPublishedAt());
+            received += page.received();
+            pages++;
+            nextPageToken = page.nextPageToken();
+        }
+
+        IngestResult result = items.isEmpty() ? IngestResult.EMPTY : sink.apply(items);
+
+        if (full) {
+            // 관련도순 결과라 가장 최근 영상 이전 구간을 다 본 것이 아님 → lastPublishedAt/ETag 는 건드리지 않음
+            checkpoint.setLastFullSyncAt(now);
+        } else {
+            // 최신순이라 구간의 가장 최근 영상은 첫 실행의 첫 페이지에 있음 → 이어 읽는 동안 계속 들고 감
+            Instant passNewest = later(checkpoint.getPendingPublishedAt(), newest);
+            if (nextPageToken != null) {
+                // 체크포인트 직후 구간을 아직 못 읽음 → publishedAfter 는 그대로 두고 다음 실행에서 이 페이지부터 이어 읽음
+                checkpoint.setResumePageToken(nextPageToken);
+                checkpoint.setPendingPublishedAt(passNewest);
+                checkpoint.setEtag(null);
+                log.warn("유튜브 동기화 페이지 제한({}) 도달, 다음 실행에서 이어 읽습니다: {} (검색 {}개)", maxPages, queryKey, received);
+            } else {
+                Instant advanced = later(checkpoint.getLastPublishedAt(), passNewest);
+                // publishedAfter 가 바뀌거나 이어 읽은 페이지의 응답이면 다음 첫 요청과 맞지 않으므로 ETag 는 버림
+                boolean sameRequest = !resuming && Objects.equals(advanced, checkpoint.getLastPublishedAt());
+                checkpoint.setEtag(sameRequest ? first.etag() : null);
+                checkpoint.setLastPublishedAt(advanced);
+                checkpoint.setResumePageToken(null);
+                checkpoint.setPendingPublishedAt(null);
+            }
+        }
+        checkpoint.setFetchedTotal(checkpoint.getFetchedTotal() + received);
+        checkpointRepository.save(checkpoint);
+
+        log.debug("유튜브 동기화 {}: {} (검색 {}개/{}페이지, 숏츠 {}개)", full ? "전체" : "증분", queryKey,
+                received, pages, items.size());
+        return result;
+    }
+
+    private static Instant later(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        return b != null && b.isAfter(a) ? b : a;
+    }
+}
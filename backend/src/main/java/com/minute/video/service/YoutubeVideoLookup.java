@@ -0,0 +1,84 @@
+package com.minute.video.service;
+
+import com.minute.video.dto.YoutubeSearchResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 영상 ID 단건 조회를 모아서 videos.list 다건 호출로 바꿔 주는 조회기
+ * - batch-window-ms 동안 들어온 요청(최대 50개)을 한 번의 API 호출로 처리
+ * - 로컬 카탈로그에 없는 영상만 이쪽으로 오므로, 북마크가 몰릴 때 API 호출/쿼터를 줄임
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class YoutubeVideoLookup {
+
+    // videos.list 의 id 파라미터 최대 개수
+    private static final int MAX_IDS_PER_CALL = 50;
+
+    private record Request(String videoId, Sinks.One<YoutubeSearchResponse.Snippet> result) {
+    }
+
+    private final YoutubeApiService youtubeApiService;
+
+    @Value("${youtube.lookup.batch-window-ms:20}")
+    private long batchWindowMs;
+
+    private final Sinks.Many<Request> requests = Sinks.many().unicast().onBackpressureBuffer();
+    private Disposable pipeline;
+
+    @PostConstruct
+    void init() {
+        pipeline = requests.asFlux()
+                .bufferTimeout(MAX_IDS_PER_CALL, Duration.ofMillis(Math.max(1, batchWindowMs)))
+                .flatMap(this::dispatch)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pipeline.dispose();
+    }
+
+    /** 영상 snippet 조회 (YouTube 에 없는 영상이면 빈 Mono) */
+    public Mono<YoutubeSearchResponse.Snippet> findSnippet(String videoId) {
+        return Mono.defer(() -> {
+            Sinks.One<YoutubeSearchResponse.Snippet> result = Sinks.one();
+            // 여러 스레드가 동시에 넣을 수 있으므로 직렬화 실패 시 잠깐 재시도
+            requests.emitNext(new Request(videoId, result), Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+            return result.asMono();
+        });
+    }
+
+    private Mono<Void> dispatch(List<Request> batch) {
+        Set<String> ids = new LinkedHashSet<>();
+        batch.forEach(request -> ids.add(request.videoId()));
+        log.debug("YouTube 영상 정보 일괄 조회: 요청 {}건 → ID {}개", batch.size(), ids.size());
+
+        return youtubeApiService.fetchSnippets(ids)
+                .doOnNext(snippets -> batch.forEach(request -> {
+                    YoutubeSearchResponse.Snippet snippet = snippets.get(request.videoId());
+                    if (snippet != null) {
+                        request.result().tryEmitValue(snippet);
+                    } else {
+                        request.result().tryEmitEmpty();
+                    }
+                }))
+                .doOnError(e -> batch.forEach(request -> request.result().tryEmitError(e)))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+}
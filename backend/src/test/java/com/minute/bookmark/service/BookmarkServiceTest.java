@@ -0,0 +1,123 @@
+package com.minute.bookmark.service;
+
+import com.minute.bookmark.dto.BookmarkCreateRequestDTO;
+import com.minute.bookmark.entity.Bookmark;
+import com.minute.bookmark.repository.BookmarkRepository;
+import com.minute.folder.entity.Folder;
+import com.minute.folder.repository.FolderRepository;
+import com.minute.video.dto.VideoPageResponseDTO;
+import com.minute.video.dto.VideoResponseDTO;
+import com.minute.video.dto.YoutubeSearchResponse;
+import com.minute.video.entity.Video;
+import com.minute.video.repository.VideoRepository;
+import com.minute.video.service.UserSignalStore;
+import com.minute.video.service.YoutubeVideoLookup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookmarkServiceTest {
+
+    @Mock BookmarkRepository bookmarkRepository;
+    @Mock FolderRepository folderRepository;
+    @Mock VideoRepository videoRepository;
+    @Mock YoutubeVideoLookup youtubeVideoLookup;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock UserSignalStore userSignalStore;
+    @InjectMocks BookmarkService bookmarkService;
+
+    private final Folder folder = Folder.builder().folderId(3).folderName("여행").userId("user1").build();
+
+    private BookmarkCreateRequestDTO request() {
+        when(folderRepository.findByFolderIdAndUserId(3, "user1")).thenReturn(Optional.of(folder));
+        when(bookmarkRepository.findByUserIdAndVideoIdAndFolder_FolderId("user1", "v1", 3)).thenReturn(Optional.empty());
+        BookmarkCreateRequestDTO dto = new BookmarkCreateRequestDTO();
+        dto.setFolderId(3);
+        dto.setVideoId("v1");
+        return dto;
+    }
+
+    @Test
+    void 카탈로그에_있는_영상은_YouTube를_호출하지_않는다() {
+        when(videoRepository.findById("v1")).thenReturn(Optional.of(
+                Video.builder().videoId("v1").videoTitle("부산 여행").thumbnailUrl("thumb-v1").build()));
+        when(bookmarkRepository.save(any(Bookmark.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Bookmark saved = bookmarkService.addVideoToFolder("user1", request()).block();
+
+        assertThat(saved.getTitle()).isEqualTo("부산 여행");
+        assertThat(saved.getThumbnailUrl()).isEqualTo("thumb-v1");
+        assertThat(saved.getFolder()).isSameAs(folder);
+        verifyNoInteractions(youtubeVideoLookup);
+        verify(userSignalStore).record("user1", UserSignalStore.Kind.BOOKMARK, "v1", 1);
+        verify(eventPublisher).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void 카탈로그에_없으면_YouTube_조회_결과로_저장한다() {
+        when(videoRepository.findById("v1")).thenReturn(Optional.empty());
+        when(youtubeVideoLookup.findSnippet("v1")).thenReturn(Mono.just(
+                new YoutubeSearchResponse.Snippet(null, "제주 여행", null, null,
+                        new YoutubeSearchResponse.Thumbnails(null, null,
+                                new YoutubeSearchResponse.Thumbnail("high-v1")))));
+        when(bookmarkRepository.save(any(Bookmark.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Bookmark saved = bookmarkService.addVideoToFolder("user1", request()).block();
+
+        assertThat(saved.getTitle()).isEqualTo("제주 여행");
+        assertThat(saved.getThumbnailUrl()).isEqualTo("high-v1");
+    }
+
+    @Test
+    void YouTube에도_없는_영상이면_저장하지_않는다() {
+        when(videoRepository.findById("v1")).thenReturn(Optional.empty());
+        when(youtubeVideoLookup.findSnippet("v1")).thenReturn(Mono.empty());
+
+        assertThatThrownBy(() -> bookmarkService.addVideoToFolder("user1", request()).block())
+                .hasMessageContaining("v1");
+        verify(bookmarkRepository, never()).save(any());
+    }
+
+    private BookmarkRepository.BookmarkVideoRef ref(int bookmarkId, String videoId) {
+        BookmarkRepository.BookmarkVideoRef ref = mock(BookmarkRepository.BookmarkVideoRef.class);
+        lenient().when(ref.getBookmarkId()).thenReturn(bookmarkId);
+        lenient().when(ref.getVideoId()).thenReturn(videoId);
+        return ref;
+    }
+
+    @Test
+    void 북마크_페이지는_영상을_한_번에_조회하고_북마크_순서를_유지한다() {
+        List<BookmarkRepository.BookmarkVideoRef> refs = List.of(ref(29, "a"), ref(28, "b"), ref(27, "a"));
+        when(bookmarkRepository.findVideoRefsByUser(eq("user1"), eq(30), any())).thenReturn(refs);
+        when(videoRepository.findAllWithChannelByVideoIdIn(any())).thenReturn(List.of(
+                Video.builder().videoId("b").videoTitle("B").build(),
+                Video.builder().videoId("a").videoTitle("A").build()));
+
+        VideoPageResponseDTO page = bookmarkService.getBookmarkPageForUser("user1", "30", 2);
+
+        assertThat(page.getItems()).extracting(VideoResponseDTO::getVideoId).containsExactly("a", "b");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("28");
+        verify(videoRepository, times(1)).findAllWithChannelByVideoIdIn(any());
+        verify(videoRepository, never()).findById(any());
+    }
+
+    @Test
+    void 잘못된_커서는_거부한다() {
+        assertThatThrownBy(() -> bookmarkService.getBookmarkPageForUser("user1", "abc", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,198 @@
+package com.minute.common.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BufferedBatchWriterTest {
+
+    @TempDir Path dir;
+
+    /** 쓰기 스레드 없이 stop()/replaySpillFile() 로 직접 구동하는 테스트용 writer */
+    private static class RecordingWriter extends BufferedBatchWriter<String> {
+
+        final List<String> saved = new ArrayList<>();
+        final List<String> notified = new ArrayList<>();
+        boolean dbDown;
+        // 이 이벤트를 저장하려 하면 DB 장애로 실패
+        String failOn;
+        boolean afterWriteFails;
+
+        RecordingWriter(int capacity, Path spillFile) {
+            super("test", capacity, 2, 10, spillFile.toString());
+        }
+
+        @Override
+        protected void writeBatch(List<String> batch) {
+            if (batch.contains("bad")) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            if (dbDown || (failOn != null && batch.contains(failOn))) {
+                throw new QueryTimeoutException("db down");
+            }
+            saved.addAll(batch);
+        }
+
+        @Override
+        protected void afterBatchWritten(List<String> batch) {
+            notified.addAll(batch);
+            if (afterWriteFails) {
+                throw new IllegalStateException("publish failed");
+            }
+        }
+
+        @Override
+        protected String serialize(String event) {
+            return event;
+        }
+
+        @Override
+        protected String deserialize(String line) {
+            if (line.startsWith("!")) {
+                throw new IllegalArgumentException("malformed: " + line);
+            }
+            return line;
+        }
+    }
+
+    @Test
+    void 큐가_가득_차면_spill_파일에_썼다가_재처리한다() {
+        Path spill = dir.resolve("events.spill");
+        RecordingWriter writer = new RecordingWriter(1, spill);
+
+        writer.submit("a");
+        writer.submit("b");
+        // 요청 스레드에서는 파일에 쓰지 않음
+        assertThat(spill).doesNotExist();
+
+        writer.stop();
+        assertThat(writer.getStats().spilled()).isEqualTo(1);
+        writer.replaySpillFile(Integer.MAX_VALUE);
+
+        assertThat(writer.saved).containsExactly("a", "b");
+        assertThat(writer.getStats().replayed()).isEqualTo(1);
+        assertThat(spill).doesNotExist();
+        assertThat(dir.resolve("events.spill.replay")).doesNotExist();
+    }
+
+    @Test
+    void DB_장애로_실패한_배치는_spill_했다가_복구_후_재처리한다() {
+        Path spill = dir.resolve("events.spill");
+        RecordingWriter writer = new RecordingWriter(10, spill);
+        writer.submit("a");
+        writer.submit("b");
+
+        writer.dbDown = true;
+        writer.stop();
+        assertThat(writer.saved).isEmpty();
+        assertThat(writer.getStats().spilled()).isEqualTo(2);
+
+        writer.dbDown = false;
+        writer.replaySpillFile(Integer.MAX_VALUE);
+
+        assertThat(writer.saved).containsExactly("a", "b");
+        assertThat(writer.getStats().written()).isEqualTo(2);
+    }
+
+    @Test
+    void 읽을_수_없는_줄은_실패로_세고_나머지는_재처리한다() throws Exception {
+        Path spill = dir.resolve("events.spill");
+        Files.writeString(spill, "a\n!broken\nc\n\nd\n", StandardCharsets.UTF_8);
+        RecordingWriter writer = new RecordingWriter(10, spill);
+
+        writer.replaySpillFile(Integer.MAX_VALUE);
+
+        assertThat(writer.saved).containsExactly("a", "c", "d");
+        assertThat(writer.getStats().failed()).isEqualTo(1);
+        assertThat(dir.resolve("events.spill.replay")).doesNotExist();
+    }
+
+    @Test
+    void 배치_수_제한에_걸리면_읽은_위치를_남기고_다음_호출에서_이어서_처리한다() throws Exception {
+        Path spill = dir.resolve("events.spill");
+        Files.writeString(spill, "a\nb\nc\nd\ne\n", StandardCharsets.UTF_8);
+        RecordingWriter writer = new RecordingWriter(10, spill);
+
+        writer.replaySpillFile(1);
+        assertThat(writer.saved).containsExactly("a", "b");
+        // 남은 줄을 다시 쓰지 않고 읽은 위치만 남김
+        assertThat(Files.readString(dir.resolve("events.spill.replay"))).isEqualTo("a\nb\nc\nd\ne\n");
+        assertThat(Files.readString(dir.resolve("events.spill.replay.offset"))).isEqualTo("4");
+
+        // 재시작해도 남긴 위치부터 이어서 처리
+        RecordingWriter restarted = new RecordingWriter(10, spill);
+        restarted.replaySpillFile(Integer.MAX_VALUE);
+        assertThat(restarted.saved).containsExactly("c", "d", "e");
+        assertThat(dir.resolve("events.spill.replay")).doesNotExist();
+        assertThat(dir.resolve("events.spill.replay.offset")).doesNotExist();
+    }
+
+    @Test
+    void 한_건씩_저장하다_DB_장애가_나면_남은_행을_spill_한다() throws Exception {
+        Path spill = dir.resolve("events.spill");
+        RecordingWriter writer = new RecordingWriter(10, spill);
+        writer.failOn = "c";
+        writer.submit("a");
+        writer.submit("bad");
+        writer.submit("c");
+        writer.submit("d");
+
+        // 종료 시 남은 [a, bad, c, d] 가 제약조건 위반 → 한 건씩 저장하다 c 에서 DB 장애 → c, d 는 spill
+        writer.stop();
+
+        assertThat(writer.saved).containsExactly("a");
+        assertThat(writer.getStats().failed()).isEqualTo(1);
+        assertThat(Files.readAllLines(spill)).containsExactly("c", "d");
+    }
+
+    @Test
+    void 제약조건_위반이면_한_건씩_저장하고_문제_행만_버린다() {
+        RecordingWriter writer = new RecordingWriter(10, dir.resolve("events.spill"));
+        writer.submit("a");
+        writer.submit("bad");
+        writer.submit("c");
+
+        writer.stop();
+
+        assertThat(writer.saved).containsExactly("a", "c");
+        assertThat(writer.getStats().written()).isEqualTo(2);
+        assertThat(writer.getStats().failed()).isEqualTo(1);
+        assertThat(writer.getStats().spilled()).isZero();
+    }
+
+    @Test
+    void 저장_후처리가_실패해도_저장된_배치를_spill_하지_않는다() {
+        Path spill = dir.resolve("events.spill");
+        RecordingWriter writer = new RecordingWriter(10, spill);
+        writer.afterWriteFails = true;
+        writer.submit("a");
+        writer.submit("b");
+
+        writer.stop();
+
+        assertThat(writer.saved).containsExactly("a", "b");
+        assertThat(writer.notified).containsExactly("a", "b");
+        assertThat(writer.getStats().spilled()).isZero();
+        assertThat(spill).doesNotExist();
+    }
+
+    @Test
+    void 한_건씩_재시도하면_저장된_이벤트만_후처리한다() {
+        RecordingWriter writer = new RecordingWriter(10, dir.resolve("events.spill"));
+        writer.submit("a");
+        writer.submit("bad");
+
+        writer.stop();
+
+        assertThat(writer.notified).containsExactly("a");
+    }
+}
@@ -0,0 +1,42 @@
+package com.minute.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyQuotaTest {
+
+    private static final ZoneId PACIFIC = ZoneId.of("America/Los_Angeles");
+
+    private final AtomicLong now = new AtomicLong(Instant.parse("2026-10-18T12:00:00Z").toEpochMilli());
+
+    @Test
+    void 남은_양보다_큰_비용은_차감하지_않고_거절한다() {
+        DailyQuota quota = new DailyQuota("youtube", 250, PACIFIC, now::get);
+
+        assertThat(quota.tryConsume(100)).isTrue();
+        assertThat(quota.tryConsume(100)).isTrue();
+        assertThat(quota.tryConsume(100)).isFalse();
+        assertThat(quota.remaining()).isEqualTo(50);
+        assertThat(quota.tryConsume(1)).isTrue();
+    }
+
+    @Test
+    void 기준_시간대의_날짜가_바뀌면_다시_채워진다() {
+        DailyQuota quota = new DailyQuota("youtube", 100, PACIFIC, now::get);
+        assertThat(quota.tryConsume(100)).isTrue();
+
+        // UTC 로는 다음 날이지만 태평양 시간으로는 아직 같은 날 (10/18 17:00 PDT)
+        now.set(Instant.parse("2026-10-19T00:00:00Z").toEpochMilli());
+        assertThat(quota.tryConsume(1)).isFalse();
+
+        // 태평양 시간 자정 (10/19 00:00 PDT = 07:00 UTC)
+        now.set(Instant.parse("2026-10-19T07:00:00Z").toEpochMilli());
+        assertThat(quota.remaining()).isEqualTo(100);
+        assertThat(quota.tryConsume(100)).isTrue();
+    }
+}
@@ -0,0 +1,82 @@
+package com.minute.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private void advanceMillis(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static final long NO_WAIT = 0L;
+    private static final long UNLIMITED = Long.MAX_VALUE;
+
+    @Test
+    void 용량만큼은_바로_쓰고_이후에는_채워지는_만큼만_쓴다() {
+        TokenBucket bucket = new TokenBucket(3, 2.0, nanos::get);
+
+        assertThat(bucket.tryReserve(1, NO_WAIT)).isZero();
+        assertThat(bucket.tryReserve(2, NO_WAIT)).isZero();
+        assertThat(bucket.tryReserve(1, NO_WAIT)).isEqualTo(-1L);
+
+        advanceMillis(500); // 초당 2개 → 0.5초에 1개
+        assertThat(bucket.tryReserve(1, NO_WAIT)).isZero();
+        assertThat(bucket.tryReserve(1, NO_WAIT)).isEqualTo(-1L);
+    }
+
+    @Test
+    void 오래_쉬어도_용량_이상은_쌓이지_않는다() {
+        TokenBucket bucket = new TokenBucket(2, 1.0, nanos::get);
+
+        advanceMillis(60_000);
+
+        assertThat(bucket.availableTokens()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 예약은_모자란_만큼_기다릴_시간을_돌려주고_순서대로_쌓인다() {
+        TokenBucket bucket = new TokenBucket(1, 2.0, nanos::get);
+
+        assertThat(bucket.tryReserve(1, UNLIMITED)).isZero();
+        assertThat(bucket.tryReserve(1, UNLIMITED)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.tryReserve(1, UNLIMITED)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1_000));
+
+        // 예약한 만큼 시간이 지나야 빚이 갚아짐
+        advanceMillis(1_000);
+        assertThat(bucket.tryReserve(1, NO_WAIT)).isEqualTo(-1L);
+        advanceMillis(500);
+        assertThat(bucket.tryReserve(1, NO_WAIT)).isZero();
+    }
+
+    @Test
+    void 기다릴_시간이_상한을_넘으면_예약하지_않아_빚이_쌓이지_않는다() {
+        TokenBucket bucket = new TokenBucket(1, 2.0, nanos::get);
+        long maxWait = TimeUnit.MILLISECONDS.toNanos(500);
+
+        assertThat(bucket.tryReserve(1, maxWait)).isZero();
+        assertThat(bucket.tryReserve(1, maxWait)).isEqualTo(maxWait);
+        // 세 번째는 1초를 기다려야 하므로 거절, 토큰도 가져가지 않음
+        assertThat(bucket.tryReserve(1, maxWait)).isEqualTo(-1L);
+        assertThat(bucket.availableTokens()).isEqualTo(-1.0);
+
+        advanceMillis(500);
+        assertThat(bucket.tryReserve(1, maxWait)).isEqualTo(maxWait);
+    }
+
+    @Test
+    void 잘못된_설정이나_용량보다_큰_요청은_거절한다() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+
+        TokenBucket bucket = new TokenBucket(2, 1.0, nanos::get);
+        assertThatThrownBy(() -> bucket.tryReserve(3, UNLIMITED)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
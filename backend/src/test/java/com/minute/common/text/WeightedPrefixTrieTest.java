@@ -0,0 +1,72 @@
+package com.minute.common.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeightedPrefixTrieTest {
+
+    private static List<String> keywords(List<WeightedPrefixTrie.Completion> completions) {
+        return completions.stream().map(WeightedPrefixTrie.Completion::keyword).toList();
+    }
+
+    @Test
+    void 접두어로_시작하는_키를_가중치순으로_돌려준다() {
+        WeightedPrefixTrie trie = new WeightedPrefixTrie(3);
+        trie.add("부산 여행", 5);
+        trie.add("부산 맛집", 9);
+        trie.add("부여", 7);
+        trie.add("서울", 100);
+
+        assertThat(keywords(trie.complete("부산", 10))).containsExactly("부산 맛집", "부산 여행");
+        assertThat(keywords(trie.complete("부", 10))).containsExactly("부산 맛집", "부여", "부산 여행");
+        assertThat(keywords(trie.complete("", 1))).containsExactly("서울");
+        assertThat(trie.complete("제주", 10)).isEmpty();
+    }
+
+    @Test
+    void 가중치가_오르면_상위_목록_밖의_키도_올라온다() {
+        WeightedPrefixTrie trie = new WeightedPrefixTrie(2);
+        trie.add("캠핑", 10);
+        trie.add("카페", 8);
+        trie.add("카약", 1);
+
+        trie.add("카약", 20);
+
+        assertThat(keywords(trie.complete("카", 10))).containsExactly("카약", "카페");
+        assertThat(trie.complete("", 1).get(0).weight()).isEqualTo(21);
+    }
+
+    @Test
+    void 대소문자와_공백_차이는_같은_키로_합친다() {
+        WeightedPrefixTrie trie = new WeightedPrefixTrie(5);
+        trie.add("Jeju  Trip", 1);
+        trie.add(" jeju trip", 2);
+
+        assertThat(trie.size()).isEqualTo(1);
+        assertThat(trie.complete("JEJU T", 5)).containsExactly(new WeightedPrefixTrie.Completion("Jeju  Trip", 3));
+    }
+
+    @Test
+    void 감쇠하면_가중치가_줄고_기준_미만이거나_상한을_넘는_키는_빠진다() {
+        WeightedPrefixTrie trie = new WeightedPrefixTrie(5);
+        trie.add("강릉", 40);
+        trie.add("강화도", 20);
+        trie.add("강진", 9);
+        trie.add("거제", 30);
+
+        WeightedPrefixTrie decayed = trie.decayed(0.5, 5, 2);
+
+        // 강진은 4 로 기준 미만, 강화도(10)는 상위 2개 밖
+        assertThat(decayed.size()).isEqualTo(2);
+        assertThat(decayed.complete("", 5)).containsExactly(
+                new WeightedPrefixTrie.Completion("강릉", 20), new WeightedPrefixTrie.Completion("거제", 15));
+        assertThat(decayed.contains("강진")).isFalse();
+        assertThat(decayed.complete("강", 5)).extracting(WeightedPrefixTrie.Completion::keyword).containsExactly("강릉");
+        // 원래 트라이는 그대로
+        assertThat(trie.size()).isEqualTo(4);
+        assertThat(trie.contains(" 강진 ")).isTrue();
+    }
+}
@@ -0,0 +1,50 @@
+package com.minute.common.time;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsoDurationsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "PT45S, 45",
+            "PT1M, 60",
+            "PT1M5S, 65",
+            "PT1H, 3600",
+            "PT1H2M3S, 3723",
+            "PT10H0S, 36000",
+            "P1D, 86400",
+            "P1DT2H, 93600",
+            "P1W, 604800",
+            "P0D, 0",
+            "PT0S, 0"
+    })
+    void 일_시_분_초를_모두_초로_변환한다(String iso, long expected) {
+        assertThat(IsoDurations.toSeconds(iso)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "P", "PT", "T1S", "1S", "PTS", "PT1M2", "P1DT", "PT1S1M", "PT1.5S", "P1Y", "P1M", "PT1X",
+            "PT99999999999999999999S", "P99999999999999W"})
+    void 잘못된_형식은_INVALID(String iso) {
+        assertThat(IsoDurations.toSeconds(iso)).isEqualTo(IsoDurations.INVALID);
+    }
+
+    @Test
+    void null_은_INVALID() {
+        assertThat(IsoDurations.toSeconds(null)).isEqualTo(IsoDurations.INVALID);
+    }
+
+    @Test
+    void java_time_Duration_과_같은_결과() {
+        for (String iso : new String[]{"PT59S", "PT3M", "PT1H30M", "P2DT3H4M5S", "PT100M"}) {
+            assertThat(IsoDurations.toSeconds(iso)).isEqualTo(Duration.parse(iso).getSeconds());
+        }
+    }
+}
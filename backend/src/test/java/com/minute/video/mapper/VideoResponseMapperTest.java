@@ -0,0 +1,89 @@
+package com.minute.video.mapper;
+
+import com.minute.video.dto.VideoResponseDTO;
+import com.minute.video.entity.Video;
+import com.minute.video.repository.VideoLikesRepository;
+import com.minute.video.service.ViewCountAccumulator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoResponseMapperTest {
+
+    @Spy VideoMapper videoMapper = new VideoMapper();
+    @Mock VideoLikesRepository videoLikesRepository;
+    @Mock ViewCountAccumulator viewCountAccumulator;
+    @InjectMocks VideoResponseMapper videoResponseMapper;
+
+    @Test
+    void 목록_변환시_좋아요수는_쿼리_한번으로_조회한다() {
+        List<Video> videos = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            videos.add(Video.builder().videoId("V" + i).videoTitle("Vid " + i).views((long) i).build());
+        }
+        when(videoLikesRepository.countByVideoIds(anyCollection()))
+                .thenReturn(List.of(likeCount("V0", 3L), likeCount("V7", 1L)));
+        when(viewCountAccumulator.currentViews(anyString(), anyLong()))
+                .thenAnswer(inv -> inv.getArgument(1));
+
+        List<VideoResponseDTO> result = videoResponseMapper.toDtosWithStats(videos);
+
+        // 50개 목록에 대해 좋아요 집계 쿼리는 1회, 영상별 count 쿼리는 0회
+        verify(videoLikesRepository, times(1)).countByVideoIds(anyCollection());
+        verify(videoLikesRepository, never()).countByVideoVideoId(anyString());
+
+        assertThat(result).hasSize(50);
+        assertThat(result).extracting(VideoResponseDTO::getVideoId)
+                .startsWith("V0", "V1", "V2");
+        assertThat(result.get(0).getLikes()).isEqualTo(3L);
+        assertThat(result.get(7).getLikes()).isEqualTo(1L);
+        assertThat(result.get(1).getLikes()).isEqualTo(0L);
+        assertThat(result.get(9).getViews()).isEqualTo(9L);
+    }
+
+    @Test
+    void 추천_점수가_있으면_함께_채운다() {
+        Video a = Video.builder().videoId("A").videoTitle("Vid A").build();
+        Video b = Video.builder().videoId("B").videoTitle("Vid B").build();
+        when(videoLikesRepository.countByVideoIds(anyCollection())).thenReturn(List.of());
+
+        List<VideoResponseDTO> result = videoResponseMapper.toDtosWithStats(List.of(a, b), Map.of("A", 7));
+
+        assertThat(result).extracting(VideoResponseDTO::getRecommendationScore)
+                .containsExactly(7, null);
+    }
+
+    @Test
+    void 빈_목록이면_쿼리하지_않는다() {
+        assertThat(videoResponseMapper.toDtosWithStats(List.of())).isEmpty();
+        verifyNoInteractions(videoLikesRepository);
+    }
+
+    private VideoLikesRepository.VideoLikeCount likeCount(String videoId, Long count) {
+        return new VideoLikesRepository.VideoLikeCount() {
+            @Override
+            public String getVideoId() {
+                return videoId;
+            }
+
+            @Override
+            public Long getLikeCount() {
+                return count;
+            }
+        };
+    }
+}
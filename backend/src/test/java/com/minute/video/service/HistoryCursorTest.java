@@ -0,0 +1,44 @@
+package com.minute.video.service;
+
+import com.minute.common.exception.InvalidRequestParameterException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HistoryCursorTest {
+
+    @Test
+    void 커서는_인코딩_후_그대로_복원된다() {
+        HistoryCursor cursor = new HistoryCursor(LocalDateTime.of(2025, 5, 21, 14, 30, 0, 123_000), 42);
+
+        assertThat(HistoryCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 커서가_없으면_첫_페이지() {
+        assertThat(HistoryCursor.decode(null)).isNull();
+        assertThat(HistoryCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void 잘못된_커서는_거부한다() {
+        assertThatThrownBy(() -> HistoryCursor.decode("not-a-cursor!"))
+                .isInstanceOf(InvalidRequestParameterException.class);
+        assertThatThrownBy(() -> HistoryCursor.decode("MjAyNQ"))
+                .isInstanceOf(InvalidRequestParameterException.class);
+    }
+
+    @Test
+    void int_범위를_넘는_ID_는_잘못된_커서로_거부한다() {
+        String raw = "2025-05-21T14:30|" + (Integer.MAX_VALUE + 1L);
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> HistoryCursor.decode(cursor))
+                .isInstanceOf(InvalidRequestParameterException.class);
+    }
+}
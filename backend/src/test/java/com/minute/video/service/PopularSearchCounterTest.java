@@ -0,0 +1,113 @@
+package com.minute.video.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularSearchCounterTest {
+
+    @Mock JdbcTemplate jdbcTemplate;
+    @InjectMocks PopularSearchCounter popularSearchCounter;
+    @Captor ArgumentCaptor<List<Object[]>> argsCaptor;
+
+    private Map<?, ?> pending() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(popularSearchCounter, "pending");
+    }
+
+    @Test
+    void 누적된_증가분만_키워드_순으로_반영한다() {
+        popularSearchCounter.increment("캠핑");
+        popularSearchCounter.increment("강릉");
+        popularSearchCounter.increment("캠핑");
+
+        popularSearchCounter.flush();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), argsCaptor.capture());
+        assertThat(argsCaptor.getValue())
+                .extracting(args -> args[0] + "=" + args[1])
+                .containsExactly("강릉=1", "캠핑=2");
+        assertThat(popularSearchCounter.pendingCount("캠핑")).isZero();
+
+        // 새 검색이 없으면 다음 반영 때 DB 를 부르지 않음
+        popularSearchCounter.flush();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void 반영에_실패하면_증가분을_되돌려_다음_주기에_다시_쓴다() {
+        popularSearchCounter.increment("캠핑");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("db down"));
+
+        popularSearchCounter.flush();
+
+        assertThat(popularSearchCounter.pendingCount("캠핑")).isEqualTo(1);
+    }
+
+    @Test
+    void 반영_이후_검색이_없던_키워드는_메모리에서_지운다() {
+        popularSearchCounter.increment("캠핑");
+        popularSearchCounter.increment("강릉");
+        popularSearchCounter.flush();
+        assertThat(pending()).hasSize(2);
+
+        popularSearchCounter.increment("캠핑");
+        popularSearchCounter.flush();
+
+        // 이번 주기에 반영한 키워드만 남고, 그 다음 주기에 지워짐
+        assertThat(pending()).containsOnlyKeys("캠핑");
+        popularSearchCounter.flush();
+        assertThat(pending()).isEmpty();
+    }
+
+    @Test
+    void 반영과_제거가_동시에_일어나도_검색_횟수가_유실되지_않는다() throws Exception {
+        AtomicLong flushed = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> args = invocation.getArgument(1);
+            args.forEach(row -> flushed.addAndGet((Long) row[1]));
+            return new int[args.size()];
+        });
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    popularSearchCounter.increment("캠핑");
+                }
+                done.countDown();
+            });
+        }
+        // 증가가 진행되는 동안 반영/제거를 계속 반복
+        while (done.getCount() > 0) {
+            popularSearchCounter.flush();
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        popularSearchCounter.flush();
+
+        assertThat(flushed).hasValue((long) threads * perThread);
+    }
+}
@@ -0,0 +1,62 @@
+package com.minute.video.service;
+
+import com.minute.video.event.SearchRecordedEvent;
+import com.minute.video.repository.PopularSearchRepository;
+import com.minute.video.repository.SearchHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SearchAutocompleteTest {
+
+    private final SearchAutocomplete autocomplete = new SearchAutocomplete(mock(JdbcTemplate.class),
+            mock(PopularSearchRepository.class), mock(SearchHistoryRepository.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(autocomplete, "minCount", 3);
+        ReflectionTestUtils.setField(autocomplete, "maxTerms", 2);
+        ReflectionTestUtils.setField(autocomplete, "maxCandidates", 100);
+        ReflectionTestUtils.setField(autocomplete, "decayFactor", 0.5);
+        // popular_search 가 비어 있는 상태로 빌드
+        autocomplete.build();
+    }
+
+    private void search(String keyword, int times) {
+        for (int i = 0; i < times; i++) {
+            autocomplete.onSearchRecorded(new SearchRecordedEvent("user" + i, keyword, LocalDateTime.now()));
+        }
+    }
+
+    @Test
+    void 최소_횟수만큼_검색된_뒤에야_인기_검색어로_제안한다() {
+        search("강릉 여행", 2);
+        assertThat(autocomplete.popularKeywords("강릉", 10)).isEmpty();
+
+        search("강릉 여행", 1);
+        assertThat(autocomplete.popularKeywords("강릉", 10)).containsExactly("강릉 여행");
+    }
+
+    @Test
+    void 트라이가_가득_차면_새_검색어를_올리지_않고_정리할_때_약한_검색어를_지운다() {
+        search("강릉", 10);
+        search("부산", 3);
+        search("제주", 5);
+        assertThat(autocomplete.popularKeywords("", 10)).containsExactly("강릉", "부산");
+
+        // 부산(3 → 1)은 최소 횟수 미만이 되어 지워짐, 아직 트라이 밖이던 제주 횟수도 비움
+        autocomplete.prune();
+        assertThat(autocomplete.popularKeywords("", 10)).containsExactly("강릉");
+
+        search("제주", 2);
+        assertThat(autocomplete.popularKeywords("제", 10)).isEmpty();
+        search("제주", 1);
+        assertThat(autocomplete.popularKeywords("", 10)).containsExactly("강릉", "제주");
+    }
+}
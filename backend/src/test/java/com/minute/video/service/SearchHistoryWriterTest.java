@@ -0,0 +1,88 @@
+package com.minute.video.service;
+
+import com.minute.video.event.SearchRecordedEvent;
+import com.minute.video.event.UserActivityEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/** 쓰기 스레드 없이 submit 후 stop() 으로 남은 이벤트를 바로 저장시켜 확인 */
+class SearchHistoryWriterTest {
+
+    @TempDir Path dir;
+
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private PopularSearchCounter popularSearchCounter;
+    private SearchHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        popularSearchCounter = mock(PopularSearchCounter.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        writer = new SearchHistoryWriter(jdbcTemplate, transactionTemplate, eventPublisher, popularSearchCounter,
+                100, 10, 10, dir.resolve("search.spill").toString());
+    }
+
+    @Test
+    void 저장된_검색을_인기_검색어에_더하고_이벤트를_발행한다() {
+        writer.record("u1", "캠핑");
+        writer.record("u1", "강릉");
+
+        writer.stop();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> args) -> args.size() == 2));
+        verify(popularSearchCounter).increment("캠핑");
+        verify(popularSearchCounter).increment("강릉");
+        verify(eventPublisher, times(2)).publishEvent(any(SearchRecordedEvent.class));
+        // 추천 피드 갱신은 사용자별로 한 번
+        verify(eventPublisher).publishEvent(new UserActivityEvent("u1", UserActivityEvent.ActivityType.SEARCH));
+        assertThat(writer.getStats().written()).isEqualTo(2);
+    }
+
+    @Test
+    void 이벤트_발행이_실패해도_이미_저장된_배치를_spill_하지_않는다() {
+        doThrow(new IllegalStateException("listener failed")).when(eventPublisher).publishEvent(any(Object.class));
+        writer.record("u1", "캠핑");
+
+        writer.stop();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        assertThat(writer.getStats().spilled()).isZero();
+        assertThat(dir.resolve("search.spill")).doesNotExist();
+    }
+
+    @Test
+    void 존재하지_않는_사용자의_검색은_버리고_인기_검색어에도_더하지_않는다() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> args = invocation.getArgument(1);
+            if (args.stream().anyMatch(row -> "ghost".equals(row[0]))) {
+                throw new DataIntegrityViolationException("fk_search_history_user");
+            }
+            return new int[args.size()];
+        });
+        writer.record("u1", "캠핑");
+        writer.record("ghost", "강릉");
+
+        writer.stop();
+
+        verify(popularSearchCounter).increment("캠핑");
+        verify(popularSearchCounter, never()).increment("강릉");
+        assertThat(writer.getStats().written()).isEqualTo(1);
+        assertThat(writer.getStats().failed()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.minute.video.service;
+
+import com.minute.video.event.SearchRecordedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TrendingKeywordServiceTest {
+
+    private static final long BUCKET_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    private JdbcTemplate jdbcTemplate;
+    private TrendingKeywordService trendingKeywordService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        trendingKeywordService = new TrendingKeywordService(jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    private void search(String keyword) {
+        trendingKeywordService.onSearchRecorded(new SearchRecordedEvent("u1", keyword, LocalDateTime.now()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> snapshotRows(int times) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(times)).batchUpdate(anyString(), captor.capture());
+        return captor.getValue().stream().map(row -> row[1] + "=" + row[2]).toList();
+    }
+
+    @Test
+    void 상위_검색어를_윈도우별로_계산한다() {
+        search("캠핑");
+        search("캠핑");
+        search("강릉");
+
+        trendingKeywordService.refresh();
+
+        assertThat(trendingKeywordService.getTopKeywords(KeywordTrendWindow.HOUR, 10)).containsExactly("캠핑", "강릉");
+        assertThat(trendingKeywordService.getTopKeywords(KeywordTrendWindow.HOUR, 1)).containsExactly("캠핑");
+    }
+
+    @Test
+    void 스냅샷은_지난_스냅샷_이후_늘어난_만큼만_더한다() {
+        search("캠핑");
+        search("캠핑");
+        trendingKeywordService.snapshot();
+        assertThat(snapshotRows(1)).containsExactly("캠핑=2");
+
+        search("캠핑");
+        trendingKeywordService.snapshot();
+        assertThat(snapshotRows(2)).containsExactly("캠핑=1");
+
+        // 늘어난 게 없으면 쓰지 않음
+        trendingKeywordService.snapshot();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void 저장에_실패한_증가분은_다음_스냅샷에서_다시_더한다() {
+        search("캠핑");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(new int[1]);
+
+        trendingKeywordService.snapshot();
+        trendingKeywordService.snapshot();
+
+        assertThat(snapshotRows(2)).containsExactly("캠핑=1");
+    }
+
+    @Test
+    void 복구한_값은_다시_더하지_않는다() throws Exception {
+        long bucketStart = System.currentTimeMillis() / BUCKET_MILLIS * BUCKET_MILLIS;
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("keyword")).thenReturn("캠핑");
+        when(rs.getTimestamp("bucket_start")).thenReturn(new Timestamp(bucketStart));
+        when(rs.getLong("search_count")).thenReturn(5L);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        trendingKeywordService.restore();
+        assertThat(trendingKeywordService.getTopKeywords(KeywordTrendWindow.HOUR, 10)).containsExactly("캠핑");
+
+        search("캠핑");
+        trendingKeywordService.snapshot();
+
+        assertThat(snapshotRows(1)).containsExactly("캠핑=1");
+    }
+}
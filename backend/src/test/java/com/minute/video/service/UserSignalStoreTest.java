@@ -0,0 +1,151 @@
+package com.minute.video.service;
+
+import com.minute.bookmark.repository.BookmarkRepository;
+import com.minute.video.repository.VideoDislikeRepository;
+import com.minute.video.repository.VideoLikesRepository;
+import com.minute.video.repository.WatchHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UserSignalStoreTest {
+
+    @Mock VideoLikesRepository videoLikesRepository;
+    @Mock VideoDislikeRepository videoDislikeRepository;
+    @Mock BookmarkRepository bookmarkRepository;
+    @Mock WatchHistoryRepository watchHistoryRepository;
+    @InjectMocks UserSignalStore userSignalStore;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userSignalStore, "maxUsers", 100);
+        when(videoLikesRepository.findVideoIdsByUserId("u1")).thenReturn(List.of("A"));
+        when(videoDislikeRepository.findVideoIdsByUserId("u1")).thenReturn(List.of());
+        // 같은 영상을 두 폴더에 북마크
+        when(bookmarkRepository.findVideoIdsByUserId("u1")).thenReturn(List.of("C", "C"));
+        WatchHistoryRepository.VideoWatchCount watchedB = watchCount("B", 3);
+        when(watchHistoryRepository.countByVideoForUser("u1")).thenReturn(List.of(watchedB));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private WatchHistoryRepository.VideoWatchCount watchCount(String videoId, long count) {
+        WatchHistoryRepository.VideoWatchCount row = mock(WatchHistoryRepository.VideoWatchCount.class);
+        when(row.getVideoId()).thenReturn(videoId);
+        when(row.getWatchCount()).thenReturn(count);
+        return row;
+    }
+
+    /** 트랜잭션 안에서 record 를 호출하고 커밋/롤백 완료 콜백까지 실행 */
+    private void inTransaction(int status, Runnable writes) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writes.run();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(status);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 한_번_읽은_사용자는_DB를_다시_읽지_않는다() {
+        UserSignalStore.Signals first = userSignalStore.get("u1");
+        UserSignalStore.Signals second = userSignalStore.get("u1");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.liked().contains("A")).isTrue();
+        assertThat(first.bookmarked().count("C")).isEqualTo(2);
+        assertThat(first.watched().count("B")).isEqualTo(3);
+        verify(videoLikesRepository, times(1)).findVideoIdsByUserId("u1");
+    }
+
+    @Test
+    void 커밋된_쓰기는_캐시에_증감으로_반영된다() {
+        userSignalStore.get("u1");
+
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED, () -> {
+            userSignalStore.record("u1", UserSignalStore.Kind.LIKE, "D", 1);
+            userSignalStore.record("u1", UserSignalStore.Kind.BOOKMARK, "C", -1);
+            userSignalStore.record("u1", UserSignalStore.Kind.WATCH, "B", 1);
+            // 커밋 전에는 반영되지 않음
+            assertThat(userSignalStore.get("u1").liked().contains("D")).isFalse();
+        });
+
+        UserSignalStore.Signals signals = userSignalStore.get("u1");
+        assertThat(signals.liked().contains("D")).isTrue();
+        assertThat(signals.bookmarked().count("C")).isEqualTo(1);
+        assertThat(signals.watched().count("B")).isEqualTo(4);
+        verify(videoLikesRepository, times(1)).findVideoIdsByUserId("u1");
+    }
+
+    @Test
+    void 롤백된_쓰기는_무시한다() {
+        userSignalStore.get("u1");
+
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+                () -> userSignalStore.record("u1", UserSignalStore.Kind.LIKE, "D", 1));
+
+        assertThat(userSignalStore.get("u1").liked().contains("D")).isFalse();
+    }
+
+    @Test
+    void 트랜잭션_밖의_쓰기는_항목을_버리고_다시_읽는다() {
+        userSignalStore.get("u1");
+
+        userSignalStore.record("u1", UserSignalStore.Kind.BOOKMARK, "E", 1);
+        when(bookmarkRepository.findVideoIdsByUserId("u1")).thenReturn(List.of("C", "C", "E"));
+
+        assertThat(userSignalStore.get("u1").bookmarked().contains("E")).isTrue();
+        verify(bookmarkRepository, times(2)).findVideoIdsByUserId("u1");
+    }
+
+    @Test
+    void 조회_도중_끝난_쓰기가_있으면_읽은_값을_캐시하지_않는다() {
+        // 첫 로딩 도중 다른 요청이 좋아요를 저장하고 커밋한 상황
+        when(videoLikesRepository.findVideoIdsByUserId("u1"))
+                .thenAnswer(invocation -> {
+                    userSignalStore.record("u1", UserSignalStore.Kind.LIKE, "D", 1);
+                    return List.of("A");
+                })
+                .thenReturn(List.of("A", "D"));
+
+        assertThat(userSignalStore.get("u1").liked().contains("D")).isFalse();
+        assertThat(userSignalStore.get("u1").liked().contains("D")).isTrue();
+        verify(videoLikesRepository, times(2)).findVideoIdsByUserId("u1");
+    }
+
+    @Test
+    void 횟수_맵은_정렬_배열로_증감한다() {
+        VideoIdCounts counts = VideoIdCounts.of(List.of("b", "a", "b"));
+
+        assertThat(counts.size()).isEqualTo(2);
+        assertThat(counts.count("b")).isEqualTo(2);
+        assertThat(counts.adjust("c", 1).toCountMap()).containsEntry("c", 1).hasSize(3);
+        assertThat(counts.adjust("b", -2).contains("b")).isFalse();
+        assertThat(counts.adjust("z", -1)).isSameAs(counts);
+        assertThat(counts.without("a").toSet()).containsExactly("b");
+    }
+}
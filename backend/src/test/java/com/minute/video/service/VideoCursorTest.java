@@ -0,0 +1,49 @@
+package com.minute.video.service;
+
+import com.minute.common.exception.InvalidRequestParameterException;
+import com.minute.video.entity.Video;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VideoCursorTest {
+
+    @Test
+    void 커서는_인코딩_후_그대로_복원된다() {
+        Video last = Video.builder().videoId("xyz_-123").videoTitle("t").likes(42L).build();
+
+        String encoded = VideoCursor.after(VideoSort.LIKES, last).encode();
+        VideoCursor decoded = VideoCursor.decode(encoded, VideoSort.LIKES);
+
+        assertThat(decoded.key()).isEqualTo(42L);
+        assertThat(decoded.videoId()).isEqualTo("xyz_-123");
+    }
+
+    @Test
+    void 최신순_커서는_정렬_키_없이_videoId만_가진다() {
+        Video last = Video.builder().videoId("abc").videoTitle("t").build();
+
+        VideoCursor decoded = VideoCursor.decode(VideoCursor.after(VideoSort.LATEST, last).encode(), VideoSort.LATEST);
+
+        assertThat(decoded.key()).isNull();
+        assertThat(decoded.videoId()).isEqualTo("abc");
+    }
+
+    @Test
+    void 커서가_없으면_첫_페이지() {
+        assertThat(VideoCursor.decode(null, VideoSort.LATEST)).isNull();
+        assertThat(VideoCursor.decode("", VideoSort.VIEWS)).isNull();
+    }
+
+    @Test
+    void 다른_정렬의_커서나_잘못된_커서는_거부한다() {
+        Video last = Video.builder().videoId("abc").videoTitle("t").views(7L).build();
+        String viewsCursor = VideoCursor.after(VideoSort.VIEWS, last).encode();
+
+        assertThatThrownBy(() -> VideoCursor.decode(viewsCursor, VideoSort.LIKES))
+                .isInstanceOf(InvalidRequestParameterException.class);
+        assertThatThrownBy(() -> VideoCursor.decode("not-a-cursor!", VideoSort.LATEST))
+                .isInstanceOf(InvalidRequestParameterException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.minute.video.service;
+
+import com.minute.video.entity.Video;
+import com.minute.video.entity.VideoFilterRule;
+import com.minute.video.entity.VideoFilterRule.Polarity;
+import com.minute.video.repository.VideoFilterRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VideoFilterServiceTest {
+
+    @Mock VideoFilterRuleRepository videoFilterRuleRepository;
+    @InjectMocks VideoFilterService videoFilterService;
+
+    @BeforeEach
+    void setUp() {
+        // 규칙 테이블이 비어 있으면 기본 규칙 사용
+        when(videoFilterRuleRepository.findByEnabledTrue()).thenReturn(List.of());
+        videoFilterService.init();
+    }
+
+    private Video video(String title, String desc) {
+        return Video.builder().videoId("v").videoTitle(title).videoDescription(desc).build();
+    }
+
+    @Test
+    void 카테고리_positive_키워드가_있으면_허용된다() {
+        assertThat(videoFilterService.isAllowed(video("주말 글램핑 브이로그", null), "캠핑")).isTrue();
+        assertThat(videoFilterService.isAllowed(video("주말 브이로그", "바다 구경"), "캠핑")).isFalse();
+    }
+
+    @Test
+    void negative_키워드가_겹치면_positive_보다_우선한다() {
+        // "부산" 안에 positive "산" 이 들어 있어도 negative "부산" 때문에 차단
+        assertThat(videoFilterService.isAllowed(video("부산 여행", ""), "산")).isFalse();
+        assertThat(videoFilterService.isAllowed(video("설악산 등산코스", ""), "산")).isTrue();
+        assertThat(videoFilterService.isAllowed(video("캠핑 꿀템 ADS", ""), "캠핑")).isFalse();
+    }
+
+    @Test
+    void 규칙이_없는_카테고리는_허용된다() {
+        assertThat(videoFilterService.isAllowed(video("아무 제목", ""), "바다")).isTrue();
+        assertThat(videoFilterService.isAllowed(video("아무 제목", ""), null)).isTrue();
+    }
+
+    @Test
+    void 여행_관련_여부와_광고_채널을_판별한다() {
+        assertThat(videoFilterService.isTravelRelated("제주 가볼만한 곳", null)).isTrue();
+        assertThat(videoFilterService.isTravelRelated(null, "강릉 맛집 투어")).isTrue();
+        assertThat(videoFilterService.isTravelRelated("게임 리뷰", "신작")).isFalse();
+
+        assertThat(videoFilterService.isAdChannel("Travel ADS Korea")).isTrue();
+        assertThat(videoFilterService.isAdChannel("여행하는 부부")).isFalse();
+        assertThat(videoFilterService.isAdChannel(null)).isFalse();
+    }
+
+    @Test
+    void 한_번의_분류로_카테고리별_매칭_수를_반환한다() {
+        FilterRuleSet.Classification c = videoFilterService.classify("힐링 캠핑 여행", "캠프 후기");
+
+        assertThat(c.positiveHits("캠핑")).isEqualTo(2); // 캠핑, 캠프
+        assertThat(c.negativeHits("캠핑")).isEqualTo(1); // 후기
+        assertThat(c.positiveHits("힐링")).isEqualTo(1);
+        assertThat(c.positiveHits(VideoFilterService.TRAVEL_RULE)).isEqualTo(1);
+        assertThat(c.isAllowed("캠핑")).isFalse();
+    }
+
+    @Test
+    void 규칙_테이블이_바뀌면_다시_컴파일된다() {
+        long before = videoFilterService.getRulesVersion();
+
+        when(videoFilterRuleRepository.findByEnabledTrue()).thenReturn(List.of(
+                VideoFilterRule.builder().ruleName("바다").keyword("해변").polarity(Polarity.POSITIVE).build(),
+                VideoFilterRule.builder().ruleName("바다").keyword("광고").polarity(Polarity.NEGATIVE).build(),
+                VideoFilterRule.builder().ruleName("힐링").keyword("온천").polarity(Polarity.POSITIVE).build()));
+        videoFilterService.reload();
+
+        assertThat(videoFilterService.getRulesVersion()).isGreaterThan(before);
+        assertThat(videoFilterService.isAllowed(video("해변 산책", ""), "바다")).isTrue();
+        assertThat(videoFilterService.isAllowed(video("해변 광고", ""), "바다")).isFalse();
+        // 테이블에 있는 규칙 이름은 테이블 키워드로 통째로 대체
+        assertThat(videoFilterService.isAllowed(video("온천 여행", ""), "힐링")).isTrue();
+        assertThat(videoFilterService.isAllowed(video("숲속 산책", ""), "힐링")).isFalse();
+        // 테이블에 없는 카테고리 규칙과 공통 규칙은 기본 규칙 그대로 유지
+        assertThat(videoFilterService.isAllowed(video("아무 제목", ""), "캠핑")).isFalse();
+        assertThat(videoFilterService.isAllowed(video("차박 브이로그", ""), "캠핑")).isTrue();
+        assertThat(videoFilterService.isTravelRelated("부산 여행", "")).isTrue();
+        assertThat(videoFilterService.isAdChannel("Travel ADS Korea")).isTrue();
+
+        // 같은 내용이면 버전/지문 유지
+        long after = videoFilterService.getRulesVersion();
+        long fingerprint = videoFilterService.getRulesFingerprint();
+        videoFilterService.reload();
+        assertThat(videoFilterService.getRulesVersion()).isEqualTo(after);
+        assertThat(videoFilterService.getRulesFingerprint()).isEqualTo(fingerprint);
+    }
+}
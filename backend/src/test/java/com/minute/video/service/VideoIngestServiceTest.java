@@ -0,0 +1,116 @@
+package com.minute.video.service;
+
+import com.minute.video.dto.YoutubeSearchResponse;
+import com.minute.video.entity.Category;
+import com.minute.video.entity.Video;
+import com.minute.video.entity.VideoCategory;
+import com.minute.video.event.VideoCatalogChangedEvent;
+import com.minute.video.event.VideoTextChangedEvent;
+import com.minute.video.repository.CategoryRepository;
+import com.minute.video.repository.VideoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class VideoIngestServiceTest {
+
+    @Mock VideoRepository videoRepository;
+    @Mock CategoryRepository categoryRepository;
+    @Mock VideoClassificationService videoClassificationService;
+    @Mock JdbcTemplate jdbcTemplate;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @InjectMocks VideoIngestService videoIngestService;
+
+    Category camping;
+
+    @BeforeEach
+    void setUp() {
+        camping = Category.builder().categoryId(1).categoryName("캠핑").build();
+        when(categoryRepository.findByCategoryName("캠핑")).thenReturn(Optional.of(camping));
+        when(videoClassificationService.rulesFingerprint()).thenReturn(7L);
+        VideoClassificationService.TextFlags flags = mock(VideoClassificationService.TextFlags.class);
+        when(flags.travelRelated()).thenReturn(true);
+        when(flags.rulesFingerprint()).thenReturn(7L);
+        when(flags.visibleIn(anyString())).thenReturn(true);
+        when(videoClassificationService.classifyText(any(), any())).thenReturn(flags);
+    }
+
+    private YoutubeSearchResponse.Item item(String videoId, String title) {
+        return new YoutubeSearchResponse.Item(new YoutubeSearchResponse.Id(videoId),
+                new YoutubeSearchResponse.Snippet(null, title, "desc", null,
+                        new YoutubeSearchResponse.Thumbnails(
+                                new YoutubeSearchResponse.Thumbnail("thumb-" + videoId), null, null)));
+    }
+
+    private Video existing(String videoId, String title, boolean linked) {
+        VideoIngestService.IngestRow row = new VideoIngestService.IngestRow(videoId, title, "desc",
+                "https://www.youtube.com/watch?v=" + videoId, "thumb-" + videoId, "", "");
+        Video video = Video.builder().videoId(videoId).videoTitle(title).region("").city("")
+                .contentHash(row.contentHash()).classifiedRules(7L).videoCategories(new ArrayList<>()).build();
+        if (linked) {
+            video.getVideoCategories().add(VideoCategory.builder()
+                    .id(new VideoCategory.VideoCategoryId(videoId, 1)).video(video).category(camping).build());
+        }
+        return video;
+    }
+
+    @Test
+    void 기존_영상을_한_번에_읽고_바뀐_행만_배치로_쓴다() {
+        Video unchanged = existing("B", "그대로", true);
+        Video changed = existing("C", "예전 제목", true);
+        when(videoRepository.findAllById(any())).thenReturn(List.of(unchanged, changed));
+
+        IngestResult result = videoIngestService.saveVideosFromApi(
+                List.of(item("A", "새 영상"), item("B", "그대로"), item("C", "새 제목")), "캠핑");
+
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.linked()).isEqualTo(1); // 신규 A 만 새로 연결
+
+        verify(videoRepository, times(1)).findAllById(any());
+        verify(videoRepository, never()).findById(anyString());
+        verify(videoRepository, never()).save(any());
+
+        ArgumentCaptor<List<Object[]>> videoRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("INSERT INTO video "), videoRows.capture());
+        assertThat(videoRows.getValue()).extracting(row -> row[0]).containsExactly("A", "C");
+
+        verify(eventPublisher).publishEvent(any(VideoCatalogChangedEvent.class));
+        // 검색 색인에는 본문이 저장된 영상만 전달
+        ArgumentCaptor<VideoTextChangedEvent> textEvent = ArgumentCaptor.forClass(VideoTextChangedEvent.class);
+        verify(eventPublisher).publishEvent(textEvent.capture());
+        assertThat(textEvent.getValue().videos()).extracting(VideoTextChangedEvent.Text::videoId)
+                .containsExactly("A", "C");
+    }
+
+    @Test
+    void 바뀐_것이_없으면_쓰지도_이벤트를_발행하지도_않는다() {
+        when(videoRepository.findAllById(any())).thenReturn(List.of(existing("B", "그대로", true)));
+
+        IngestResult result = videoIngestService.saveVideosFromApi(List.of(item("B", "그대로")), "캠핑");
+
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.hasChanges()).isFalse();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
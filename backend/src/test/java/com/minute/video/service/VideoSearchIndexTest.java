@@ -0,0 +1,85 @@
+package com.minute.video.service;
+
+import com.minute.video.event.VideoTextChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class VideoSearchIndexTest {
+
+    @Mock JdbcTemplate jdbcTemplate;
+    @InjectMocks VideoSearchIndex videoSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 빈 카탈로그로 빌드한 뒤 이벤트로 영상 추가
+        videoSearchIndex.build();
+        index(
+                text("A", "부산 해운대 여행 브이로그", "바다", "부산", "해운대구"),
+                text("B", "제주도 여행 코스", "부산에서 출발", "제주", "제주시"),
+                text("C", "서울 맛집 투어", null, "서울", "종로구"));
+    }
+
+    private static VideoTextChangedEvent.Text text(String videoId, String title, String description,
+                                                   String region, String city) {
+        return new VideoTextChangedEvent.Text(videoId, title, description, region, city);
+    }
+
+    private void index(VideoTextChangedEvent.Text... texts) {
+        videoSearchIndex.onVideoTextChanged(new VideoTextChangedEvent(List.of(texts)));
+    }
+
+    private List<String> ids(List<VideoSearchIndex.Hit> hits) {
+        return hits.stream().map(VideoSearchIndex.Hit::videoId).toList();
+    }
+
+    @Test
+    void 제목과_지역에_있는_영상이_설명에만_있는_영상보다_먼저_나온다() {
+        List<VideoSearchIndex.Hit> hits = videoSearchIndex.search("부산", null, null, 10);
+
+        assertThat(ids(hits)).containsExactly("A", "B");
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void 검색어의_바이그램을_모두_가진_영상만_찾는다() {
+        assertThat(ids(videoSearchIndex.search("제주도 코스", null, null, 10))).containsExactly("B");
+        assertThat(ids(videoSearchIndex.search("해운대 맛집", null, null, 10))).isEmpty();
+    }
+
+    @Test
+    void 커서_이후부터_다음_페이지를_이어서_조회한다() {
+        List<VideoSearchIndex.Hit> first = videoSearchIndex.search("여행", null, null, 1);
+        VideoSearchIndex.Hit last = first.get(0);
+
+        List<VideoSearchIndex.Hit> second = videoSearchIndex.search("여행", last.score(), last.videoId(), 10);
+
+        assertThat(first).hasSize(1);
+        assertThat(ids(second)).hasSize(1).doesNotContain(last.videoId());
+    }
+
+    @Test
+    void 다시_색인하면_이전_토큰은_지워진다() {
+        index(text("C", "강릉 카페 투어", null, "강원", "강릉시"));
+
+        assertThat(videoSearchIndex.search("서울", null, null, 10)).isEmpty();
+        assertThat(ids(videoSearchIndex.search("강릉", null, null, 10))).containsExactly("C");
+    }
+
+    @Test
+    void 한_글자_검색어나_빌드_전에는_색인을_쓰지_않는다() {
+        assertThat(videoSearchIndex.canSearch("부산")).isTrue();
+        assertThat(videoSearchIndex.canSearch("산")).isFalse();
+        assertThat(videoSearchIndex.canSearch("!!")).isFalse();
+        assertThat(new VideoSearchIndex(jdbcTemplate).canSearch("부산")).isFalse();
+    }
+}
@@ -1,6 +1,5 @@
 package com.minute.video.service;
 
-import com.minute.bookmark.repository.BookmarkRepository;
 import com.minute.video.entity.*;
 import com.minute.video.dto.VideoResponseDTO;
 import com.minute.video.mapper.VideoResponseMapper;
@@ -10,11 +9,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -26,12 +27,14 @@ import static org.mockito.Mockito.when;
 public class VideoServiceTest {
 
     @Mock VideoRepository videoRepository;
-    @Mock WatchHistoryRepository watchHistoryRepository;
-    @Mock VideoLikesRepository videoLikesRepository;
     @Mock SearchHistoryRepository searchHistoryRepository;
-    @Mock BookmarkRepository bookmarkRepository;
+    @Mock UserSignalStore userSignalStore;
     @Mock VideoResponseMapper videoResponseMapper;
     @Mock VideoFilterService videoFilterService;
+    @Mock RecommendationFeedStore recommendationFeedStore;
+    @Mock TrendingVideoService trendingVideoService;
+    @Mock VideoSearchIndex videoSearchIndex;
+    @Spy RecommendationScorer recommendationScorer = new RecommendationScorer(new RecommendationScoreProperties());
     @InjectMocks VideoService videoService;
 
     Video v1, v2, v3;
@@ -42,19 +45,29 @@ public class VideoServiceTest {
         v2 = Video.builder().videoId("B").videoTitle("Vid B").build();
         v3 = Video.builder().videoId("C").videoTitle("Vid C").build();
 
-        // mapper 스텁
-        when(videoResponseMapper.toDtoWithStats(any(Video.class), anyInt()))
+        // 기본: 좋아요·북마크·시청 신호 없음
+        when(userSignalStore.get(anyString())).thenReturn(UserSignalStore.Signals.EMPTY);
+
+        // mapper 스텁 (목록 일괄 변환)
+        when(videoResponseMapper.toDtosWithStats(anyList(), anyMap()))
                 .thenAnswer(inv -> {
-                    Video vid = inv.getArgument(0);
-                    int score = inv.getArgument(1);
-                    return VideoResponseDTO.builder()
-                            .videoId(vid.getVideoId())
-                            .videoTitle(vid.getVideoTitle())
-                            .recommendationScore(score)
-                            .build();
+                    List<Video> videos = inv.getArgument(0);
+                    Map<String, Integer> scores = inv.getArgument(1);
+                    return videos.stream()
+                            .map(vid -> VideoResponseDTO.builder()
+                                    .videoId(vid.getVideoId())
+                                    .videoTitle(vid.getVideoTitle())
+                                    .recommendationScore(scores.getOrDefault(vid.getVideoId(), 0))
+                                    .build())
+                            .toList();
                 });
     }
 
+    private void givenSignals(String userId, List<String> liked, List<String> bookmarked, List<String> watched) {
+        when(userSignalStore.get(userId)).thenReturn(new UserSignalStore.Signals(
+                VideoIdCounts.of(liked), VideoIdCounts.EMPTY, VideoIdCounts.of(bookmarked), VideoIdCounts.of(watched)));
+    }
+
     @Test
     void 추천_영상은_점수_내림차순으로_정렬된다() {
         String userId = "userA";
@@ -65,32 +78,15 @@ public class VideoServiceTest {
         when(videoRepository.findTop50ByOrderByLikesDesc())
                 .thenReturn(List.of());
 
-        // 2) 시청 이력: B
-        WatchHistory wh = mock(WatchHistory.class);
-        when(wh.getVideo()).thenReturn(v2);
-        when(watchHistoryRepository
-                .findByUserUserIdOrderByWatchedAtDesc(userId))
-                .thenReturn(List.of(wh));
+        // 2) 시청 이력: B, 3) 좋아요: A, 5) 북마크: C
+        givenSignals(userId, List.of("A"), List.of("C"), List.of("B"));
 
         // buildWatchedCategoryCount 의 findAllById 스텁
         when(videoRepository.findAllById(List.of("B")))
                 .thenReturn(List.of(v2));
 
-        // 3) 좋아요: A
-        VideoLikes likeA = mock(VideoLikes.class);
-        when(likeA.getVideo()).thenReturn(v1);
-        when(videoLikesRepository.findByUserUserId(userId))
-                .thenReturn(List.of(likeA));
-
         // 4) 검색 이력: C
-        SearchHistory sh = mock(SearchHistory.class);
-        when(sh.getKeyword()).thenReturn("C");
-        when(searchHistoryRepository
-                .findByUserUserIdOrderBySearchedAtDesc(userId))
-                .thenReturn(List.of(sh));
-
-        // 5) 북마크: C
-        when(bookmarkRepository.findVideoIdsByUserId(userId))
+        when(searchHistoryRepository.findRecentKeywords(eq(userId), any()))
                 .thenReturn(List.of("C"));
 
         // 실행
@@ -116,13 +112,7 @@ public class VideoServiceTest {
         when(videoRepository.findTop50ByOrderByLikesDesc()).thenReturn(List.of());
 
         // 아무 것도 좋아요·검색·북마크·시청 이력 없음 → 점수 모두 0
-        when(watchHistoryRepository.findByUserUserIdOrderByWatchedAtDesc(userId))
-                .thenReturn(List.of());
-        when(videoLikesRepository.findByUserUserId(userId))
-                .thenReturn(List.of());
-        when(searchHistoryRepository.findByUserUserIdOrderBySearchedAtDesc(userId))
-                .thenReturn(List.of());
-        when(bookmarkRepository.findVideoIdsByUserId(userId))
+        when(searchHistoryRepository.findRecentKeywords(eq(userId), any()))
                 .thenReturn(List.of());
 
         // 카테고리 보정, 필터링 서비스 전부 기본값 처리
@@ -155,24 +145,15 @@ public class VideoServiceTest {
                 .thenReturn(List.of());
 
         // 2) 시청 이력: v1, v2, v3 모두 이미 본 것으로 설정
-        WatchHistory wh1 = mock(WatchHistory.class);
-        WatchHistory wh2 = mock(WatchHistory.class);
-        WatchHistory wh3 = mock(WatchHistory.class);
-        when(wh1.getVideo()).thenReturn(v1);
-        when(wh2.getVideo()).thenReturn(v2);
-        when(wh3.getVideo()).thenReturn(v3);
-        when(watchHistoryRepository.findByUserUserIdOrderByWatchedAtDesc(userId))
-                .thenReturn(List.of(wh1, wh2, wh3));
+        givenSignals(userId, List.of(), List.of(), List.of("A", "B", "C"));
 
         // buildWatchedCategoryCount 호출 시에도 빈 리스트 반환하도록 스텁
         when(videoRepository.findAllById(List.of("A", "B", "C")))
                 .thenReturn(List.of(v1, v2, v3));
 
         // 3) 나머지 이력/좋아요/검색/북마크는 모두 빈 리스트
-        when(videoLikesRepository.findByUserUserId(userId)).thenReturn(List.of());
-        when(searchHistoryRepository.findByUserUserIdOrderBySearchedAtDesc(userId))
+        when(searchHistoryRepository.findRecentKeywords(eq(userId), any()))
                 .thenReturn(List.of());
-        when(bookmarkRepository.findVideoIdsByUserId(userId)).thenReturn(List.of());
 
         // 실행
         List<VideoResponseDTO> result = videoService.getRecommendedVideos(userId);
@@ -198,11 +179,7 @@ public class VideoServiceTest {
         when(videoRepository.findTop50ByOrderByLikesDesc()).thenReturn(List.of());
 
         // 2) 시청 이력: v2
-        WatchHistory wh = mock(WatchHistory.class);
-        when(wh.getVideo()).thenReturn(v2);
-        when(watchHistoryRepository
-                .findByUserUserIdOrderByWatchedAtDesc(userId))
-                .thenReturn(List.of(wh));
+        givenSignals(userId, List.of(), List.of(), List.of("B"));
 
         // 3) watchedCategoryCount 내부 조회를 위한 findAllById 스텁
         //    → v2에도 캠핑 카테고리가 있어야 함
@@ -223,12 +200,7 @@ public class VideoServiceTest {
         v1.setVideoCategories(List.of(vc1));
 
         // 5) 그 외 스텁(좋아요·검색·북마크 모두 없음)
-        when(videoLikesRepository.findByUserUserId(userId))
-                .thenReturn(List.of());
-        when(searchHistoryRepository
-                .findByUserUserIdOrderBySearchedAtDesc(userId))
-                .thenReturn(List.of());
-        when(bookmarkRepository.findVideoIdsByUserId(userId))
+        when(searchHistoryRepository.findRecentKeywords(eq(userId), any()))
                 .thenReturn(List.of());
 
         // 실행
@@ -248,27 +220,15 @@ public class VideoServiceTest {
         when(videoRepository.findTop50ByOrderByViewsDesc()).thenReturn(List.of(v1, v2, v3));
         when(videoRepository.findTop50ByOrderByLikesDesc()).thenReturn(List.of());
 
-        // 시청 이력 비어있음
-        when(watchHistoryRepository.findByUserUserIdOrderByWatchedAtDesc(userId))
-                .thenReturn(List.of());
+        // 시청 이력 비어있음, 좋아요: v1 → +5, 북마크: v3 → +4
+        givenSignals(userId, List.of("A"), List.of("C"), List.of());
 
         // 빌드된 watchedCategoryCount 비어있도록
         when(videoRepository.findAllById(any())).thenReturn(List.of());
 
-        // ─ 좋아요: v1 → +5
-        VideoLikes like1 = mock(VideoLikes.class);
-        when(like1.getVideo()).thenReturn(v1);
-        when(videoLikesRepository.findByUserUserId(userId)).thenReturn(List.of(like1));
-
         // ─ 검색 키워드: “Vid B” 포함 → v2 +2
-        SearchHistory sh = mock(SearchHistory.class);
-        when(sh.getKeyword()).thenReturn("Vid B");
-        when(searchHistoryRepository.findByUserUserIdOrderBySearchedAtDesc(userId))
-                .thenReturn(List.of(sh));
-
-        // ─ 북마크: v3 → +4
-        when(bookmarkRepository.findVideoIdsByUserId(userId))
-                .thenReturn(List.of("C"));
+        when(searchHistoryRepository.findRecentKeywords(eq(userId), any()))
+                .thenReturn(List.of("Vid B"));
 
         // 카테고리/필터 무시
         // 실행
@@ -0,0 +1,71 @@
+package com.minute.video.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ViewCountAccumulatorTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ViewCountAccumulator accumulator = new ViewCountAccumulator(jdbcTemplate);
+    private final AtomicLong flushedViews = new AtomicLong();
+
+    ViewCountAccumulatorTest() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> args = invocation.getArgument(1);
+            args.forEach(row -> flushedViews.addAndGet((Long) row[0]));
+            return new int[args.size()];
+        });
+    }
+
+    @Test
+    void 조회가_없던_영상은_다음_반영_때_지운다() {
+        accumulator.increment("A");
+        accumulator.flush();
+        assertThat(accumulator.pendingCount("A")).isZero();
+
+        accumulator.flush();
+
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(accumulator, "pending")).isEmpty();
+        assertThat(flushedViews).hasValue(1);
+    }
+
+    @Test
+    void 반영과_제거가_동시에_일어나도_조회수가_유실되지_않는다() throws Exception {
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    accumulator.increment("A");
+                }
+                done.countDown();
+            });
+        }
+        // 증가가 진행되는 동안 반영/제거를 계속 반복
+        while (done.getCount() > 0) {
+            accumulator.flush();
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        accumulator.flush();
+
+        assertThat(flushedViews).hasValue((long) threads * perThread);
+    }
+}
@@ -0,0 +1,280 @@
+package com.minute.video.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minute.common.ratelimit.DailyQuota;
+import com.minute.common.ratelimit.TokenBucket;
+import com.minute.common.resilience.CircuitBreaker;
+import com.minute.video.dto.YoutubeSearchResponse;
+import com.minute.video.repository.YoutubeResponseCacheRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/** 로컬 스텁 HTTP 서버를 YouTube Data API 대신 띄워서 검색/캐시 동작 확인 */
+class YoutubeApiServiceTest {
+
+    private static final String SEARCH_BODY = """
+            {"items": [
+              {"id": {"videoId": "short1"}, "snippet": {"title": "강릉 여행 브이로그", "publishedAt": "2026-10-01T00:00:00Z"}},
+              {"id": {"videoId": "long1"}, "snippet": {"title": "강릉 여행 풀영상", "publishedAt": "2026-10-02T00:00:00Z"}}
+            ]}
+            """;
+
+    private static final String VIDEOS_BODY = """
+            {"items": [
+              {"id": "short1", "contentDetails": {"duration": "PT45S"}},
+              {"id": "long1", "contentDetails": {"duration": "PT1H0M30S"}}
+            ]}
+            """;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger searchCalls = new AtomicInteger();
+    private final AtomicInteger videoCalls = new AtomicInteger();
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private volatile long searchDelayMs;
+    private volatile boolean searchFails;
+
+    private YoutubeResponseCache cache;
+    private ShortsDurationPolicy policy;
+    private WebClient webClient;
+    private CircuitBreaker breaker;
+    private YoutubeApiService youtubeApiService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/search", exchange -> {
+            searchCalls.incrementAndGet();
+            sleep(searchDelayMs);
+            if (searchFails) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            if ("\"etag-1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("ETag", "\"etag-1\"");
+            respond(exchange, SEARCH_BODY);
+        });
+        server.createContext("/videos", exchange -> {
+            videoCalls.incrementAndGet();
+            respond(exchange, VIDEOS_BODY);
+        });
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        YoutubeResponseCacheRepository repository = mock(YoutubeResponseCacheRepository.class);
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        cache = new YoutubeResponseCache(new ObjectMapper(), repository);
+        ReflectionTestUtils.setField(cache, "maxEntries", 10);
+        ReflectionTestUtils.setField(cache, "freshMs", 60_000L);
+        ReflectionTestUtils.setField(cache, "staleMs", 600_000L);
+        cache.clock = now::get;
+        cache.init();
+
+        policy = new ShortsDurationPolicy();
+        ReflectionTestUtils.setField(policy, "minSeconds", 1L);
+        ReflectionTestUtils.setField(policy, "maxSeconds", 60L);
+
+        webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+        breaker = new CircuitBreaker("youtube-test", 2, 60_000L, now::get);
+
+        youtubeApiService = newService(new DailyQuota("youtube-test", 1_000_000, ZoneId.of("UTC"), now::get));
+    }
+
+    private YoutubeApiService newService(DailyQuota quota) {
+        return newService(quota, new TokenBucket(100, 100.0), new TokenBucket(100, 100.0));
+    }
+
+    private YoutubeApiService newService(DailyQuota quota, TokenBucket rateLimiter, TokenBucket ingestRateLimiter) {
+        YoutubeApiService service = new YoutubeApiService(webClient, breaker, rateLimiter, ingestRateLimiter, quota,
+                cache, policy);
+        ReflectionTestUtils.setField(service, "apiKey", "test-key");
+        ReflectionTestUtils.setField(service, "rateMaxWaitMs", 1_000L);
+        ReflectionTestUtils.setField(service, "ingestRateMaxWaitMs", 30_000L);
+        return service;
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static List<String> videoIds(List<YoutubeSearchResponse.Item> items) {
+        return items.stream().map(YoutubeSearchResponse.Item::videoId).toList();
+    }
+
+    @Test
+    void 숏츠만_남기고_같은_검색은_캐시에서_응답한다() {
+        List<YoutubeSearchResponse.Item> first = youtubeApiService.searchShortsByRegion("강릉", 15).block();
+        List<YoutubeSearchResponse.Item> second = youtubeApiService.searchShortsByRegion("  강릉 ", 15).block();
+
+        assertThat(videoIds(first)).containsExactly("short1");
+        assertThat(videoIds(second)).containsExactly("short1");
+        assertThat(searchCalls).hasValue(1);
+        assertThat(videoCalls).hasValue(1);
+    }
+
+    @Test
+    void 오래된_값은_바로_돌려주고_백그라운드에서_갱신한다() throws InterruptedException {
+        youtubeApiService.searchVideosByKeyword("캠핑", 10).block();
+        now.addAndGet(120_000L); // fresh 지남, stale 범위 안
+
+        List<YoutubeSearchResponse.Item> stale = youtubeApiService.searchVideosByKeyword("캠핑", 10).block();
+        assertThat(videoIds(stale)).containsExactly("short1");
+
+        for (int i = 0; i < 100 && searchCalls.get() < 2; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(searchCalls).hasValue(2);
+    }
+
+    @Test
+    void 같은_ETag_이면_304로_끝나고_상세_조회를_하지_않는다() {
+        YoutubeApiService.SearchPage page =
+                youtubeApiService.searchShortsSince("캠핑", null, "\"etag-1\"", 15).block();
+
+        assertThat(page.notModified()).isTrue();
+        assertThat(page.items()).isEmpty();
+        assertThat(videoCalls).hasValue(0);
+    }
+
+    @Test
+    void 동시에_들어온_같은_검색은_업스트림을_한_번만_호출한다() {
+        searchDelayMs = 300;
+
+        List<List<YoutubeSearchResponse.Item>> results = Flux.range(0, 8)
+                .flatMap(i -> youtubeApiService.searchShortsByRegion("부산", 15))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(results).hasSize(8).allSatisfy(items -> assertThat(videoIds(items)).containsExactly("short1"));
+        assertThat(searchCalls).hasValue(1);
+        assertThat(videoCalls).hasValue(1);
+    }
+
+    @Test
+    void 연속_실패하면_서킷이_열려_업스트림을_호출하지_않는다() {
+        searchFails = true;
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> youtubeApiService.searchShortsSince("캠핑", null, null, 15).block())
+                    .isInstanceOf(WebClientResponseException.class);
+        }
+        assertThatThrownBy(() -> youtubeApiService.searchShortsSince("캠핑", null, null, 15).block())
+                .isInstanceOf(CircuitBreaker.OpenException.class);
+        assertThat(searchCalls).hasValue(2);
+
+        // 열림 시간이 지나면 시험 호출 한 번으로 다시 닫힘
+        searchFails = false;
+        now.addAndGet(60_000L);
+        assertThat(youtubeApiService.searchShortsSince("캠핑", null, null, 15).block().items()).hasSize(1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 일일_쿼터가_모자라면_업스트림을_호출하지_않는다() {
+        // 검색 1회 + 상세 조회 1회만큼의 쿼터
+        YoutubeApiService limited = newService(new DailyQuota("youtube-test",
+                YoutubeApiService.SEARCH_UNITS + YoutubeApiService.VIDEOS_UNITS, ZoneId.of("UTC"), now::get));
+
+        assertThat(limited.searchShortsSince("캠핑", null, null, 15).block().items()).hasSize(1);
+        assertThatThrownBy(() -> limited.searchShortsSince("캠핑", null, null, 15).block())
+                .isInstanceOf(DailyQuota.ExhaustedException.class);
+        assertThat(searchCalls).hasValue(1);
+        assertThat(videoCalls).hasValue(1);
+        // 쿼터 소진은 업스트림 장애가 아니므로 서킷은 닫힌 그대로
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // 날짜가 바뀌면 다시 호출
+        now.addAndGet(Duration.ofDays(1).toMillis());
+        assertThat(limited.searchShortsSince("캠핑", null, null, 15).block().items()).hasSize(1);
+        assertThat(searchCalls).hasValue(2);
+    }
+
+    @Test
+    void 사용자_요청은_속도_제한을_오래_기다리지_않고_수집과_따로_센다() {
+        DailyQuota quota = new DailyQuota("youtube-test", 1_000_000, ZoneId.of("UTC"), now::get);
+        // 사용자 요청용: 검색 1회 + 상세 조회 1회만큼만 있고 거의 채워지지 않음
+        YoutubeApiService limited = newService(quota, new TokenBucket(2, 0.001), new TokenBucket(100, 100.0));
+
+        assertThat(limited.searchVideosByKeyword("캠핑", 10).block()).hasSize(1);
+        assertThatThrownBy(() -> limited.searchVideosByKeyword("등산", 10).block(Duration.ofSeconds(5)))
+                .isInstanceOf(TokenBucket.RateLimitedException.class);
+        assertThat(searchCalls).hasValue(1);
+        // 보내지 않은 호출은 쿼터를 차감하지 않음
+        assertThat(quota.remaining()).isEqualTo(1_000_000 - YoutubeApiService.SEARCH_UNITS - YoutubeApiService.VIDEOS_UNITS);
+
+        // 수집은 자기 버킷을 쓰므로 영향 없음
+        assertThat(limited.searchShortsSince("등산", null, null, 15).block().items()).hasSize(1);
+        assertThat(searchCalls).hasValue(2);
+    }
+
+    @Test
+    void 속도_제한으로_기다리는_중에_취소되면_쿼터를_차감하지_않는다() {
+        DailyQuota quota = new DailyQuota("youtube-test", 1_000_000, ZoneId.of("UTC"), now::get);
+        // 수집용: 검색 1회 + 상세 조회 1회 이후에는 1초에 1회
+        YoutubeApiService limited = newService(quota, new TokenBucket(100, 100.0), new TokenBucket(2, 1.0));
+        limited.searchShortsSince("캠핑", null, null, 15).block();
+        long remaining = quota.remaining();
+
+        assertThatThrownBy(() -> limited.searchShortsSince("등산", null, null, 15).block(Duration.ofMillis(100)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(quota.remaining()).isEqualTo(remaining);
+        assertThat(searchCalls).hasValue(1);
+    }
+}
@@ -0,0 +1,229 @@
+package com.minute.video.service;
+
+import com.minute.video.dto.YoutubeSearchResponse;
+import com.minute.video.entity.YoutubeSyncCheckpoint;
+import com.minute.video.repository.YoutubeSyncCheckpointRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class YoutubeSyncServiceTest {
+
+    @Mock YoutubeApiService youtubeApiService;
+    @Mock YoutubeSyncCheckpointRepository checkpointRepository;
+    @InjectMocks YoutubeSyncService youtubeSyncService;
+
+    private static final Instant LAST_SEEN = Instant.parse("2026-10-01T00:00:00Z");
+
+    private YoutubeSyncCheckpoint recentCheckpoint() {
+        ReflectionTestUtils.setField(youtubeSyncService, "fullResyncMs", 604_800_000L);
+        ReflectionTestUtils.setField(youtubeSyncService, "maxPages", 3);
+        YoutubeSyncCheckpoint checkpoint = YoutubeSyncCheckpoint.builder()
+                .queryKey("category:캠핑").lastFullSyncAt(LocalDateTime.now().minusHours(1))
+                .lastPublishedAt(LAST_SEEN).etag("\"etag-1\"").build();
+        when(checkpointRepository.findById("category:캠핑")).thenReturn(Optional.of(checkpoint));
+        return checkpoint;
+    }
+
+    @Test
+    void 변경이_없으면_304로_끝내고_저장하지_않는다() {
+        YoutubeSyncCheckpoint checkpoint = recentCheckpoint();
+        when(youtubeApiService.searchShortsSince("캠핑", LAST_SEEN, "\"etag-1\"", null, 15))
+                .thenReturn(Mono.just(new YoutubeApiService.SearchPage(true, List.of(), "\"etag-1\"", LAST_SEEN, 0, null)));
+        AtomicInteger sinkCalls = new AtomicInteger();
+
+        IngestResult result = youtubeSyncService.sync("category:캠핑", "캠핑", 15, items -> {
+            sinkCalls.incrementAndGet();
+            return IngestResult.EMPTY;
+        });
+
+        assertThat(result).isEqualTo(IngestResult.EMPTY);
+        assertThat(sinkCalls).hasValue(0);
+        assertThat(checkpoint.getEtag()).isEqualTo("\"etag-1\"");
+        assertThat(checkpoint.getLastRunAt()).isNotNull();
+        verify(checkpointRepository).save(checkpoint);
+    }
+
+    @Test
+    void 새_영상을_저장한_뒤_체크포인트를_앞으로_옮긴다() {
+        YoutubeSyncCheckpoint checkpoint = recentCheckpoint();
+        Instant newest = LAST_SEEN.plusSeconds(3600);
+        List<YoutubeSearchResponse.Item> items =
+                List.of(new YoutubeSearchResponse.Item(new YoutubeSearchResponse.Id("A"), null));
+        when(youtubeApiService.searchShortsSince(eq("캠핑"), eq(LAST_SEEN), any(), isNull(), eq(15)))
+                .thenReturn(Mono.just(new YoutubeApiService.SearchPage(false, items, "\"etag-2\"", newest, 3, null)));
+        IngestResult saved = new IngestResult(1, 1, 0, 0, 0, 1);
+
+        IngestResult result = youtubeSyncService.sync("category:캠핑", "캠핑", 15, received -> {
+            assertThat(received).containsExactlyElementsOf(items);
+            return saved;
+        });
+
+        assertThat(result).isEqualTo(saved);
+        assertThat(checkpoint.getLastPublishedAt()).isEqualTo(newest);
+        // publishedAfter 가 바뀌었으므로 이전 요청의 ETag 는 버림
+        assertThat(checkpoint.getEtag()).isNull();
+        assertThat(checkpoint.getFetchedTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void 저장이_실패하면_체크포인트를_옮기지_않는다() {
+        YoutubeSyncCheckpoint checkpoint = recentCheckpoint();
+        when(youtubeApiService.searchShortsSince(any(), any(), any(), any(), anyInt()))
+                .thenReturn(Mono.just(new YoutubeApiService.SearchPage(false, List.of(new YoutubeSearchResponse.Item(null, null)), "\"etag-2\"",
+                        LAST_SEEN.plusSeconds(60), 1, null)));
+
+        assertThatThrownBy(() -> youtubeSyncService.sync("category:캠핑", "캠핑", 15, items -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(checkpoint.getLastPublishedAt()).isEqualTo(LAST_SEEN);
+        verify(checkpointRepository, never()).save(any());
+    }
+
+    private static YoutubeSearchResponse.Item item(String videoId) {
+        return new YoutubeSearchResponse.Item(new YoutubeSearchResponse.Id(videoId), null);
+    }
+
+    @Test
+    void 다음_페이지를_따라가서_모두_저장한_뒤_체크포인트를_옮긴다() {
+        YoutubeSyncCheckpoint checkpoint = recentCheckpoint();
+        Instant newest = LAST_SEEN.plusSeconds(7200);
+        when(youtubeApiService.searchShortsSince("캠핑", LAST_SEEN, "\"etag-1\"", null, 15))
+                .thenReturn(Mono.just(new YoutubeApiService.SearchPage(false, List.of(item("A")), "\"etag-2\"",
+                        newest, 15, "page-2")));
+        when(youtubeApiService.searchShortsSince("캠핑", LAST_SEEN, null, "page-2", 15))
+                .thenReturn(Mono.just(new YoutubeApiService.SearchPage(false, List.of(item("B")), "\"etag-3\"",
+                        LAST_SEEN.plusSeconds(60), 4, null)));
+        List<String> received = new ArrayList<>();
+
+        youtubeSyncService.sync("category:캠핑", "캠핑", 15, items -> {
+            items.forEach(i -> received.add(i.videoId()));
+            return IngestResult.EMPTY;
+        });
+
+        assertThat(received).containsExactly("A", "B");
+        assertThat(checkpoint.getLastPublishedAt()).isEqualTo(newest);
+        assertThat(checkpoint.getFetchedTotal()).isEqualTo(19);
+    }
+
+    @Test
+    void 페이지_제한에_걸리면_저장은_하되_체크포인트는_옮기지_않는다() {
+        YoutubeSyncCheckpoint checkpoint = recentCheckpoint();
+        when(youtubeApiService.searchShortsSince(eq("캠핑"), eq(LAST_SEEN), any(), any(), eq(15)))
+                .thenReturn(Mono.just(new YoutubeApiService.SearchPage(false, List.of(item("A")), "\"etag-2\"",
+                        LAST_SEEN.plusSeconds(3600), 15, "more")));
+        AtomicInteger sinkCalls = new AtomicInteger();
+
+        youtubeSyncService.sync("category:캠핑", "캠핑", 15, items -> {
+            sinkCalls.incrementAndGet();
+            return IngestResult.EMPTY;
+        });
+
+        verify(youtubeApiService, times(3)).searchShortsSince(eq("캠핑"), eq(LAST_SEEN), any(), any(), eq(15));
+        assertThat(sinkCalls).hasValue(1);
+        assertThat(checkpoint.getLastPublishedAt()).isEqualTo(LAST_SEEN);
+        // 다음 실행에서 304 로 끝나지 않고 남은 페이지부터 이어 읽도록
+        assertThat(checkpoint.getEtag()).isNull();
+        assertThat(checkpoint.getResumePageToken()).isEqualTo("more");
+        assertThat(checkpoint.getPendingPublishedAt()).isEqualTo(LAST_SEEN.plusSeconds(3600));
+        verify(checkpointRepository).save(checkpoint);
+    }
+
+    @Test
+    void 다음_실행은_남은_페이지부터_이어_읽고_끝까지_읽은_뒤에_체크포인트를_옮긴다() {
+        YoutubeSyncCheckpoint checkpoint = recentCheckpoint();
+        Instant passNewest = LAST_SEEN.plusSeconds(3600);
+        checkpoint.setEtag(null);
+        checkpoint.setResumePageToken("page-4");
+        checkpoint.setPendingPublishedAt(passNewest);
+        // 전체 재동기화 시점이 지났어도 이어 읽기가 먼저
+        checkpoint.setLastFullSyncAt(null);
+        when(youtubeApiService.searchShortsSince("캠핑", LAST_SEEN, null, "page-4", 15))
+                .thenReturn(Mono.just(new YoutubeApiService.SearchPage(false, List.of(item("D")), "\"etag-4\"",
+                        LAST_SEEN.plusSeconds(60), 15, "page-5")));
+        when(youtubeApiService.searchShortsSince("캠핑", LAST_SEEN, null, "page-5", 15))
+                .thenReturn(Mono.just(new YoutubeApiService.SearchPage(false, List.of(item("E")), "\"etag-5\"",
+                        LAST_SEEN.plusSeconds(30), 3, null)));
+        List<String> received = new ArrayList<>();
+
+        youtubeSyncService.sync("category:캠핑", "캠핑", 15, items -> {
+            items.forEach(i -> received.add(i.videoId()));
+            return IngestResult.EMPTY;
+        });
+
+        assertThat(received).containsExactly("D", "E");
+        // 이어 읽은 페이지보다 앞선 실행에서 본 가장 최근 영상까지 옮김
+        assertThat(checkpoint.getLastPublishedAt()).isEqualTo(passNewest);
+        assertThat(checkpoint.getResumePageToken()).isNull();
+        assertThat(checkpoint.getPendingPublishedAt()).isNull();
+        assertThat(checkpoint.getEtag()).isNull();
+        assertThat(checkpoint.getLastFullSyncAt()).isNull();
+    }
+
+    @Test
+    void 이어_읽을_페이지_토큰이_거부되면_버리고_구간을_처음부터_다시_읽는다() {
+        YoutubeSyncCheckpoint checkpoint = recentCheckpoint();
+        checkpoint.setResumePageToken("expired");
+        when(youtubeApiService.searchShortsSince("캠핑", LAST_SEEN, null, "expired", 15))
+                .thenReturn(Mono.error(WebClientResponseException.create(400, "Bad Request", null, null, null)));
+
+        assertThatThrownBy(() -> youtubeSyncService.sync("category:캠핑", "캠핑", 15, items -> IngestResult.EMPTY))
+                .isInstanceOf(WebClientResponseException.BadRequest.class);
+
+        assertThat(checkpoint.getResumePageToken()).isNull();
+        assertThat(checkpoint.getLastPublishedAt()).isEqualTo(LAST_SEEN);
+        verify(checkpointRepository).save(checkpoint);
+    }
+
+    @Test
+    void 전체_재동기화는_체크포인트를_뒤로_옮기지_않는다() {
+        YoutubeSyncCheckpoint checkpoint = recentCheckpoint();
+        checkpoint.setLastFullSyncAt(null);
+        // 관련도순 결과라 가장 최근 영상도 기존 체크포인트보다 오래됨
+        when(youtubeApiService.searchShortsSince("캠핑", null, null, null, 15))
+                .thenReturn(Mono.just(new YoutubeApiService.SearchPage(false, List.of(item("A")), "\"etag-2\"",
+                        LAST_SEEN.minusSeconds(86_400), 15, "more")));
+
+        youtubeSyncService.sync("category:캠핑", "캠핑", 15, items -> IngestResult.EMPTY);
+
+        verify(youtubeApiService, times(1)).searchShortsSince(any(), any(), any(), any(), anyInt());
+        assertThat(checkpoint.getLastPublishedAt()).isEqualTo(LAST_SEEN);
+        assertThat(checkpoint.getLastFullSyncAt()).isNotNull();
+        assertThat(checkpoint.getEtag()).isEqualTo("\"etag-1\"");
+    }
+
+    @Test
+    void 전체_재동기화에서_더_최근_영상을_봐도_체크포인트는_옮기지_않는다() {
+        YoutubeSyncCheckpoint checkpoint = recentCheckpoint();
+        checkpoint.setLastFullSyncAt(null);
+        // 관련도순 한 페이지라 그 사이 구간을 다 본 것이 아님
+        when(youtubeApiService.searchShortsSince("캠핑", null, null, null, 15))
+                .thenReturn(Mono.just(new YoutubeApiService.SearchPage(false, List.of(item("A")), "\"etag-2\"",
+                        LAST_SEEN.plusSeconds(86_400), 15, "more")));
+
+        youtubeSyncService.sync("category:캠핑", "캠핑", 15, items -> IngestResult.EMPTY);
+
+        assertThat(checkpoint.getLastPublishedAt()).isEqualTo(LAST_SEEN);
+        assertThat(checkpoint.getResumePageToken()).isNull();
+        assertThat(checkpoint.getLastFullSyncAt()).isNotNull();
+    }
+}